@@ -0,0 +1,17 @@
+package com.collegecrew.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Principal populated from a validated JWT; carries the claims every endpoint needs
+ * so no user lookup is required per request.
+ */
+@Data
+@AllArgsConstructor
+public class AuthenticatedUser {
+    private Long userId;
+    private String email;
+    private String alias;
+    private Long collegeId;
+}
@@ -0,0 +1,13 @@
+package com.collegecrew.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Cacheable}. Caches are Caffeine caches configured through
+ * {@code spring.cache.caffeine.spec}; they are local to each node and short-lived.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
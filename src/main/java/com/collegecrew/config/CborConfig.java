@@ -0,0 +1,27 @@
+package com.collegecrew.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * CBOR ({@code application/cbor}) request and response bodies alongside JSON, chosen
+ * by the client's {@code Content-Type} and {@code Accept} headers. JSON stays the
+ * default for clients that accept anything.
+ *
+ * Both formats are written by Jackson from the same DTOs and with the same settings
+ * ({@code spring.jackson.*}), so field names, dates and decimals match; CBOR only
+ * changes the encoding. Without this bean Spring MVC would register a CBOR converter
+ * with its own mapper defaults, which write dates as arrays.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // The builder bean is a prototype, so this copy does not affect the JSON mapper
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
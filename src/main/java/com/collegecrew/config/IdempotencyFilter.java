@@ -0,0 +1,211 @@
+package com.collegecrew.config;
+
+import com.collegecrew.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Makes mutating requests that carry an {@code Idempotency-Key} header safe to retry.
+ * Runs after authorization, so keys are scoped to the authenticated user and rejected
+ * requests never claim one. The first request with a key runs normally and its
+ * response is stored; a retry with the same key and the same method, path and body is
+ * answered with the stored response ({@code Idempotent-Replayed: true}) without
+ * running the handler. Reusing a key for a different request gives 422, and a retry
+ * that arrives while the first request is still running gives 409.
+ *
+ * 5xx responses are not stored, so a request that failed on the server can be retried
+ * with the same key. Unauthenticated requests pass straight through: the only ones that
+ * get this far are under /api/auth, whose responses carry tokens that must not sit in
+ * the store, and without a user there is no scope that keeps strangers' keys apart.
+ * Bodies larger than the configured maximum are rejected with 413 before being buffered.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyService idempotencyService;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService, int maxBodyBytes) {
+        this.idempotencyService = idempotencyService;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        String scope = scope();
+        if (scope == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String requestHash = fingerprint(cachedRequest);
+        IdempotencyService.Claim claim = idempotencyService.begin(scope, key, requestHash);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(claim.response(), response);
+            case MISMATCH -> response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            case IN_PROGRESS -> {
+                response.setStatus(HttpStatus.CONFLICT.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            }
+            case EXECUTE -> execute(scope, key, requestHash, cachedRequest, response, filterChain);
+        }
+    }
+
+    private void execute(String scope, String key, String requestHash, HttpServletRequest request,
+                         HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, capture);
+            if (capture.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                idempotencyService.complete(scope, key, new IdempotencyService.StoredResponse(
+                        requestHash, capture.getStatus(), capture.getContentType(),
+                        capture.getHeader(HttpHeaders.ETAG), capture.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.abandon(scope, key);
+            }
+            capture.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyService.StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * @return the authenticated user's id, or null for an unauthenticated request
+     */
+    private static String scope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getUserId().toString();
+        }
+        return null;
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the body up front so it can be fingerprinted and still be read by the handler
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.collegecrew.config;
+
+import com.collegecrew.service.JwtService;
+import com.collegecrew.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer <jwt>} header.
+ * Requests without a valid token, or with a token revoked by deleting the account,
+ * continue unauthenticated and are rejected by the authorization rules in
+ * {@link SecurityConfig} where required.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationService tokenRevocationService) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            String token = header.substring(BEARER_PREFIX.length());
+            try {
+                // Parse once; validation and claim extraction share the same result
+                Claims claims = jwtService.extractAllClaims(token);
+                Long userId = claims.get("userId", Long.class);
+                Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+                if (tokenRevocationService.isCurrent(userId, tokenVersion != null ? tokenVersion : 0)) {
+                    AuthenticatedUser principal = new AuthenticatedUser(
+                            userId,
+                            claims.getSubject(),
+                            claims.get("alias", String.class),
+                            claims.get("collegeId", Long.class));
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (RuntimeException e) {
+                SecurityContextHolder.clearContext();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,64 @@
+package com.collegecrew.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+import java.time.Duration;
+
+/**
+ * Optional non-blocking read path for the job feed, job detail and bid list, served
+ * by the R2DBC repositories of {@code com.collegecrew.reactive} beside the JPA write
+ * path. Enabled with {@code collegecrew.reactive.enabled=true}.
+ *
+ * The connection pool is deliberately not a bean: a {@code ConnectionFactory} bean
+ * would make Spring Boot back off from the JDBC {@code DataSource} that JPA and every
+ * writer still use. Pool size is {@code collegecrew.reactive.pool-size}; a few
+ * connections serve many in-flight requests because none is held while waiting.
+ */
+@Configuration
+@ConditionalOnProperty(name = "collegecrew.reactive.enabled", havingValue = "true")
+@EnableR2dbcRepositories(basePackages = "com.collegecrew.reactive", entityOperationsRef = "reactiveEntityTemplate")
+public class ReactiveDataConfig {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveDataConfig(@Value("${collegecrew.reactive.url}") String url,
+                              @Value("${collegecrew.reactive.username:}") String username,
+                              @Value("${collegecrew.reactive.password:}") String password,
+                              @Value("${collegecrew.reactive.pool-size:10}") int poolSize,
+                              @Value("${collegecrew.reactive.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("collegecrew-reactive")
+                .initialSize(Math.min(2, poolSize))
+                .maxSize(poolSize)
+                .maxAcquireTime(Duration.ofMillis(acquireTimeoutMs))
+                .build());
+    }
+
+    @Bean
+    public R2dbcEntityTemplate reactiveEntityTemplate() {
+        return new R2dbcEntityTemplate(connectionPool);
+    }
+
+    @PreDestroy
+    void close() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,19 @@
+package com.collegecrew.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background processing ({@code @Scheduled} and {@code @Async}).
+ * Disabled with {@code collegecrew.scheduling.enabled=false}, which the test
+ * suite does so background jobs never race with test data; tests invoke the
+ * jobs directly instead.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+@ConditionalOnProperty(name = "collegecrew.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
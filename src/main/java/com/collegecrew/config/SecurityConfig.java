@@ -1,13 +1,25 @@
 package com.collegecrew.config;
 
+import com.collegecrew.service.IdempotencyService;
+import com.collegecrew.service.JwtService;
+import com.collegecrew.service.TokenRevocationService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -16,11 +28,55 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Value("${idempotency.max-body-bytes:1048576}")
+    private int idempotencyMaxBodyBytes;
+
+    @Value("${admin.username:admin}")
+    private String adminUsername;
+
+    @Value("${admin.password:}")
+    private String adminPassword;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Operator endpoints under /api/admin use HTTP Basic with the single account from
+     * admin.username/admin.password instead of student JWTs. With no password configured
+     * the account does not exist and every admin request is rejected.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain adminFilterChain(HttpSecurity http) throws Exception {
+        InMemoryUserDetailsManager admins = new InMemoryUserDetailsManager();
+        if (!adminPassword.isBlank()) {
+            admins.createUser(User.withUsername(adminUsername)
+                    .password(passwordEncoder().encode(adminPassword))
+                    .roles("ADMIN")
+                    .build());
+        }
+        http
+            .securityMatcher("/api/admin/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("ADMIN"))
+            .userDetailsService(admins)
+            .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -28,10 +84,15 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/health").permitAll()
+                // Streaming responses finish on an async dispatch; the request was authorized on entry
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/health", "/api/health/live", "/api/health/ready").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .anyRequest().authenticated()
-            );
+            )
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService, tokenRevocationService), UsernamePasswordAuthenticationFilter.class)
+            // Last in the chain: only authorized requests claim an idempotency key
+            .addFilterAfter(new IdempotencyFilter(idempotencyService, idempotencyMaxBodyBytes), AuthorizationFilter.class);
 
         return http.build();
     }
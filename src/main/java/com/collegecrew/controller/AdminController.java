@@ -0,0 +1,71 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.dto.DeletionResponse;
+import com.collegecrew.dto.UserImportResponse;
+import com.collegecrew.service.AccountDeletionService;
+import com.collegecrew.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    /**
+     * Provision students in bulk from a text/csv body of email,alias,password rows
+     * @return Imported count and per-row failures
+     */
+    @PostMapping(value = "/users/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) {
+        try (Reader csv = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok(userImportService.importUsers(csv));
+        } catch (IOException | RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Delete a user account; anonymized instead when it has financial history
+     * @param id User ID
+     * @return What was deleted
+     */
+    @DeleteMapping("/users/{id}")
+    public ResponseEntity<DeletionResponse> deleteUser(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(accountDeletionService.deleteUser(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Delete a college with all its users, jobs and bids; its transactions are archived
+     * @param id College ID
+     * @return What was deleted
+     */
+    @DeleteMapping("/colleges/{id}")
+    public ResponseEntity<DeletionResponse> deleteCollege(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(accountDeletionService.deleteCollege(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.PlaceBidRequest;
+import com.collegecrew.service.BidService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs/{jobId}/bids")
+public class BidController {
+
+    @Autowired
+    private BidService bidService;
+
+    /**
+     * Place a bid on a job
+     * @param jobId Job to bid on
+     * @param request Bid details (amount, proposal)
+     * @return Placed bid
+     */
+    @PostMapping
+    public ResponseEntity<BidResponse> placeBid(@AuthenticationPrincipal AuthenticatedUser user,
+                                                @PathVariable Long jobId,
+                                                @RequestBody PlaceBidRequest request) {
+        try {
+            return ResponseEntity.ok(bidService.placeBid(user, jobId, request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * List bids on a job
+     * @param jobId Job ID
+     * @return Bids, newest first
+     */
+    @GetMapping
+    public ResponseEntity<List<BidResponse>> getBids(@AuthenticationPrincipal AuthenticatedUser user,
+                                                     @PathVariable Long jobId) {
+        return ResponseEntity.ok(bidService.getBids(jobId, user.getCollegeId()));
+    }
+}
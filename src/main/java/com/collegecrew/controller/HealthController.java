@@ -1,5 +1,10 @@
 package com.collegecrew.controller;
 
+import com.collegecrew.service.ReadinessProbe;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,8 +13,35 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api")
 public class HealthController {
 
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
     @GetMapping("/health")
     public String health() {
         return "CollegeCrew Backend is running!";
     }
-}
\ No newline at end of file
+
+    /**
+     * Liveness: the process is up and serving requests. Never checks dependencies, so
+     * an outage of the database does not get healthy nodes restarted.
+     * @return Always 200
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<String> live() {
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body("UP");
+    }
+
+    /**
+     * Readiness: whether this node should receive traffic, from the latest background probe.
+     * The endpoint is public, so the probe details (database errors, pool sizes) are only
+     * logged by {@link ReadinessProbe} and exported as metrics, never returned.
+     * @return 200 "UP" when ready, 503 "DOWN" otherwise
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<String> ready() {
+        boolean ready = readinessProbe.isReady();
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(ready ? "UP" : "DOWN");
+    }
+}
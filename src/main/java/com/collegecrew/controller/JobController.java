@@ -0,0 +1,184 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.CreateJobRequest;
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.dto.JobViewsResponse;
+import com.collegecrew.dto.TrendingJobResponse;
+import com.collegecrew.service.JobService;
+import com.collegecrew.service.JobViewCounter;
+import com.collegecrew.service.TrendingJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    // Clients may keep a copy but must revalidate it with If-None-Match on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobViewCounter jobViewCounter;
+
+    @Autowired
+    private TrendingJobService trendingJobService;
+
+    /**
+     * Post a new job in the caller's college
+     * @param user Authenticated poster
+     * @param request Job details (title, description, budget)
+     * @return Created job
+     */
+    @PostMapping
+    public ResponseEntity<JobResponse> createJob(@AuthenticationPrincipal AuthenticatedUser user,
+                                                 @RequestBody CreateJobRequest request) {
+        try {
+            JobResponse job = jobService.createJob(user, request);
+            return ResponseEntity.ok().eTag(jobETag(job.getId(), job.getVersion())).body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Close bidding and award the job to its lowest bid (earliest bid wins ties)
+     * @param id Job ID
+     * @return Updated job, assigned to the winning bidder
+     */
+    @PostMapping("/{id}/close")
+    public ResponseEntity<JobResponse> closeBidding(@AuthenticationPrincipal AuthenticatedUser user,
+                                                    @PathVariable Long id) {
+        try {
+            JobResponse job = jobService.closeBidding(user, id);
+            return ResponseEntity.ok().eTag(jobETag(job.getId(), job.getVersion())).body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Mark an assigned job as completed, releasing its escrow to the assignee
+     * @param id Job ID
+     * @return Updated job
+     */
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<JobResponse> completeJob(@AuthenticationPrincipal AuthenticatedUser user,
+                                                   @PathVariable Long id) {
+        try {
+            JobResponse job = jobService.completeJob(user, id);
+            return ResponseEntity.ok().eTag(jobETag(job.getId(), job.getVersion())).body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get a job of the caller's college. Answers If-None-Match with 304 using a
+     * version-only lookup, before the job itself is loaded. Both count as a view.
+     * @param id Job ID
+     * @return Job, 304 if unchanged, or 404 if not visible to the caller
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponse> getJob(@AuthenticationPrincipal AuthenticatedUser user,
+                                              @PathVariable Long id, WebRequest request) {
+        Optional<Long> version = jobService.getJobVersion(id, user.getCollegeId());
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        jobViewCounter.record(id, user.getCollegeId());
+        if (request.checkNotModified(jobETag(id, version.get()))) {
+            return null;
+        }
+        return jobService.getJob(id, user.getCollegeId())
+                .map(job -> ResponseEntity.ok()
+                        .eTag(jobETag(job.getId(), job.getVersion()))
+                        .cacheControl(REVALIDATE)
+                        .body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the view count of a job of the caller's college. Views change without a job
+     * write, so they are not part of the job body or its ETag and are never cached.
+     * Reading the count does not count as a view.
+     * @param id Job ID
+     * @return Flushed view count, or 404 if the job is not visible to the caller
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<JobViewsResponse> getJobViews(@AuthenticationPrincipal AuthenticatedUser user,
+                                                        @PathVariable Long id) {
+        return jobService.getJobViews(id, user.getCollegeId())
+                .map(views -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(new JobViewsResponse(id, views)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get the open-job feed of the caller's college. The ETag is derived from the
+     * college feed watermark, so an unchanged feed costs a single primary-key read.
+     * The most-viewed order changes without job writes, so it carries no ETag.
+     * @param page Zero-based page number
+     * @param size Page size
+     * @param sort "newest" (default) or "views"
+     * @return Jobs on the page, 304 if unchanged, or 400 for an unknown sort
+     */
+    @GetMapping
+    public ResponseEntity<List<JobResponse>> getFeed(@AuthenticationPrincipal AuthenticatedUser user,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size,
+                                                     @RequestParam(defaultValue = "newest") String sort,
+                                                     WebRequest request) {
+        if (sort.equals("views")) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(jobService.getMostViewedFeed(user.getCollegeId(), page, size));
+        }
+        if (!sort.equals("newest")) {
+            return ResponseEntity.badRequest().build();
+        }
+        String eTag = feedETag(user.getCollegeId(), jobService.getFeedVersion(user.getCollegeId()));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(jobService.getOpenFeed(user.getCollegeId(), page, size));
+    }
+
+    /**
+     * Get the jobs of the caller's college with the most bids and views lately, served
+     * from memory
+     * @param limit Maximum number of jobs
+     * @return Job IDs with their estimated activity, highest first
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingJobResponse>> getTrending(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                 @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trendingJobService.getTrending(user.getCollegeId(), limit));
+    }
+
+    private static String jobETag(Long jobId, Long version) {
+        return "\"job-" + jobId + "-v" + version + "\"";
+    }
+
+    /**
+     * Weak, because Tomcat only gzips responses without a strong ETag and feed pages
+     * are large enough to be compressed
+     */
+    private static String feedETag(Long collegeId, long feedVersion) {
+        return "W/\"feed-" + collegeId + "-v" + feedVersion + "\"";
+    }
+}
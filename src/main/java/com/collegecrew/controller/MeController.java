@@ -0,0 +1,47 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.DashboardResponse;
+import com.collegecrew.dto.DeletionResponse;
+import com.collegecrew.service.AccountDeletionService;
+import com.collegecrew.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/me")
+public class MeController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    /**
+     * Activity dashboard of the caller
+     * @return Counts and recent posted jobs, assigned jobs, bids, payments and earnings
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(dashboardService.getDashboard(user));
+    }
+
+    /**
+     * Delete the caller's account; anonymized instead when it has financial history
+     * @return What was deleted
+     */
+    @DeleteMapping
+    public ResponseEntity<DeletionResponse> deleteAccount(@AuthenticationPrincipal AuthenticatedUser user) {
+        try {
+            return ResponseEntity.ok(accountDeletionService.deleteUser(user.getUserId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
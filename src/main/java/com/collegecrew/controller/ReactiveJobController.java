@@ -0,0 +1,127 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.reactive.ReactiveReadService;
+import com.collegecrew.service.JobViewCounter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking reads of the job feed, job detail and bid list, mirroring the GET
+ * endpoints of {@link JobController} and {@link BidController} (same bodies and
+ * ETags). The request thread is released as soon as the query is issued and the
+ * response is written when the rows arrive. Enabled with
+ * {@code collegecrew.reactive.enabled=true}; writes stay on {@code /api/jobs}.
+ */
+@RestController
+@RequestMapping("/api/reactive/jobs")
+@ConditionalOnProperty(name = "collegecrew.reactive.enabled", havingValue = "true")
+public class ReactiveJobController {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private ReactiveReadService reactiveReadService;
+
+    @Autowired
+    private JobViewCounter jobViewCounter;
+
+    /**
+     * Get the open-job feed of the caller's college
+     * @param page Zero-based page number
+     * @param size Page size
+     * @param ifNoneMatch ETag of the caller's cached copy, if any
+     * @return Jobs on the page, or 304 if unchanged
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<JobResponse>>> getFeed(@AuthenticationPrincipal AuthenticatedUser user,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                                   required = false) String ifNoneMatch,
+                                                           HttpServletResponse response) {
+        revalidate(response);
+        Long collegeId = user.getCollegeId();
+        return reactiveReadService.getFeedVersion(collegeId).flatMap(version -> {
+            String eTag = "W/\"feed-" + collegeId + "-v" + version + "\"";
+            if (matches(ifNoneMatch, eTag)) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<List<JobResponse>>build());
+            }
+            return reactiveReadService.getOpenFeed(collegeId, page, size).collectList()
+                    .map(jobs -> ResponseEntity.ok().eTag(eTag).body(jobs));
+        });
+    }
+
+    /**
+     * Get a job of the caller's college
+     * @param id Job ID
+     * @param ifNoneMatch ETag of the caller's cached copy, if any
+     * @return Job, 304 if unchanged, or 404 if not visible to the caller
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<JobResponse>> getJob(@AuthenticationPrincipal AuthenticatedUser user,
+                                                    @PathVariable Long id,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                            required = false) String ifNoneMatch,
+                                                    HttpServletResponse response) {
+        revalidate(response);
+        return reactiveReadService.getJob(id, user.getCollegeId())
+                .map(job -> {
+                    jobViewCounter.record(job.getId(), job.getCollegeId());
+                    String eTag = "\"job-" + job.getId() + "-v" + job.getVersion() + "\"";
+                    if (matches(ifNoneMatch, eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<JobResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(job);
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * List bids on a job
+     * @param jobId Job ID
+     * @return Bids, newest first
+     */
+    @GetMapping("/{jobId}/bids")
+    public Flux<BidResponse> getBids(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable Long jobId) {
+        return reactiveReadService.getBids(jobId, user.getCollegeId());
+    }
+
+    /**
+     * Spring Security writes its no-store default once the request thread leaves the
+     * filter chain, i.e. before an async body is ready, unless the header is already set
+     */
+    private static void revalidate(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+    }
+
+    /**
+     * Weak comparison, as for If-None-Match on GET: a W/ prefix on either side is ignored
+     */
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(opaque) || trimmed.equals("W/" + opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
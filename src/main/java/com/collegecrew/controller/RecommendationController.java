@@ -0,0 +1,34 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.RecommendedJobResponse;
+import com.collegecrew.service.RecommendationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    /**
+     * Get precomputed job recommendations for the caller
+     * @param limit Maximum number of jobs
+     * @return Recommended open jobs, best first
+     */
+    @GetMapping
+    public ResponseEntity<List<RecommendedJobResponse>> getRecommendations(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(recommendationService.getRecommendations(user.getUserId(), user.getCollegeId(), limit));
+    }
+}
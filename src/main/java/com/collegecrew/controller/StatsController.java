@@ -0,0 +1,28 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.CollegeStatsResponse;
+import com.collegecrew.service.MarketplaceStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private MarketplaceStatsService statsService;
+
+    /**
+     * Marketplace statistics of the caller's college
+     * @return Open jobs, average budget, bids per job and completed transaction volume
+     */
+    @GetMapping("/college")
+    public ResponseEntity<CollegeStatsResponse> getCollegeStats(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(statsService.getStats(user.getCollegeId()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.service.TransactionExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/transactions")
+public class TransactionController {
+
+    @Autowired
+    private TransactionExportService exportService;
+
+    /**
+     * Download every transaction the caller paid or received. The body is streamed from
+     * a database cursor on an async thread, so the response size is unbounded.
+     * @param user Authenticated user
+     * @param format csv or ndjson
+     * @return Streaming body, or 400 for an unknown format
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal AuthenticatedUser user,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        TransactionExportService.Format exportFormat;
+        try {
+            exportFormat = TransactionExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long userId = user.getUserId();
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("transactions." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
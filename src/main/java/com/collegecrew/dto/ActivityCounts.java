@@ -0,0 +1,16 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCounts {
+    private long postedJobs;
+    private long assignedJobs;
+    private long bids;
+    private long payments;
+    private long earnings;
+}
@@ -1,8 +1,10 @@
 package com.collegecrew.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class AuthResponse {
     private String token;
     private Long userId;
@@ -0,0 +1,18 @@
+package com.collegecrew.dto;
+
+import com.collegecrew.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One past bid of a user, joined with the text of the job it was placed on.
+ */
+@Getter
+@AllArgsConstructor
+public class BidHistoryEntry {
+    private final Long bidderId;
+    private final Long jobId;
+    private final String title;
+    private final String description;
+    private final Money amount;
+}
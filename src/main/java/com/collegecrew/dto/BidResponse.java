@@ -0,0 +1,37 @@
+package com.collegecrew.dto;
+
+import com.collegecrew.entity.Bid;
+import com.collegecrew.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidResponse {
+    private Long id;
+    private Long jobId;
+    private Long bidderId;
+    private String bidderAlias;
+    private BigDecimal amount;
+    private String proposal;
+    private String status;
+    private LocalDateTime createdAt;
+
+    /**
+     * Used by JPQL projections, which read the amount as {@link Money}
+     */
+    public BidResponse(Long id, Long jobId, Long bidderId, String bidderAlias, Money amount, String proposal,
+                       String status, LocalDateTime createdAt) {
+        this(id, jobId, bidderId, bidderAlias, amount.toBigDecimal(), proposal, status, createdAt);
+    }
+
+    public static BidResponse from(Bid bid) {
+        return new BidResponse(bid.getId(), bid.getJob().getId(), bid.getBidder().getId(),
+                bid.getBidder().getAlias(), bid.getAmount(), bid.getProposal(), bid.getStatus(), bid.getCreatedAt());
+    }
+}
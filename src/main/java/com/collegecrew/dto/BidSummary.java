@@ -0,0 +1,28 @@
+package com.collegecrew.dto;
+
+import com.collegecrew.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidSummary {
+    private Long id;
+    private Long jobId;
+    private String jobTitle;
+    private BigDecimal amount;
+    private String status;
+    private LocalDateTime createdAt;
+
+    /**
+     * Used by JPQL projections, which read the amount as {@link Money}
+     */
+    public BidSummary(Long id, Long jobId, String jobTitle, Money amount, String status, LocalDateTime createdAt) {
+        this(id, jobId, jobTitle, amount.toBigDecimal(), status, createdAt);
+    }
+}
@@ -0,0 +1,21 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollegeStatsResponse {
+    private Long collegeId;
+    private long openJobs;
+    private long jobs;
+    private BigDecimal averageBudget;
+    private long bids;
+    private double averageBidsPerJob;
+    private long completedTransactions;
+    private BigDecimal transactionVolume;
+}
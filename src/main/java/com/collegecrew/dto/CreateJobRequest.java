@@ -0,0 +1,15 @@
+package com.collegecrew.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class CreateJobRequest {
+    private String title;
+    private String description;
+    private BigDecimal budget;
+    private LocalDateTime deadline;
+    private LocalDateTime biddingClosesAt;
+}
@@ -0,0 +1,30 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private Long userId;
+    private Slice<JobSummary> postedJobs;
+    private Slice<JobSummary> assignedJobs;
+    private Slice<BidSummary> bids;
+    private Slice<TransactionSummary> payments;
+    private Slice<TransactionSummary> earnings;
+
+    /**
+     * Total count and the most recent entries of one kind of activity
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slice<T> {
+        private long count;
+        private List<T> recent;
+    }
+}
@@ -0,0 +1,16 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletionResponse {
+    private long usersDeleted;
+    private long usersAnonymized;
+    private long jobsDeleted;
+    private long bidsDeleted;
+    private long transactionsArchived;
+}
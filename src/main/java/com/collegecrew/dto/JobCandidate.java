@@ -0,0 +1,19 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Open job as seen by background scoring; carries only the fields scoring reads.
+ */
+@Getter
+@AllArgsConstructor
+public class JobCandidate {
+    private final Long jobId;
+    private final Long posterId;
+    private final String title;
+    private final String description;
+    private final BigDecimal budget;
+}
@@ -0,0 +1,14 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Job id with its college, for set-based background processing.
+ */
+@Getter
+@AllArgsConstructor
+public class JobRef {
+    private final Long jobId;
+    private final Long collegeId;
+}
@@ -0,0 +1,37 @@
+package com.collegecrew.dto;
+
+import com.collegecrew.entity.Job;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobResponse {
+    private Long id;
+    private String title;
+    private String description;
+    private BigDecimal budget;
+    private String status;
+    private Long posterId;
+    private Long assigneeId;
+    private Long collegeId;
+    private LocalDateTime deadline;
+    private LocalDateTime biddingClosesAt;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long duplicateOfId;
+
+    public static JobResponse from(Job job) {
+        return new JobResponse(job.getId(), job.getTitle(), job.getDescription(), job.getBudget(),
+                job.getStatus(), job.getPoster().getId(),
+                job.getAssignee() != null ? job.getAssignee().getId() : null,
+                job.getCollege().getId(), job.getDeadline(), job.getBiddingClosesAt(), job.getVersion(), job.getCreatedAt(), job.getUpdatedAt(),
+                job.getDuplicateOfId());
+    }
+}
@@ -0,0 +1,19 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummary {
+    private Long id;
+    private String title;
+    private BigDecimal budget;
+    private String status;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.collegecrew.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class PlaceBidRequest {
+    private BigDecimal amount;
+    private String proposal;
+}
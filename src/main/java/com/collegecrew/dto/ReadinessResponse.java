@@ -0,0 +1,24 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessResponse {
+    private boolean ready;
+    /**
+     * Why the node is not ready; null while ready
+     */
+    private String reason;
+    private LocalDateTime checkedAt;
+    private boolean databaseUp;
+    private long databaseLatencyMs;
+    private int activeConnections;
+    private int maxConnections;
+    private int pendingThreads;
+}
@@ -0,0 +1,17 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedJobResponse {
+    private Long jobId;
+    private String title;
+    private BigDecimal budget;
+    private double score;
+}
@@ -0,0 +1,30 @@
+package com.collegecrew.dto;
+
+import com.collegecrew.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSummary {
+    private Long id;
+    private Long jobId;
+    private Long counterpartyId;
+    private BigDecimal amount;
+    private String status;
+    private String type;
+    private LocalDateTime createdAt;
+
+    /**
+     * Used by JPQL projections, which read the amount as {@link Money}
+     */
+    public TransactionSummary(Long id, Long jobId, Long counterpartyId, Money amount, String status, String type,
+                              LocalDateTime createdAt) {
+        this(id, jobId, counterpartyId, amount.toBigDecimal(), status, type, createdAt);
+    }
+}
@@ -0,0 +1,26 @@
+package com.collegecrew.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponse {
+    private int rows;
+    private int imported;
+    private int createdColleges;
+    private List<RowFailure> failures;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowFailure {
+        private int line;
+        private String email;
+        private String reason;
+    }
+}
@@ -0,0 +1,52 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only copy of a bid on an archived job
+ */
+@Entity
+@Table(name = "bids_archive", indexes = {
+        @Index(name = "idx_bids_archive_job", columnList = "job_id"),
+        @Index(name = "idx_bids_archive_bidder", columnList = "bidder_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBid {
+
+    @Id
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "college_id", nullable = false)
+    private Long collegeId;
+
+    @Column(name = "bidder_id", nullable = false)
+    private Long bidderId;
+
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "proposal", columnDefinition = "TEXT")
+    private String proposal;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
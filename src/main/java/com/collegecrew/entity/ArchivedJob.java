@@ -0,0 +1,76 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only copy of a finished job moved out of {@code jobs} by the archival
+ * processor. Plain id columns and no foreign keys, so archived history never holds
+ * up writes or deletes on the live tables.
+ */
+@Entity
+@Table(name = "jobs_archive", indexes = {
+        @Index(name = "idx_jobs_archive_poster", columnList = "poster_id, id"),
+        @Index(name = "idx_jobs_archive_assignee", columnList = "assignee_id, id"),
+        @Index(name = "idx_jobs_archive_college", columnList = "college_id, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedJob {
+
+    @Id
+    private Long id;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "description", nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "budget", nullable = false, precision = 10, scale = 2)
+    private BigDecimal budget;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "poster_id", nullable = false)
+    private Long posterId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "college_id", nullable = false)
+    private Long collegeId;
+
+    @Column(name = "deadline")
+    private LocalDateTime deadline;
+
+    @Column(name = "bidding_closes_at")
+    private LocalDateTime biddingClosesAt;
+
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
+    @Column(name = "views", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long views;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,56 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only copy of a settled transaction of an archived job
+ */
+@Entity
+@Table(name = "transactions_archive", indexes = {
+        @Index(name = "idx_transactions_archive_job", columnList = "job_id"),
+        @Index(name = "idx_transactions_archive_payer", columnList = "payer_id, id"),
+        @Index(name = "idx_transactions_archive_payee", columnList = "payee_id, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTransaction {
+
+    @Id
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "payer_id", nullable = false)
+    private Long payerId;
+
+    @Column(name = "payee_id", nullable = false)
+    private Long payeeId;
+
+    @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "transaction_type", nullable = false, length = 50)
+    private String transactionType;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "settled_at")
+    private LocalDateTime settledAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -1,16 +1,20 @@
 package com.collegecrew.entity;
 
+import com.collegecrew.money.Money;
+import com.collegecrew.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        @Index(name = "idx_bids_bidder", columnList = "bidder_id, id"),
+        @Index(name = "idx_bids_job_status", columnList = "job_id, status")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,8 +33,19 @@ public class Bid {
     @JoinColumn(name = "bidder_id", nullable = false)
     private User bidder;
 
+    /**
+     * Copy of the job's college. It lets bids be partitioned by the same key as jobs and lets
+     * college-scoped queries prune partitions. Mapped as nullable so that {@code ddl-auto=update}
+     * can add it to a populated table; {@code db/partitioning/add_bids_college_id.sql} backfills
+     * older bids and makes the column NOT NULL.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "college_id")
+    private College college;
+
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
 
     @Column(name = "proposal", columnDefinition = "TEXT")
     private String proposal;
@@ -42,4 +57,11 @@ public class Bid {
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @PrePersist
+    void inheritCollege() {
+        if (college == null && job != null) {
+            college = job.getCollege();
+        }
+    }
 }
\ No newline at end of file
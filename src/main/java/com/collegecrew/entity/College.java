@@ -23,9 +23,25 @@ public class College {
     @Column(name = "name", nullable = false, unique = true, length = 255)
     private String name;
 
-    @OneToMany(mappedBy = "college", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    /**
+     * Watermark of the college job feed; incremented in the same transaction as any
+     * job write in this college and used as the feed ETag
+     */
+    @Column(name = "feed_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long feedVersion = 0L;
+
+    /**
+     * Set while {@code AccountDeletionService} removes the college; registrations and
+     * job writes for it are rejected until the row is gone
+     */
+    @Column(name = "deleting", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    @Builder.Default
+    private Boolean deleting = false;
+
+    @OneToMany(mappedBy = "college", fetch = FetchType.LAZY)
     private List<User> users;
 
-    @OneToMany(mappedBy = "college", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "college", fetch = FetchType.LAZY)
     private List<Job> jobs;
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of one college's marketplace counters, written by
+ * {@link com.collegecrew.service.MarketplaceStatsService}. Money is stored in cents.
+ */
+@Entity
+@Table(name = "college_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollegeStats {
+
+    @Id
+    @Column(name = "college_id")
+    private Long collegeId;
+
+    @Column(name = "open_jobs", nullable = false)
+    private Long openJobs;
+
+    @Column(name = "jobs", nullable = false)
+    private Long jobs;
+
+    @Column(name = "budget_cents", nullable = false)
+    private Long budgetCents;
+
+    @Column(name = "bids", nullable = false)
+    private Long bids;
+
+    @Column(name = "completed_transactions", nullable = false)
+    private Long completedTransactions;
+
+    @Column(name = "transaction_volume_cents", nullable = false)
+    private Long transactionVolumeCents;
+
+    @Column(name = "checkpointed_at", nullable = false)
+    private LocalDateTime checkpointedAt;
+}
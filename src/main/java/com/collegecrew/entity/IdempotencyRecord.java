@@ -0,0 +1,70 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a mutating request sent with an {@code Idempotency-Key} header. The row is
+ * claimed as IN_PROGRESS before the handler runs and completed with the response, which
+ * is then replayed for retries with the same key instead of running the handler again.
+ * Written through JDBC by {@code IdempotencyService}.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_scope_key",
+                columnNames = {"scope", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires", columnList = "expires_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Caller the key belongs to: the authenticated user's id
+     */
+    @Column(name = "scope", nullable = false, length = 50)
+    private String scope;
+
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    /**
+     * SHA-256 of method, path and body; a key reused for a different request is rejected
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type", length = 255)
+    private String responseContentType;
+
+    @Column(name = "response_etag", length = 255)
+    private String responseETag;
+
+    @Column(name = "response_body", length = 1_048_576)
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -7,10 +7,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_college_status", columnList = "college_id, status, id"),
+        @Index(name = "idx_jobs_poster", columnList = "poster_id, id"),
+        @Index(name = "idx_jobs_assignee", columnList = "assignee_id, id"),
+        @Index(name = "idx_jobs_status_deadline", columnList = "status, deadline"),
+        @Index(name = "idx_jobs_status_updated", columnList = "status, updated_at"),
+        @Index(name = "idx_jobs_status_bidding_closes", columnList = "status, bidding_closes_at"),
+        @Index(name = "idx_jobs_college_status_views", columnList = "college_id, status, views, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -46,9 +55,57 @@ public class Job {
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
 
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    /**
+     * Open jobs past this point are expired by the lifecycle processor
+     */
+    @Column(name = "deadline")
+    private LocalDateTime deadline;
+
+    /**
+     * End of the sealed-bid auction; open jobs past this point are awarded to their
+     * lowest bid by the auction close processor. Null means the poster closes bidding.
+     */
+    @Column(name = "bidding_closes_at")
+    private LocalDateTime biddingClosesAt;
+
+    /**
+     * Open job of the same college this one nearly duplicates when it was posted, as
+     * found by the duplicate detector. Not a foreign key: the original may be archived.
+     */
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+
+    /**
+     * Detail views, added in batches by {@code JobViewCounter}; never written back by
+     * JPA, so saving a loaded job cannot overwrite views flushed in the meantime
+     */
+    @Column(name = "views", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long views = 0L;
+
+    /**
+     * Row version; bumped on every write and used as the job's ETag
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private List<Bid> bids;
 
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private List<Transaction> transactions;
+
+    @PreUpdate
+    void touchUpdatedAt() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
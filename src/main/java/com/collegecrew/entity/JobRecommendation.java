@@ -0,0 +1,41 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed top-K recommendation row. Kept deliberately narrow (plain ids, no
+ * associations) so serving is a single index range read on (user_id, score).
+ */
+@Entity
+@Table(name = "job_recommendations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_recommendations_user_job", columnNames = {"user_id", "job_id"}),
+        indexes = @Index(name = "idx_job_recommendations_user_score", columnList = "user_id, score"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "computed_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime computedAt = LocalDateTime.now();
+}
@@ -0,0 +1,51 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One balance movement. The unique idempotency key ties each movement to the event
+ * that caused it (e.g. {@code settle-42} for settling transaction 42), so replaying a
+ * settlement can never credit a balance twice.
+ */
+@Entity
+@Table(name = "ledger_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_entries_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_ledger_entries_user", columnList = "user_id, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntry {
+
+    public static final String TYPE_ESCROW_RELEASE = "ESCROW_RELEASE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "entry_type", nullable = false, length = 50)
+    private String entryType;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
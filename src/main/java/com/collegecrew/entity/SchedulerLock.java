@@ -0,0 +1,38 @@
+package com.collegecrew.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease on a scheduled job that must run on one node at a time. Written through JDBC
+ * by {@code SchedulerLockService}.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    /**
+     * Node holding the lease
+     */
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+
+    /**
+     * The lease lapses at this time even if its holder never releases it
+     */
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -1,22 +1,32 @@
 package com.collegecrew.entity;
 
+import com.collegecrew.money.Money;
+import com.collegecrew.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_status_type", columnList = "status, transaction_type, id"),
+        @Index(name = "idx_transactions_job", columnList = "job_id"),
+        @Index(name = "idx_transactions_payer", columnList = "payer_id, id"),
+        @Index(name = "idx_transactions_payee", columnList = "payee_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Transaction {
 
+    public static final String TYPE_ESCROW = "ESCROW";
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,7 +44,8 @@ public class Transaction {
     private User payee;
 
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
 
     @Column(name = "status", nullable = false, length = 50)
     private String status;
@@ -45,4 +56,7 @@ public class Transaction {
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "settled_at")
+    private LocalDateTime settledAt;
 }
\ No newline at end of file
@@ -6,10 +6,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_college", columnList = "college_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,18 +36,32 @@ public class User {
     @JoinColumn(name = "college_id", nullable = false)
     private College college;
 
-    @OneToMany(mappedBy = "poster", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    /**
+     * Settled earnings; changed only through ledger entries written by the settlement processor
+     */
+    @Column(name = "balance", nullable = false, precision = 12, scale = 2, columnDefinition = "NUMERIC(12,2) DEFAULT 0")
+    @Builder.Default
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    /**
+     * Carried in every token issued to the user; raising it revokes all of them
+     */
+    @Column(name = "token_version", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
+    @OneToMany(mappedBy = "poster", fetch = FetchType.LAZY)
     private List<Job> postedJobs;
 
-    @OneToMany(mappedBy = "assignee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "assignee", fetch = FetchType.LAZY)
     private List<Job> assignedJobs;
 
-    @OneToMany(mappedBy = "bidder", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "bidder", fetch = FetchType.LAZY)
     private List<Bid> bids;
 
-    @OneToMany(mappedBy = "payer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "payer", fetch = FetchType.LAZY)
     private List<Transaction> payerTransactions;
 
-    @OneToMany(mappedBy = "payee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "payee", fetch = FetchType.LAZY)
     private List<Transaction> payeeTransactions;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.collegecrew.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by {@link com.collegecrew.service.BidService} when a bid is placed.
+ * Listeners should use {@code @TransactionalEventListener} so they only run after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class BidPlacedEvent {
+    private final Long jobId;
+    private final Long collegeId;
+}
@@ -0,0 +1,58 @@
+package com.collegecrew.event;
+
+import com.collegecrew.money.Cents;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Change to one college's marketplace counters, published by the service that made
+ * the change and applied by {@link com.collegecrew.service.MarketplaceStatsService}
+ * after commit. Money is carried in cents.
+ */
+@Getter
+@AllArgsConstructor
+public class CollegeStatsDelta {
+    private final Long collegeId;
+    private final long openJobs;
+    private final long jobs;
+    private final long budgetCents;
+    private final long bids;
+    private final long completedTransactions;
+    private final long transactionVolumeCents;
+
+    public static CollegeStatsDelta jobPosted(Long collegeId, BigDecimal budget) {
+        return new CollegeStatsDelta(collegeId, 1, 1, Cents.of(budget), 0, 0, 0);
+    }
+
+    public static CollegeStatsDelta jobsClosed(Long collegeId, long count) {
+        return new CollegeStatsDelta(collegeId, -count, 0, 0, 0, 0, 0);
+    }
+
+    public static CollegeStatsDelta jobsReopened(Long collegeId, long count) {
+        return new CollegeStatsDelta(collegeId, count, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Jobs and bids erased by account deletion; unlike closing, this removes them from the totals
+     */
+    public static CollegeStatsDelta deleted(Long collegeId, long openJobs, long jobs, long budgetCents, long bids) {
+        return new CollegeStatsDelta(collegeId, -openJobs, -jobs, -budgetCents, -bids, 0, 0);
+    }
+
+    public static CollegeStatsDelta bidPlaced(Long collegeId) {
+        return new CollegeStatsDelta(collegeId, 0, 0, 0, 1, 0, 0);
+    }
+
+    /**
+     * @param sign +1 when a transaction becomes COMPLETED, -1 when it leaves COMPLETED
+     */
+    public static CollegeStatsDelta transactionCompleted(Long collegeId, BigDecimal amount, int sign) {
+        return new CollegeStatsDelta(collegeId, 0, 0, 0, 0, sign, sign * Cents.of(amount));
+    }
+
+    public static CollegeStatsDelta transactionsSettled(Long collegeId, long count, long volumeCents) {
+        return new CollegeStatsDelta(collegeId, 0, 0, 0, 0, count, volumeCents);
+    }
+}
@@ -0,0 +1,22 @@
+package com.collegecrew.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Published by {@link com.collegecrew.service.JobService} when a job is posted.
+ * Listeners that need the job to be visible should use
+ * {@code @TransactionalEventListener} so they only run after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class JobCreatedEvent {
+    private final Long jobId;
+    private final Long collegeId;
+    private final Long posterId;
+    private final String title;
+    private final String description;
+    private final BigDecimal budget;
+}
@@ -0,0 +1,45 @@
+package com.collegecrew.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Primitive helpers for amounts held as {@code long} cents. Bulk money paths (college
+ * statistics, recommendation budget fit, deletion batches) convert once at the edge and
+ * work on {@code long[]} instead of boxing each amount into a {@link Money} or
+ * {@link BigDecimal}. Sums fail with {@link ArithmeticException} on overflow.
+ */
+public final class Cents {
+
+    private Cents() {
+    }
+
+    /**
+     * @param amount Decimal amount; rounded half-up to cents
+     * @return Amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long of cents
+     */
+    public static long of(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * @param cents Amount in cents
+     * @return Decimal amount with scale 2, as stored in NUMERIC columns
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * @param cents Amounts in cents
+     * @return Sum of the amounts
+     */
+    public static long sum(long[] cents) {
+        long sum = 0;
+        for (long amount : cents) {
+            sum = Math.addExact(sum, amount);
+        }
+        return sum;
+    }
+}
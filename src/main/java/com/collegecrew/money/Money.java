@@ -0,0 +1,55 @@
+package com.collegecrew.money;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable amount of money held as a whole number of cents, so arithmetic and
+ * comparisons on bids and transactions are primitive operations instead of
+ * {@link BigDecimal} allocations. Columns stay NUMERIC(…, 2); {@link MoneyConverter}
+ * maps between them. Arithmetic fails with {@link ArithmeticException} on overflow
+ * rather than wrapping.
+ *
+ * @param cents Amount in cents; may be negative
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * @param cents Amount in cents
+     * @return Money of that many cents
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * @param amount Decimal amount; rounded half-up to cents
+     * @return Money of the amount
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(Cents.of(amount));
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return Cents.toBigDecimal(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
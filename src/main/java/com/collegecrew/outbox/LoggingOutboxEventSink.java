@@ -0,0 +1,26 @@
+package com.collegecrew.outbox;
+
+import com.collegecrew.entity.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Audit trail of delivered events at DEBUG level.
+ */
+@Component
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxEventSink.class);
+
+    @Override
+    public boolean supports(String eventType) {
+        return log.isDebugEnabled();
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        log.debug("{} {}#{}: {}", event.getEventType(), event.getAggregateType(), event.getAggregateId(),
+                event.getPayload());
+    }
+}
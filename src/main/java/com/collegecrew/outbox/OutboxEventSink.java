@@ -0,0 +1,27 @@
+package com.collegecrew.outbox;
+
+import com.collegecrew.entity.OutboxEvent;
+
+/**
+ * In-process consumer of outbox events. Every Spring bean implementing this
+ * interface receives the events it supports from {@link OutboxRelay}.
+ *
+ * Delivery is at-least-once and ordered per aggregate: an event may be handed
+ * over again after a crash or a failure in another sink, so handlers must be
+ * idempotent (e.g. keyed on {@link OutboxEvent#getId()}).
+ */
+public interface OutboxEventSink {
+
+    /**
+     * @param eventType Event type, e.g. "JobCreated"
+     * @return true if this sink wants events of the type
+     */
+    boolean supports(String eventType);
+
+    /**
+     * Handle one event
+     * @param event Event with its JSON payload
+     * @throws Exception to have the event retried on a later poll
+     */
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,201 @@
+package com.collegecrew.outbox;
+
+import com.collegecrew.entity.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains {@code outbox_events} in batches and hands each event to every
+ * {@link OutboxEventSink} that supports it.
+ *
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so several nodes can
+ * poll concurrently without blocking each other. Only the oldest pending event of
+ * each aggregate is eligible, which keeps delivery ordered per aggregate even
+ * across nodes; a batch therefore holds at most one event per aggregate. Events are
+ * marked SENT in the claiming transaction after all sinks succeeded, giving
+ * at-least-once delivery. A failed event is retried with exponential backoff, from
+ * {@code outbox.retry-base-ms} doubling up to {@code outbox.retry-max-ms}, and parked
+ * as DEAD after {@code outbox.max-attempts}. A DEAD event keeps blocking the later
+ * events of its aggregate until an operator requeues or removes it, so they are never
+ * delivered out of order. SENT events are deleted once
+ * they are older than {@code outbox.retention-ms}; DEAD events are kept for an operator.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_SQL =
+            "SELECT o.id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.attempts, o.created_at " +
+            "FROM outbox_events o " +
+            "WHERE o.status = 'PENDING' AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events p WHERE p.aggregate_type = o.aggregate_type " +
+            "AND p.aggregate_id = o.aggregate_id AND p.status IN ('PENDING', 'DEAD') AND p.id < o.id) " +
+            "ORDER BY o.id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String MARK_SENT_SQL =
+            "UPDATE outbox_events SET status = 'SENT', attempts = attempts + 1, processed_at = ? WHERE id = ?";
+    private static final String MARK_FAILED_SQL =
+            "UPDATE outbox_events SET status = ?, attempts = attempts + 1, last_error = ?, next_attempt_at = ? " +
+            "WHERE id = ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM outbox_events WHERE status = '" + OutboxEvent.STATUS_SENT + "' AND processed_at < ?";
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+            .id(rs.getLong("id"))
+            .aggregateType(rs.getString("aggregate_type"))
+            .aggregateId(rs.getLong("aggregate_id"))
+            .eventType(rs.getString("event_type"))
+            .payload(rs.getString("payload"))
+            .attempts(rs.getInt("attempts"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private List<OutboxEventSink> sinks;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retry-base-ms:1000}")
+    private long retryBaseMillis;
+
+    @Value("${outbox.retry-max-ms:300000}")
+    private long retryMaxMillis;
+
+    @Value("${outbox.retention-ms:604800000}")
+    private long retentionMillis;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter delivered;
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        delivered = meterRegistry.counter("collegecrew.outbox.delivered");
+        failed = meterRegistry.counter("collegecrew.outbox.failed");
+    }
+
+    /**
+     * Deliver pending events until nothing more can be delivered. Each batch makes the
+     * next event of every drained aggregate eligible, so the loop continues while
+     * batches make progress; a batch with failures ends the run so failing events are
+     * retried on the next poll rather than immediately.
+     * @return Number of events delivered
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public int drain() {
+        int total = 0;
+        while (true) {
+            BatchResult result = transactionTemplate.execute(status -> relayBatch());
+            total += result.delivered;
+            if (result.claimed == 0 || result.delivered < result.claimed) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Delete delivered events older than the retention
+     * @return Number of events deleted
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}",
+               initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public int purgeSent() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+        int purged = jdbcTemplate.update(PURGE_SQL, cutoff);
+        if (purged > 0) {
+            log.info("Purged {} sent outbox events", purged);
+        }
+        return purged;
+    }
+
+    private BatchResult relayBatch() {
+        LocalDateTime clock = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(clock);
+        List<OutboxEvent> events = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, now, batchSize);
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> failures = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            try {
+                for (OutboxEventSink sink : sinks) {
+                    if (sink.supports(event.getEventType())) {
+                        sink.handle(event);
+                    }
+                }
+                sent.add(new Object[]{now, event.getId()});
+            } catch (Exception e) {
+                boolean dead = event.getAttempts() + 1 >= maxAttempts;
+                String status = dead ? OutboxEvent.STATUS_DEAD : OutboxEvent.STATUS_PENDING;
+                Timestamp nextAttemptAt = dead ? null
+                        : Timestamp.valueOf(clock.plus(Duration.ofMillis(backoffMillis(event.getAttempts() + 1))));
+                failures.add(new Object[]{status, truncate(String.valueOf(e.getMessage())), nextAttemptAt,
+                        event.getId()});
+                if (dead) {
+                    log.error("Outbox event {} ({}) parked after {} attempts", event.getId(), event.getEventType(),
+                            maxAttempts, e);
+                } else {
+                    log.warn("Outbox event {} ({}) failed, will retry: {}", event.getId(), event.getEventType(),
+                            e.getMessage());
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, sent);
+        jdbcTemplate.batchUpdate(MARK_FAILED_SQL, failures);
+        delivered.increment(sent.size());
+        failed.increment(failures.size());
+        return new BatchResult(events.size(), sent.size());
+    }
+
+    /**
+     * @param attempts Failed attempts so far, at least 1
+     * @return Delay before the next attempt: the base delay doubled per earlier failure, capped
+     */
+    long backoffMillis(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(retryMaxMillis, retryBaseMillis << doublings);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private static class BatchResult {
+        private final int claimed;
+        private final int delivered;
+
+        private BatchResult(int claimed, int delivered) {
+            this.claimed = claimed;
+            this.delivered = delivered;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.collegecrew.outbox;
+
+import com.collegecrew.entity.OutboxEvent;
+import com.collegecrew.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OutboxService {
+
+    public static final String AGGREGATE_JOB = "Job";
+    public static final String AGGREGATE_TRANSACTION = "Transaction";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record an event in the caller's transaction, so it is published if and only if
+     * the change it describes commits
+     * @param aggregateType Aggregate the event belongs to; events are delivered in order per aggregate
+     * @param aggregateId Aggregate ID
+     * @param eventType Event type
+     * @param payload Event body, serialised as JSON
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(eventType, payload))
+                .build());
+    }
+
+    /**
+     * Record one event per aggregate with a single JDBC batch, for bulk processors
+     * @param aggregateType Aggregate type shared by all events
+     * @param eventType Event type shared by all events
+     * @param payloads Event body per aggregate ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(String aggregateType, String eventType, Map<Long, ?> payloads) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        payloads.forEach((aggregateId, payload) ->
+                rows.add(new Object[]{aggregateType, aggregateId, eventType, toJson(eventType, payload), now}));
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, " +
+                "status, attempts, created_at) VALUES (?, ?, ?, ?, 'PENDING', 0, ?)", rows);
+    }
+
+    private String toJson(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserialisable outbox payload for " + eventType, e);
+        }
+    }
+}
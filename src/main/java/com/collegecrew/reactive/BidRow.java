@@ -0,0 +1,32 @@
+package com.collegecrew.reactive;
+
+import com.collegecrew.dto.BidResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bid as read by the reactive read path, with its bidder's alias joined in.
+ */
+@Getter
+@AllArgsConstructor
+@Table("bids")
+public class BidRow {
+    @Id
+    private final Long id;
+    private final Long jobId;
+    private final Long bidderId;
+    private final String bidderAlias;
+    private final BigDecimal amount;
+    private final String proposal;
+    private final String status;
+    private final LocalDateTime createdAt;
+
+    public BidResponse toResponse() {
+        return new BidResponse(id, jobId, bidderId, bidderAlias, amount, proposal, status, createdAt);
+    }
+}
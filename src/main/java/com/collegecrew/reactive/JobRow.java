@@ -0,0 +1,39 @@
+package com.collegecrew.reactive;
+
+import com.collegecrew.dto.JobResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Job as read by the reactive read path; columns map by name (snake_case).
+ */
+@Getter
+@AllArgsConstructor
+@Table("jobs")
+public class JobRow {
+    @Id
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final BigDecimal budget;
+    private final String status;
+    private final Long posterId;
+    private final Long assigneeId;
+    private final Long collegeId;
+    private final LocalDateTime deadline;
+    private final LocalDateTime biddingClosesAt;
+    private final Long version;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long duplicateOfId;
+
+    public JobResponse toResponse() {
+        return new JobResponse(id, title, description, budget, status, posterId, assigneeId, collegeId,
+                deadline, biddingClosesAt, version, createdAt, updatedAt, duplicateOfId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.collegecrew.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking reads of bids; the same queries as {@code BidRepository} and
+ * {@code ArchivedBidRepository}, in SQL.
+ */
+public interface ReactiveBidRepository extends R2dbcRepository<BidRow, Long> {
+
+    @Query("SELECT b.id, b.job_id, b.bidder_id, u.alias AS bidder_alias, b.amount, b.proposal, b.status, " +
+           "b.created_at FROM bids b JOIN jobs j ON j.id = b.job_id JOIN users u ON u.id = b.bidder_id " +
+           "WHERE b.college_id = :collegeId AND b.job_id = :jobId AND j.college_id = :collegeId ORDER BY b.id DESC")
+    Flux<BidRow> findByJob(@Param("jobId") Long jobId, @Param("collegeId") Long collegeId);
+
+    @Query("SELECT b.id, b.job_id, b.bidder_id, u.alias AS bidder_alias, b.amount, b.proposal, b.status, " +
+           "b.created_at FROM bids_archive b LEFT JOIN users u ON u.id = b.bidder_id " +
+           "WHERE b.job_id = :jobId AND b.college_id = :collegeId ORDER BY b.id DESC")
+    Flux<BidRow> findArchivedByJob(@Param("jobId") Long jobId, @Param("collegeId") Long collegeId);
+}
@@ -0,0 +1,36 @@
+package com.collegecrew.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads of jobs; the same queries as {@code JobRepository} and
+ * {@code ArchivedJobRepository}, in SQL.
+ */
+public interface ReactiveJobRepository extends R2dbcRepository<JobRow, Long> {
+
+    String JOB_COLUMNS = "id, title, description, budget, status, poster_id, assignee_id, college_id, deadline, " +
+            "bidding_closes_at, version, created_at, updated_at, duplicate_of_id";
+
+    /**
+     * Open jobs of a college, newest first
+     */
+    @Query("SELECT " + JOB_COLUMNS + " FROM jobs WHERE college_id = :collegeId AND status = 'OPEN' " +
+           "ORDER BY id DESC LIMIT :limit OFFSET :offset")
+    Flux<JobRow> findOpenFeed(@Param("collegeId") Long collegeId, @Param("limit") int limit,
+                              @Param("offset") long offset);
+
+    /**
+     * A job of a college from the live table or, once archived, from the archive;
+     * ids are never reused, so at most one row matches
+     */
+    @Query("SELECT " + JOB_COLUMNS + " FROM jobs WHERE id = :id AND college_id = :collegeId " +
+           "UNION ALL SELECT " + JOB_COLUMNS + " FROM jobs_archive WHERE id = :id AND college_id = :collegeId")
+    Mono<JobRow> findByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    @Query("SELECT feed_version FROM colleges WHERE id = :collegeId")
+    Mono<Long> findFeedVersionById(@Param("collegeId") Long collegeId);
+}
@@ -0,0 +1,71 @@
+package com.collegecrew.reactive;
+
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.JobResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterparts of the read methods of {@code JobService} and {@code BidService}.
+ * Nothing here blocks: a request holds no thread and no connection while its query
+ * is in flight, so many concurrent feed reads share a small connection pool.
+ */
+@Service
+@ConditionalOnProperty(name = "collegecrew.reactive.enabled", havingValue = "true")
+public class ReactiveReadService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReactiveJobRepository reactiveJobRepository;
+
+    @Autowired
+    private ReactiveBidRepository reactiveBidRepository;
+
+    /**
+     * Get the feed watermark of a college
+     * @param collegeId College ID
+     * @return Watermark that changes whenever any job in the college changes (0 if unknown)
+     */
+    public Mono<Long> getFeedVersion(Long collegeId) {
+        return reactiveJobRepository.findFeedVersionById(collegeId).defaultIfEmpty(0L);
+    }
+
+    /**
+     * Get a page of open jobs in a college, newest first
+     * @param collegeId College ID
+     * @param page Zero-based page number
+     * @param size Page size, capped at 100
+     * @return Jobs on the page
+     */
+    public Flux<JobResponse> getOpenFeed(Long collegeId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return reactiveJobRepository.findOpenFeed(collegeId, pageSize, (long) Math.max(page, 0) * pageSize)
+                .map(JobRow::toResponse);
+    }
+
+    /**
+     * Get a job of a college, live or archived
+     * @param jobId Job ID
+     * @param collegeId College of the caller; jobs of other colleges are invisible
+     * @return Job, or empty if it does not exist in this college
+     */
+    public Mono<JobResponse> getJob(Long jobId, Long collegeId) {
+        return reactiveJobRepository.findByIdAndCollegeId(jobId, collegeId).map(JobRow::toResponse);
+    }
+
+    /**
+     * List bids on a job, falling back to the archive once the job's bids are archived
+     * @param jobId Job ID
+     * @param collegeId College of the caller
+     * @return Bids, newest first
+     */
+    public Flux<BidResponse> getBids(Long jobId, Long collegeId) {
+        return reactiveBidRepository.findByJob(jobId, collegeId)
+                .switchIfEmpty(Flux.defer(() -> reactiveBidRepository.findArchivedByJob(jobId, collegeId)))
+                .map(BidRow::toResponse);
+    }
+}
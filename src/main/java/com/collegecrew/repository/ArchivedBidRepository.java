@@ -0,0 +1,22 @@
+package com.collegecrew.repository;
+
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.entity.ArchivedBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedBidRepository extends JpaRepository<ArchivedBid, Long> {
+
+    /**
+     * Bids on an archived job of the given college, newest first
+     */
+    @Query("select new com.collegecrew.dto.BidResponse(b.id, b.jobId, b.bidderId, u.alias, b.amount, b.proposal, " +
+           "b.status, b.createdAt) from ArchivedBid b left join User u on u.id = b.bidderId " +
+           "where b.jobId = :jobId and b.collegeId = :collegeId order by b.id desc")
+    List<BidResponse> findResponsesByJob(@Param("jobId") Long jobId, @Param("collegeId") Long collegeId);
+}
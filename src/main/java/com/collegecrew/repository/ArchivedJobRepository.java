@@ -0,0 +1,25 @@
+package com.collegecrew.repository;
+
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.entity.ArchivedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+
+    @Query("select j.version from ArchivedJob j where j.id = :id and j.collegeId = :collegeId")
+    Optional<Long> findVersionByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    @Query("select j.views from ArchivedJob j where j.id = :id and j.collegeId = :collegeId")
+    Optional<Long> findViewsByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    @Query("select new com.collegecrew.dto.JobResponse(j.id, j.title, j.description, j.budget, j.status, " +
+           "j.posterId, j.assigneeId, j.collegeId, j.deadline, j.biddingClosesAt, j.version, j.createdAt, j.updatedAt, " +
+           "j.duplicateOfId) from ArchivedJob j where j.id = :id and j.collegeId = :collegeId")
+    Optional<JobResponse> findResponseByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+}
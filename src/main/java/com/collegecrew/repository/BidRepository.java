@@ -1,9 +1,53 @@
 package com.collegecrew.repository;
 
+import com.collegecrew.dto.BidHistoryEntry;
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.BidSummary;
 import com.collegecrew.entity.Bid;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BidRepository extends JpaRepository<Bid, Long> {
+
+    /**
+     * Bidding history of a batch of users of one college with the text of each job bid on
+     */
+    @Query("select new com.collegecrew.dto.BidHistoryEntry(b.bidder.id, j.id, j.title, j.description, b.amount) " +
+           "from Bid b join b.job j where b.college.id = :collegeId and j.college.id = :collegeId " +
+           "and b.bidder.id in :bidderIds")
+    List<BidHistoryEntry> findHistoryByBidderIds(@Param("collegeId") Long collegeId,
+                                                 @Param("bidderIds") Collection<Long> bidderIds);
+
+    /**
+     * Reject pending bids of the given jobs; the college predicate lets a partitioned table
+     * touch only the partitions holding those jobs
+     */
+    @Modifying
+    @Query("update Bid b set b.status = 'REJECTED' where b.college.id in :collegeIds and b.job.id in :jobIds " +
+           "and b.status = 'PENDING'")
+    int rejectPendingBids(@Param("collegeIds") Collection<Long> collegeIds, @Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * Most recent bids of a user with the title of each job
+     */
+    @Query("select new com.collegecrew.dto.BidSummary(b.id, j.id, j.title, b.amount, b.status, b.createdAt) " +
+           "from Bid b join b.job j where b.college.id = :collegeId and b.bidder.id = :userId order by b.id desc")
+    List<BidSummary> findRecentByBidder(@Param("userId") Long userId, @Param("collegeId") Long collegeId,
+                                        Pageable pageable);
+
+    /**
+     * Bids on a job of the given college, newest first
+     */
+    @Query("select new com.collegecrew.dto.BidResponse(b.id, j.id, u.id, u.alias, b.amount, b.proposal, b.status, " +
+           "b.createdAt) from Bid b join b.job j join b.bidder u " +
+           "where b.college.id = :collegeId and j.id = :jobId and j.college.id = :collegeId order by b.id desc")
+    List<BidResponse> findResponsesByJob(@Param("jobId") Long jobId, @Param("collegeId") Long collegeId);
 }
\ No newline at end of file
@@ -1,13 +1,52 @@
 package com.collegecrew.repository;
 
 import com.collegecrew.entity.College;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CollegeRepository extends JpaRepository<College, Long> {
     
     Optional<College> findByName(String name);
+
+    /**
+     * Find a college under a share lock held until the caller commits, so a deletion of
+     * the college that starts meanwhile waits for the caller's writes and then removes them
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select c from College c where c.name = :name")
+    Optional<College> findForRegistrationByName(@Param("name") String name);
+
+    List<College> findByNameIn(Collection<String> names);
+
+    @Query("select c.feedVersion from College c where c.id = :id")
+    Optional<Long> findFeedVersionById(@Param("id") Long id);
+
+    /**
+     * Advance the feed watermark; must run in the transaction that changes the feed
+     * @return 0 if the college is being deleted, in which case the caller must roll back
+     */
+    @Modifying
+    @Query("update College c set c.feedVersion = c.feedVersion + 1 where c.id = :id and c.deleting = false")
+    int incrementFeedVersion(@Param("id") Long id);
+
+    /**
+     * Keyset page of college ids, for background jobs that walk every college
+     */
+    @Query("select c.id from College c where c.id > :afterId order by c.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update College c set c.feedVersion = c.feedVersion + 1 where c.id in :ids")
+    int incrementFeedVersions(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.collegecrew.repository;
+
+import com.collegecrew.dto.RecommendedJobResponse;
+import com.collegecrew.entity.JobRecommendation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobRecommendationRepository extends JpaRepository<JobRecommendation, Long> {
+
+    /**
+     * Best-scored recommendations of a user whose job is still open
+     */
+    @Query("select new com.collegecrew.dto.RecommendedJobResponse(j.id, j.title, j.budget, r.score) " +
+           "from JobRecommendation r join Job j on j.id = r.jobId " +
+           "where r.userId = :userId and j.status = 'OPEN' order by r.score desc")
+    List<RecommendedJobResponse> findTopForUser(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from JobRecommendation r where r.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+}
\ No newline at end of file
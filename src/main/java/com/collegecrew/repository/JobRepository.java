@@ -1,9 +1,108 @@
 package com.collegecrew.repository;
 
+import com.collegecrew.dto.JobCandidate;
+import com.collegecrew.dto.JobRef;
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.dto.JobSummary;
 import com.collegecrew.entity.Job;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * Version-only lookup used to answer conditional GETs without loading the job
+     */
+    @Query("select j.version from Job j where j.id = :id and j.college.id = :collegeId")
+    Optional<Long> findVersionByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    @Query("select new com.collegecrew.dto.JobResponse(j.id, j.title, j.description, j.budget, j.status, " +
+           "j.poster.id, a.id, j.college.id, j.deadline, j.biddingClosesAt, j.version, j.createdAt, j.updatedAt, " +
+           "j.duplicateOfId) from Job j left join j.assignee a where j.id = :id and j.college.id = :collegeId")
+    Optional<JobResponse> findResponseByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    /**
+     * Job of a college, share-locked until the caller's transaction ends. Bidding holds it
+     * so that a close or expiry cannot commit between the status check and the bid insert.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select j from Job j where j.id = :id and j.college.id = :collegeId")
+    Optional<Job> findForBiddingByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    /**
+     * View count of a job, kept out of the job body because it changes without a version bump
+     */
+    @Query("select j.views from Job j where j.id = :id and j.college.id = :collegeId")
+    Optional<Long> findViewsByIdAndCollegeId(@Param("id") Long id, @Param("collegeId") Long collegeId);
+
+    /**
+     * Newest open jobs of a college, served by idx_jobs_college_status
+     */
+    @Query("select new com.collegecrew.dto.JobResponse(j.id, j.title, j.description, j.budget, j.status, " +
+           "j.poster.id, a.id, j.college.id, j.deadline, j.biddingClosesAt, j.version, j.createdAt, j.updatedAt, " +
+           "j.duplicateOfId) from Job j left join j.assignee a where j.college.id = :collegeId and j.status = 'OPEN' " +
+           "order by j.id desc")
+    List<JobResponse> findOpenFeed(@Param("collegeId") Long collegeId, Pageable pageable);
+
+    /**
+     * Most viewed open jobs of a college, served by idx_jobs_college_status_views
+     */
+    @Query("select new com.collegecrew.dto.JobResponse(j.id, j.title, j.description, j.budget, j.status, " +
+           "j.poster.id, a.id, j.college.id, j.deadline, j.biddingClosesAt, j.version, j.createdAt, j.updatedAt, " +
+           "j.duplicateOfId) from Job j left join j.assignee a where j.college.id = :collegeId and j.status = 'OPEN' " +
+           "order by j.views desc, j.id desc")
+    List<JobResponse> findOpenFeedByViews(@Param("collegeId") Long collegeId, Pageable pageable);
+
+    /**
+     * Most recently created jobs posted by a user
+     */
+    @Query("select new com.collegecrew.dto.JobSummary(j.id, j.title, j.budget, j.status, j.updatedAt) " +
+           "from Job j where j.college.id = :collegeId and j.poster.id = :userId order by j.id desc")
+    List<JobSummary> findRecentByPoster(@Param("userId") Long userId, @Param("collegeId") Long collegeId,
+                                        Pageable pageable);
+
+    /**
+     * Most recently created jobs assigned to a user
+     */
+    @Query("select new com.collegecrew.dto.JobSummary(j.id, j.title, j.budget, j.status, j.updatedAt) " +
+           "from Job j where j.college.id = :collegeId and j.assignee.id = :userId order by j.id desc")
+    List<JobSummary> findRecentByAssignee(@Param("userId") Long userId, @Param("collegeId") Long collegeId,
+                                          Pageable pageable);
+
+    /**
+     * Newest open jobs of a college, reduced to the fields used by background scoring
+     */
+    @Query("select new com.collegecrew.dto.JobCandidate(j.id, j.poster.id, j.title, j.description, j.budget) " +
+           "from Job j where j.college.id = :collegeId and j.status = 'OPEN' order by j.id desc")
+    List<JobCandidate> findOpenCandidates(@Param("collegeId") Long collegeId, Pageable pageable);
+
+    /**
+     * Chunk of open jobs whose deadline has passed, oldest deadline first
+     */
+    @Query("select new com.collegecrew.dto.JobRef(j.id, j.college.id) from Job j " +
+           "where j.status = 'OPEN' and j.deadline < :cutoff order by j.deadline")
+    List<JobRef> findOverdueOpenJobs(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Set-based expiry; bumps the row version so cached job ETags are invalidated.
+     * The status predicate makes concurrent or repeated runs harmless; the college
+     * predicate prunes partitions.
+     */
+    @Modifying
+    @Query("update Job j set j.status = 'EXPIRED', j.version = j.version + 1, j.updatedAt = :now " +
+           "where j.college.id in :collegeIds and j.id in :ids and j.status = 'OPEN'")
+    int expireOpenJobs(@Param("collegeIds") Collection<Long> collegeIds, @Param("ids") Collection<Long> ids,
+                       @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -1,9 +1,29 @@
 package com.collegecrew.repository;
 
+import com.collegecrew.dto.TransactionSummary;
 import com.collegecrew.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Most recent transactions paid by a user; the counterparty is the payee
+     */
+    @Query("select new com.collegecrew.dto.TransactionSummary(t.id, t.job.id, t.payee.id, t.amount, t.status, " +
+           "t.transactionType, t.createdAt) from Transaction t where t.payer.id = :userId order by t.id desc")
+    List<TransactionSummary> findRecentByPayer(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Most recent transactions received by a user; the counterparty is the payer
+     */
+    @Query("select new com.collegecrew.dto.TransactionSummary(t.id, t.job.id, t.payer.id, t.amount, t.status, " +
+           "t.transactionType, t.createdAt) from Transaction t where t.payee.id = :userId order by t.id desc")
+    List<TransactionSummary> findRecentByPayee(@Param("userId") Long userId, Pageable pageable);
+}
@@ -1,13 +1,48 @@
 package com.collegecrew.repository;
 
+import com.collegecrew.dto.ActivityCounts;
 import com.collegecrew.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmail(String email);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Activity totals of a user for the dashboard, live plus archived rows, one index range
+     * count per table each
+     */
+    @Query("select new com.collegecrew.dto.ActivityCounts(" +
+           "(select count(j) from Job j where j.college.id = :collegeId and j.poster.id = :userId) + " +
+           "(select count(j) from ArchivedJob j where j.collegeId = :collegeId and j.posterId = :userId), " +
+           "(select count(j) from Job j where j.college.id = :collegeId and j.assignee.id = :userId) + " +
+           "(select count(j) from ArchivedJob j where j.collegeId = :collegeId and j.assigneeId = :userId), " +
+           "(select count(b) from Bid b where b.college.id = :collegeId and b.bidder.id = :userId) + " +
+           "(select count(b) from ArchivedBid b where b.collegeId = :collegeId and b.bidderId = :userId), " +
+           "(select count(t) from Transaction t where t.payer.id = :userId) + " +
+           "(select count(t) from ArchivedTransaction t where t.payerId = :userId), " +
+           "(select count(t) from Transaction t where t.payee.id = :userId) + " +
+           "(select count(t) from ArchivedTransaction t where t.payeeId = :userId)) " +
+           "from User u where u.id = :userId")
+    ActivityCounts findActivityCounts(@Param("userId") Long userId, @Param("collegeId") Long collegeId);
+
+    /**
+     * Keyset page of users in a college who have placed at least one bid
+     */
+    @Query("select u.id from User u where u.college.id = :collegeId and u.id > :afterId " +
+           "and exists (select 1 from Bid b where b.college.id = :collegeId and b.bidder = u) order by u.id")
+    List<Long> findBidderIdsByCollege(@Param("collegeId") Long collegeId, @Param("afterId") Long afterId,
+                                      Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,435 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.DeletionResponse;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.money.Cents;
+import com.collegecrew.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deletes user accounts and whole colleges with ordered, set-based statements instead
+ * of the JPA cascades, which would load the entire object graph and delete it row by
+ * row in one long transaction.
+ *
+ * Work is split into chunks of {@code deletion.batch-size} rows, each its own short
+ * transaction, with a {@code deletion.pause-ms} pause in between: rows are claimed by
+ * id, then children are deleted before parents with {@code DELETE ... WHERE id IN}.
+ * Memory stays bounded by one chunk of ids and no lock is held for longer than a chunk.
+ *
+ * Financial records are never deleted:
+ * <ul>
+ *   <li>a user with live or archived transactions or ledger entries is anonymized
+ *       (email, alias and password replaced) instead of deleted, and jobs that carry
+ *       transactions are kept;</li>
+ *   <li>a deleted college's transactions are first copied into
+ *       {@code transactions_archive}, which holds plain ids and no foreign keys.</li>
+ * </ul>
+ * Deleted jobs emit {@code JobDeleted} outbox events and feed watermark bumps like any
+ * other job write.
+ *
+ * A deleted user's tokens are revoked before anything is removed, so the account cannot
+ * add rows behind the sweep. A college is marked {@code deleting} first; registrations
+ * and job writes for it are rejected from then on. If a college deletion fails midway
+ * the mark stays, and rerunning the deletion finishes the job.
+ *
+ * Metrics: {@code collegecrew.deletion.users}, {@code collegecrew.deletion.anonymized},
+ * {@code collegecrew.deletion.jobs} and {@code collegecrew.deletion.colleges}.
+ */
+@Service
+public class AccountDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    static final String DELETED_ALIAS = "Deleted user";
+    // Not a BCrypt hash, so no password ever matches it
+    static final String UNUSABLE_PASSWORD = "!";
+
+    private static final String USER_COLLEGE_SQL = "SELECT college_id FROM users WHERE id = ?";
+    private static final String REVOKE_TOKENS_SQL = "UPDATE users SET token_version = token_version + 1 WHERE id = ?";
+    private static final String MARK_COLLEGE_DELETING_SQL = "UPDATE colleges SET deleting = TRUE WHERE id = ?";
+    private static final String DELETE_USER_RECOMMENDATIONS_SQL = "DELETE FROM job_recommendations WHERE user_id IN (:ids)";
+    private static final String DELETE_IDEMPOTENCY_KEYS_SQL = "DELETE FROM idempotency_keys WHERE scope IN (:scopes)";
+    private static final String CLAIM_USER_BIDS_SQL = "SELECT id FROM bids WHERE bidder_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_BIDS_SQL = "DELETE FROM bids WHERE id IN (:ids)";
+    // Jobs with transactions are kept; the keyset skips past them
+    private static final String CLAIM_POSTED_JOBS_SQL =
+            "SELECT j.id, j.status, j.budget FROM jobs j WHERE j.poster_id = ? AND j.id > ? " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.job_id = j.id) ORDER BY j.id LIMIT ? FOR UPDATE";
+    private static final String REOPEN_ASSIGNED_SQL =
+            "UPDATE jobs SET status = 'OPEN', assignee_id = NULL, version = version + 1, updated_at = ? " +
+            "WHERE assignee_id = ? AND status = 'ASSIGNED' " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.job_id = jobs.id)";
+    private static final String UNASSIGN_SQL =
+            "UPDATE jobs SET assignee_id = NULL, version = version + 1, updated_at = ? " +
+            "WHERE assignee_id = ? AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.job_id = jobs.id)";
+    private static final String CLAIM_ARCHIVED_BIDS_SQL =
+            "SELECT id FROM bids_archive WHERE bidder_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_ARCHIVED_BIDS_SQL = "DELETE FROM bids_archive WHERE id IN (:ids)";
+    private static final String CLAIM_ARCHIVED_POSTED_JOBS_SQL =
+            "SELECT j.id, j.status, j.budget FROM jobs_archive j WHERE j.poster_id = ? AND j.id > ? " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions_archive t WHERE t.job_id = j.id) ORDER BY j.id LIMIT ?";
+    private static final String HAS_FINANCIAL_HISTORY_SQL =
+            "SELECT CASE WHEN EXISTS (SELECT 1 FROM transactions WHERE payer_id = ?) " +
+            "OR EXISTS (SELECT 1 FROM transactions WHERE payee_id = ?) " +
+            "OR EXISTS (SELECT 1 FROM transactions_archive WHERE payer_id = ?) " +
+            "OR EXISTS (SELECT 1 FROM transactions_archive WHERE payee_id = ?) " +
+            "OR EXISTS (SELECT 1 FROM ledger_entries WHERE user_id = ?) THEN 1 ELSE 0 END";
+    private static final String ANONYMIZE_USER_SQL =
+            "UPDATE users SET email = ?, alias = ?, password_hash = ? WHERE id = ?";
+    private static final String DELETE_USERS_SQL = "DELETE FROM users WHERE id IN (:ids)";
+
+    private static final String CLAIM_COLLEGE_JOBS_SQL =
+            "SELECT id, status, budget FROM jobs WHERE college_id = ? ORDER BY id LIMIT ? FOR UPDATE";
+    private static final String ARCHIVE_TRANSACTIONS_SQL =
+            "INSERT INTO transactions_archive (id, job_id, payer_id, payee_id, amount, status, transaction_type, " +
+            "created_at, settled_at, archived_at) SELECT id, job_id, payer_id, payee_id, amount, status, " +
+            "transaction_type, created_at, settled_at, :now FROM transactions WHERE job_id IN (:ids)";
+    private static final String DELETE_TRANSACTIONS_BY_JOB_SQL = "DELETE FROM transactions WHERE job_id IN (:ids)";
+    private static final String CLAIM_COLLEGE_USERS_SQL =
+            "SELECT id FROM users WHERE college_id = ? ORDER BY id LIMIT ?";
+    private static final String CLAIM_ARCHIVED_COLLEGE_JOBS_SQL =
+            "SELECT id FROM jobs_archive WHERE college_id = ? ORDER BY id LIMIT ?";
+    private static final String DELETE_COLLEGE_STATS_SQL = "DELETE FROM college_stats WHERE college_id = ?";
+    private static final String DELETE_COLLEGE_SQL = "DELETE FROM colleges WHERE id = ?";
+
+    private static final String DELETE_JOB_RECOMMENDATIONS_SQL = "DELETE FROM job_recommendations WHERE job_id IN (:ids)";
+    private static final String DELETE_BIDS_BY_JOB_SQL = "DELETE FROM bids WHERE job_id IN (:ids)";
+    private static final String DELETE_JOBS_SQL = "DELETE FROM jobs WHERE id IN (:ids)";
+    private static final String DELETE_ARCHIVED_BIDS_BY_JOB_SQL = "DELETE FROM bids_archive WHERE job_id IN (:ids)";
+    private static final String DELETE_ARCHIVED_JOBS_SQL = "DELETE FROM jobs_archive WHERE id IN (:ids)";
+    private static final String BUMP_FEED_SQL = "UPDATE colleges SET feed_version = feed_version + 1 WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MarketplaceStatsService marketplaceStatsService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter deletedUsers;
+    private Counter anonymizedUsers;
+    private Counter deletedJobs;
+    private Counter deletedColleges;
+
+    @Value("${deletion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${deletion.pause-ms:50}")
+    private long pauseMillis;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletedUsers = meterRegistry.counter("collegecrew.deletion.users");
+        this.anonymizedUsers = meterRegistry.counter("collegecrew.deletion.anonymized");
+        this.deletedJobs = meterRegistry.counter("collegecrew.deletion.jobs");
+        this.deletedColleges = meterRegistry.counter("collegecrew.deletion.colleges");
+    }
+
+    /**
+     * Delete a user account, or anonymize it when financial records must be retained.
+     * Revokes the user's tokens, then removes their bids, recommendations and stored
+     * idempotent responses, and the jobs they posted that carry no transactions; unpaid
+     * assignments are released.
+     * @param userId User ID
+     * @return What was deleted
+     * @throws RuntimeException if the user does not exist
+     */
+    public DeletionResponse deleteUser(Long userId) {
+        Long collegeId = jdbcTemplate.query(USER_COLLEGE_SQL, rs -> rs.next() ? rs.getLong(1) : null, userId);
+        if (collegeId == null) {
+            throw new RuntimeException("User not found");
+        }
+        DeletionResponse result = new DeletionResponse();
+
+        jdbcTemplate.update(REVOKE_TOKENS_SQL, userId);
+        tokenRevocationService.evict(List.of(userId));
+        transactionTemplate.executeWithoutResult(status -> {
+            namedJdbcTemplate.update(DELETE_USER_RECOMMENDATIONS_SQL, new MapSqlParameterSource("ids", List.of(userId)));
+            namedJdbcTemplate.update(DELETE_IDEMPOTENCY_KEYS_SQL,
+                    new MapSqlParameterSource("scopes", List.of(userId.toString())));
+        });
+        deleteInChunks(() -> deleteBids(collegeId, jdbcTemplate.queryForList(
+                CLAIM_USER_BIDS_SQL, Long.class, userId, batchSize), DELETE_BIDS_SQL, result));
+        deleteJobsInChunks(collegeId, CLAIM_POSTED_JOBS_SQL, userId, false, result);
+        transactionTemplate.executeWithoutResult(status -> releaseAssignments(collegeId, userId));
+
+        deleteInChunks(() -> deleteBids(collegeId, jdbcTemplate.queryForList(
+                CLAIM_ARCHIVED_BIDS_SQL, Long.class, userId, batchSize), DELETE_ARCHIVED_BIDS_SQL, result));
+        deleteJobsInChunks(collegeId, CLAIM_ARCHIVED_POSTED_JOBS_SQL, userId, true, result);
+
+        if (removeOrAnonymize(userId)) {
+            result.setUsersDeleted(1);
+        } else {
+            result.setUsersAnonymized(1);
+        }
+        evictDashboards(List.of(userId));
+        return result;
+    }
+
+    /**
+     * Delete a college with all its users, jobs and bids, live and archived. The college
+     * is marked as deleting first, so no user or job is added behind the sweep. Its
+     * transactions are moved to {@code transactions_archive} first; ledger entries stay.
+     * @param collegeId College ID
+     * @return What was deleted
+     * @throws RuntimeException if the college does not exist
+     */
+    public DeletionResponse deleteCollege(Long collegeId) {
+        // Waits for registrations and job writes holding the college row, which the sweep then sees
+        if (jdbcTemplate.update(MARK_COLLEGE_DELETING_SQL, collegeId) == 0) {
+            throw new RuntimeException("College not found");
+        }
+        DeletionResponse result = new DeletionResponse();
+
+        deleteInChunks(() -> transactionTemplate.execute(status -> {
+            List<ClaimedJob> jobs = jdbcTemplate.query(CLAIM_COLLEGE_JOBS_SQL, (rs, rowNum) ->
+                    new ClaimedJob(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3)), collegeId, batchSize);
+            if (jobs.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids(jobs))
+                    .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+            result.setTransactionsArchived(result.getTransactionsArchived()
+                    + namedJdbcTemplate.update(ARCHIVE_TRANSACTIONS_SQL, params));
+            namedJdbcTemplate.update(DELETE_TRANSACTIONS_BY_JOB_SQL, params);
+            removeJobs(collegeId, jobs, false, result);
+            return jobs.size();
+        }));
+
+        deleteInChunks(() -> transactionTemplate.execute(status -> {
+            List<Long> jobIds = jdbcTemplate.queryForList(CLAIM_ARCHIVED_COLLEGE_JOBS_SQL, Long.class, collegeId, batchSize);
+            if (jobIds.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", jobIds);
+            result.setBidsDeleted(result.getBidsDeleted() + namedJdbcTemplate.update(DELETE_ARCHIVED_BIDS_BY_JOB_SQL, params));
+            namedJdbcTemplate.update(DELETE_ARCHIVED_JOBS_SQL, params);
+            result.setJobsDeleted(result.getJobsDeleted() + jobIds.size());
+            deletedJobs.increment(jobIds.size());
+            return jobIds.size();
+        }));
+
+        deleteInChunks(() -> {
+            List<Long> userIds = transactionTemplate.execute(status -> {
+                List<Long> claimed = jdbcTemplate.queryForList(CLAIM_COLLEGE_USERS_SQL, Long.class, collegeId, batchSize);
+                if (!claimed.isEmpty()) {
+                    MapSqlParameterSource params = new MapSqlParameterSource()
+                            .addValue("ids", claimed)
+                            .addValue("scopes", claimed.stream().map(String::valueOf).toList());
+                    namedJdbcTemplate.update(DELETE_USER_RECOMMENDATIONS_SQL, params);
+                    namedJdbcTemplate.update(DELETE_IDEMPOTENCY_KEYS_SQL, params);
+                    namedJdbcTemplate.update(DELETE_USERS_SQL, params);
+                }
+                return claimed;
+            });
+            result.setUsersDeleted(result.getUsersDeleted() + userIds.size());
+            deletedUsers.increment(userIds.size());
+            tokenRevocationService.evict(userIds);
+            evictDashboards(userIds);
+            return userIds.size();
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_COLLEGE_STATS_SQL, collegeId);
+            jdbcTemplate.update(DELETE_COLLEGE_SQL, collegeId);
+        });
+        marketplaceStatsService.forget(collegeId);
+        deletedColleges.increment();
+        log.info("Deleted college {}: {} users, {} jobs, {} bids, {} transactions archived", collegeId,
+                result.getUsersDeleted(), result.getJobsDeleted(), result.getBidsDeleted(),
+                result.getTransactionsArchived());
+        return result;
+    }
+
+    private int deleteBids(Long collegeId, List<Long> bidIds, String deleteSql, DeletionResponse result) {
+        if (bidIds.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            namedJdbcTemplate.update(deleteSql, new MapSqlParameterSource("ids", bidIds));
+            eventPublisher.publishEvent(CollegeStatsDelta.deleted(collegeId, 0, 0, 0, bidIds.size()));
+        });
+        result.setBidsDeleted(result.getBidsDeleted() + bidIds.size());
+        return bidIds.size();
+    }
+
+    private void deleteJobsInChunks(Long collegeId, String claimSql, Long posterId, boolean archived,
+                                    DeletionResponse result) {
+        long[] afterId = {0};
+        deleteInChunks(() -> transactionTemplate.execute(status -> {
+            List<ClaimedJob> jobs = jdbcTemplate.query(claimSql, (rs, rowNum) ->
+                    new ClaimedJob(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3)), posterId, afterId[0], batchSize);
+            if (jobs.isEmpty()) {
+                return 0;
+            }
+            afterId[0] = jobs.get(jobs.size() - 1).id;
+            removeJobs(collegeId, jobs, archived, result);
+            return jobs.size();
+        }));
+    }
+
+    /**
+     * Delete claimed jobs with their bids and recommendations; transactions must already be gone
+     */
+    private void removeJobs(Long collegeId, List<ClaimedJob> jobs, boolean archived, DeletionResponse result) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids(jobs));
+        int bids;
+        if (archived) {
+            bids = namedJdbcTemplate.update(DELETE_ARCHIVED_BIDS_BY_JOB_SQL, params);
+            namedJdbcTemplate.update(DELETE_ARCHIVED_JOBS_SQL, params);
+        } else {
+            namedJdbcTemplate.update(DELETE_JOB_RECOMMENDATIONS_SQL, params);
+            bids = namedJdbcTemplate.update(DELETE_BIDS_BY_JOB_SQL, params);
+            namedJdbcTemplate.update(DELETE_JOBS_SQL, params);
+            jdbcTemplate.update(BUMP_FEED_SQL, collegeId);
+            Map<Long, Map<String, Object>> events = new LinkedHashMap<>();
+            for (ClaimedJob job : jobs) {
+                events.put(job.id, Map.of("jobId", job.id, "collegeId", collegeId));
+            }
+            outboxService.recordAll(OutboxService.AGGREGATE_JOB, "JobDeleted", events);
+        }
+        long open = jobs.stream().filter(job -> "OPEN".equals(job.status)).count();
+        long budgetCents = Cents.sum(jobs.stream().mapToLong(job -> Cents.of(job.budget)).toArray());
+        eventPublisher.publishEvent(CollegeStatsDelta.deleted(collegeId, open, jobs.size(), budgetCents, bids));
+
+        result.setJobsDeleted(result.getJobsDeleted() + jobs.size());
+        result.setBidsDeleted(result.getBidsDeleted() + bids);
+        deletedJobs.increment(jobs.size());
+    }
+
+    private void releaseAssignments(Long collegeId, Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int reopened = jdbcTemplate.update(REOPEN_ASSIGNED_SQL, now, userId);
+        int released = reopened + jdbcTemplate.update(UNASSIGN_SQL, now, userId);
+        if (released > 0) {
+            jdbcTemplate.update(BUMP_FEED_SQL, collegeId);
+        }
+        if (reopened > 0) {
+            eventPublisher.publishEvent(CollegeStatsDelta.jobsReopened(collegeId, reopened));
+        }
+    }
+
+    /**
+     * @return true if the user row was deleted, false if it was anonymized
+     */
+    private boolean removeOrAnonymize(Long userId) {
+        Integer history = jdbcTemplate.queryForObject(HAS_FINANCIAL_HISTORY_SQL, Integer.class,
+                userId, userId, userId, userId, userId);
+        if (history == null || history == 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        namedJdbcTemplate.update(DELETE_USERS_SQL, new MapSqlParameterSource("ids", List.of(userId))));
+                deletedUsers.increment();
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                // Rows referencing the user appeared while deleting; keep it as an anonymous row
+                log.warn("User {} gained references during deletion, anonymizing instead", userId);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(ANONYMIZE_USER_SQL,
+                "deleted-" + userId + "@deleted.invalid", DELETED_ALIAS, UNUSABLE_PASSWORD, userId));
+        anonymizedUsers.increment();
+        return false;
+    }
+
+    private void evictDashboards(List<Long> userIds) {
+        Cache cache = cacheManager.getCache(DashboardService.CACHE_NAME);
+        if (cache != null) {
+            userIds.forEach(cache::evict);
+        }
+    }
+
+    private void deleteInChunks(ChunkStep step) {
+        while (true) {
+            Integer deleted = step.run();
+            if (deleted == null || deleted < batchSize || !pause()) {
+                return;
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<Long> ids(List<ClaimedJob> jobs) {
+        List<Long> ids = new ArrayList<>(jobs.size());
+        for (ClaimedJob job : jobs) {
+            ids.add(job.id);
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface ChunkStep {
+        Integer run();
+    }
+
+    private static class ClaimedJob {
+        private final long id;
+        private final String status;
+        private final BigDecimal budget;
+
+        private ClaimedJob(long id, String status, BigDecimal budget) {
+            this.id = id;
+            this.status = status;
+            this.budget = budget;
+        }
+    }
+}
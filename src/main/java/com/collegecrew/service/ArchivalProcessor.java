@@ -0,0 +1,156 @@
+package com.collegecrew.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves finished jobs (COMPLETED or EXPIRED and untouched for
+ * {@code archive.min-age-days}) together with their bids and transactions from the
+ * hot tables into the append-only {@code *_archive} tables.
+ *
+ * Each chunk of {@code archive.batch-size} jobs is one transaction: the jobs are
+ * claimed with {@code FOR UPDATE SKIP LOCKED}, copied with set-based
+ * {@code INSERT ... SELECT} and then deleted, children first. A job is only eligible
+ * once none of its transactions is still PENDING, so escrow is never archived before
+ * it settles. Archived rows stay readable through {@code JobService} and
+ * {@code BidService}, which fall back to the archive repositories.
+ *
+ * Metrics: {@code collegecrew.archive.jobs}, {@code collegecrew.archive.bids},
+ * {@code collegecrew.archive.transactions} and {@code collegecrew.archive.run}.
+ */
+@Service
+public class ArchivalProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalProcessor.class);
+
+    private static final String CLAIM_SQL =
+            "SELECT j.id FROM jobs j WHERE j.status IN ('COMPLETED', 'EXPIRED') AND j.updated_at < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.job_id = j.id AND t.status = 'PENDING') " +
+            "ORDER BY j.id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String ARCHIVE_JOBS_SQL =
+            "INSERT INTO jobs_archive (id, title, description, budget, status, poster_id, assignee_id, college_id, " +
+            "deadline, bidding_closes_at, duplicate_of_id, views, version, created_at, updated_at, archived_at) " +
+            "SELECT id, title, description, budget, status, poster_id, assignee_id, college_id, " +
+            "deadline, bidding_closes_at, duplicate_of_id, views, version, created_at, updated_at, :now " +
+            "FROM jobs WHERE id IN (:ids)";
+    private static final String ARCHIVE_BIDS_SQL =
+            "INSERT INTO bids_archive (id, job_id, college_id, bidder_id, amount, proposal, status, created_at, " +
+            "archived_at) SELECT id, job_id, college_id, bidder_id, amount, proposal, status, created_at, :now " +
+            "FROM bids WHERE job_id IN (:ids)";
+    private static final String ARCHIVE_TRANSACTIONS_SQL =
+            "INSERT INTO transactions_archive (id, job_id, payer_id, payee_id, amount, status, transaction_type, " +
+            "created_at, settled_at, archived_at) SELECT id, job_id, payer_id, payee_id, amount, status, " +
+            "transaction_type, created_at, settled_at, :now FROM transactions WHERE job_id IN (:ids)";
+    private static final String DELETE_RECOMMENDATIONS_SQL = "DELETE FROM job_recommendations WHERE job_id IN (:ids)";
+    private static final String DELETE_TRANSACTIONS_SQL = "DELETE FROM transactions WHERE job_id IN (:ids)";
+    private static final String DELETE_BIDS_SQL = "DELETE FROM bids WHERE job_id IN (:ids)";
+    private static final String DELETE_JOBS_SQL = "DELETE FROM jobs WHERE id IN (:ids)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter archivedJobs;
+    private Counter archivedBids;
+    private Counter archivedTransactions;
+    private Timer runTimer;
+
+    @Value("${archive.min-age-days:90}")
+    private int minAgeDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${archive.pause-ms:200}")
+    private long pauseMillis;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedJobs = meterRegistry.counter("collegecrew.archive.jobs");
+        this.archivedBids = meterRegistry.counter("collegecrew.archive.bids");
+        this.archivedTransactions = meterRegistry.counter("collegecrew.archive.transactions");
+        this.runTimer = meterRegistry.timer("collegecrew.archive.run");
+    }
+
+    /**
+     * Archive every eligible job, one chunk at a time
+     * @return Number of jobs archived by this run
+     */
+    @Scheduled(cron = "${archive.cron:0 0 4 * * *}")
+    public long archiveFinishedJobs() {
+        return runTimer.record(() -> {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(minAgeDays));
+            long total = 0;
+            while (true) {
+                Integer archived = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                total += archived;
+                if (archived < batchSize || !pause()) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                log.info("Archived {} finished jobs", total);
+            }
+            return total;
+        });
+    }
+
+    private int archiveChunk(Timestamp cutoff) {
+        List<Long> jobIds = jdbcTemplate.queryForList(CLAIM_SQL, Long.class, cutoff, batchSize);
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", jobIds)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        namedJdbcTemplate.update(ARCHIVE_JOBS_SQL, params);
+        archivedBids.increment(namedJdbcTemplate.update(ARCHIVE_BIDS_SQL, params));
+        archivedTransactions.increment(namedJdbcTemplate.update(ARCHIVE_TRANSACTIONS_SQL, params));
+        namedJdbcTemplate.update(DELETE_RECOMMENDATIONS_SQL, params);
+        namedJdbcTemplate.update(DELETE_TRANSACTIONS_SQL, params);
+        namedJdbcTemplate.update(DELETE_BIDS_SQL, params);
+        namedJdbcTemplate.update(DELETE_JOBS_SQL, params);
+        archivedJobs.increment(jobIds.size());
+        return jobIds.size();
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
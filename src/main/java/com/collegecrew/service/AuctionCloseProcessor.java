@@ -0,0 +1,241 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Closes sealed-bid auctions: the lowest pending bid of a job wins, ties going to the
+ * earliest bid. Winners are chosen for a whole set of jobs by one window-function
+ * query; bids are never loaded per job.
+ *
+ * Awarding a set of jobs is one short transaction of set-based statements:
+ * <ol>
+ *   <li>rank the pending bids of every job with {@code ROW_NUMBER()} and keep rank 1;</li>
+ *   <li>assign each job to its winner, guarded by {@code status = 'OPEN'}, so a job
+ *       closed concurrently is skipped;</li>
+ *   <li>one UPDATE marks the winning bids ACCEPTED and every other pending bid REJECTED;</li>
+ *   <li>insert a PENDING escrow transaction per job (poster pays the winning amount),
+ *       record {@code JobAssigned} outbox events and bump the college feed watermarks.</li>
+ * </ol>
+ * Jobs are closed on demand by their poster through {@code JobService}, and in bulk
+ * every {@code auction.interval-ms} once their {@code bidding_closes_at} has passed.
+ * Bulk runs claim {@code auction.batch-size} jobs at a time with
+ * {@code FOR UPDATE SKIP LOCKED}, so several nodes can close auctions concurrently.
+ * Jobs without pending bids stay open until they expire.
+ *
+ * Metrics: {@code collegecrew.auction.closed}, {@code collegecrew.auction.run}.
+ */
+@Service
+public class AuctionCloseProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(AuctionCloseProcessor.class);
+
+    private static final String CLAIM_DUE_SQL =
+            "SELECT j.id FROM jobs j WHERE j.status = 'OPEN' AND j.bidding_closes_at <= ? " +
+            "AND EXISTS (SELECT 1 FROM bids b WHERE b.job_id = j.id AND b.status = 'PENDING') " +
+            "ORDER BY j.bidding_closes_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String WINNERS_SQL =
+            "SELECT w.bid_id, w.job_id, w.bidder_id, w.amount, j.college_id, j.poster_id FROM (" +
+            "SELECT b.id AS bid_id, b.job_id, b.bidder_id, b.amount, " +
+            "ROW_NUMBER() OVER (PARTITION BY b.job_id ORDER BY b.amount, b.created_at, b.id) AS bid_rank " +
+            "FROM bids b WHERE b.job_id IN (:jobIds) AND b.status = 'PENDING') w " +
+            "JOIN jobs j ON j.id = w.job_id WHERE w.bid_rank = 1";
+    private static final String ASSIGN_SQL =
+            "UPDATE jobs SET status = 'ASSIGNED', assignee_id = ?, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND status = 'OPEN'";
+    private static final String MARK_BIDS_SQL =
+            "UPDATE bids SET status = CASE WHEN id IN (:winnerIds) THEN 'ACCEPTED' ELSE 'REJECTED' END " +
+            "WHERE college_id IN (:collegeIds) AND job_id IN (:jobIds) AND status = 'PENDING'";
+    private static final String ESCROW_SQL =
+            "INSERT INTO transactions (job_id, payer_id, payee_id, amount, status, transaction_type, created_at) " +
+            "VALUES (?, ?, ?, ?, '" + Transaction.STATUS_PENDING + "', '" + Transaction.TYPE_ESCROW + "', ?)";
+    private static final String BUMP_FEEDS_SQL =
+            "UPDATE colleges SET feed_version = feed_version + 1 WHERE id IN (:collegeIds)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter closed;
+    private Timer runTimer;
+
+    @Value("${auction.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.pause-ms:200}")
+    private long pauseMillis;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.closed = meterRegistry.counter("collegecrew.auction.closed");
+        this.runTimer = meterRegistry.timer("collegecrew.auction.run");
+    }
+
+    /**
+     * Close every auction whose bidding window has passed, one chunk at a time
+     * @return Number of jobs awarded by this run
+     */
+    @Scheduled(fixedDelayString = "${auction.interval-ms:60000}",
+               initialDelayString = "${auction.initial-delay-ms:40000}")
+    public long closeDueAuctions() {
+        return runTimer.record(() -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            long total = 0;
+            while (true) {
+                int[] result = transactionTemplate.execute(status -> {
+                    List<Long> jobIds = jdbcTemplate.queryForList(CLAIM_DUE_SQL, Long.class, now, batchSize);
+                    return new int[]{jobIds.size(), jobIds.isEmpty() ? 0 : award(jobIds)};
+                });
+                total += result[1];
+                if (result[0] < batchSize || !pause()) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                log.info("Closed {} auctions", total);
+            }
+            return total;
+        });
+    }
+
+    /**
+     * Award each of the given jobs to its lowest pending bid. Jobs that are no longer
+     * open or have no pending bid are left unchanged.
+     * @param jobIds Jobs to close
+     * @return Number of jobs awarded
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int award(Collection<Long> jobIds) {
+        List<Winner> winners = namedJdbcTemplate.query(WINNERS_SQL, new MapSqlParameterSource("jobIds", jobIds),
+                (rs, rowNum) -> new Winner(rs.getLong("bid_id"), rs.getLong("job_id"), rs.getLong("bidder_id"),
+                        rs.getBigDecimal("amount"), rs.getLong("college_id"), rs.getLong("poster_id")));
+        if (winners.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> assignArgs = new ArrayList<>(winners.size());
+        for (Winner winner : winners) {
+            assignArgs.add(new Object[]{winner.bidderId, now, winner.jobId});
+        }
+        int[] assigned = jdbcTemplate.batchUpdate(ASSIGN_SQL, assignArgs);
+
+        List<Long> awardedJobIds = new ArrayList<>();
+        List<Long> winnerIds = new ArrayList<>();
+        Set<Long> collegeIds = new TreeSet<>();
+        List<Object[]> escrowArgs = new ArrayList<>();
+        Map<Long, Object> events = new LinkedHashMap<>();
+        Map<Long, Long> closedByCollege = new HashMap<>();
+        for (int i = 0; i < winners.size(); i++) {
+            if (assigned[i] != 1) {
+                continue;
+            }
+            Winner winner = winners.get(i);
+            awardedJobIds.add(winner.jobId);
+            winnerIds.add(winner.bidId);
+            collegeIds.add(winner.collegeId);
+            escrowArgs.add(new Object[]{winner.jobId, winner.posterId, winner.bidderId, winner.amount, now});
+            events.put(winner.jobId, Map.of(
+                    "jobId", winner.jobId,
+                    "collegeId", winner.collegeId,
+                    "bidId", winner.bidId,
+                    "assigneeId", winner.bidderId,
+                    "amount", winner.amount));
+            closedByCollege.merge(winner.collegeId, 1L, Long::sum);
+        }
+        if (awardedJobIds.isEmpty()) {
+            return 0;
+        }
+
+        namedJdbcTemplate.update(MARK_BIDS_SQL, new MapSqlParameterSource()
+                .addValue("winnerIds", winnerIds)
+                .addValue("collegeIds", collegeIds)
+                .addValue("jobIds", awardedJobIds));
+        jdbcTemplate.batchUpdate(ESCROW_SQL, escrowArgs);
+        namedJdbcTemplate.update(BUMP_FEEDS_SQL, new MapSqlParameterSource("collegeIds", collegeIds));
+        outboxService.recordAll(OutboxService.AGGREGATE_JOB, "JobAssigned", events);
+        closedByCollege.forEach((collegeId, count) ->
+                eventPublisher.publishEvent(CollegeStatsDelta.jobsClosed(collegeId, count)));
+
+        closed.increment(awardedJobIds.size());
+        return awardedJobIds.size();
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class Winner {
+        private final long bidId;
+        private final long jobId;
+        private final long bidderId;
+        private final BigDecimal amount;
+        private final long collegeId;
+        private final long posterId;
+
+        private Winner(long bidId, long jobId, long bidderId, BigDecimal amount, long collegeId, long posterId) {
+            this.bidId = bidId;
+            this.jobId = jobId;
+            this.bidderId = bidderId;
+            this.amount = amount;
+            this.collegeId = collegeId;
+            this.posterId = posterId;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.collegecrew.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -28,32 +29,40 @@ public class AuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private CollegeDomainResolver collegeDomainResolver;
+
     /**
      * Register a new user
      * @param registerRequest Registration details
      * @return AuthResponse with token and user details
-     * @throws RuntimeException if email already exists
+     * @throws RuntimeException if email is not from a recognised college, already exists, or
+     *         its college is being deleted
      */
+    @Transactional
     public AuthResponse register(RegisterRequest registerRequest) {
+        // Resolve the college before any database or hashing work
+        String domain = extractDomainFromEmail(registerRequest.getEmail());
+
         // Check if user already exists
         if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
             throw new RuntimeException("Email already registered");
         }
 
-        // Extract domain from email
-        String domain = extractDomainFromEmail(registerRequest.getEmail());
-        
-        // Find or create college
-        College college = collegeRepository.findByName(domain)
+        // Hash password before taking the college lock
+        String hashedPassword = passwordEncoder.encode(registerRequest.getPassword());
+
+        // Find or create college; the share lock keeps a college deletion from starting until this user is committed
+        College college = collegeRepository.findForRegistrationByName(domain)
                 .orElseGet(() -> {
                     College newCollege = College.builder()
                             .name(domain)
                             .build();
                     return collegeRepository.save(newCollege);
                 });
-
-        // Hash password
-        String hashedPassword = passwordEncoder.encode(registerRequest.getPassword());
+        if (college.getDeleting()) {
+            throw new RuntimeException("College is being deleted");
+        }
 
         // Create and save user
         User user = User.builder()
@@ -70,7 +79,8 @@ public class AuthService {
                 savedUser.getId(),
                 savedUser.getEmail(),
                 savedUser.getAlias(),
-                savedUser.getCollege().getId()
+                savedUser.getCollege().getId(),
+                savedUser.getTokenVersion()
         );
 
         return new AuthResponse(token, savedUser.getId(), savedUser.getEmail(), 
@@ -98,7 +108,8 @@ public class AuthService {
                 user.getId(),
                 user.getEmail(),
                 user.getAlias(),
-                user.getCollege().getId()
+                user.getCollege().getId(),
+                user.getTokenVersion()
         );
 
         return new AuthResponse(token, user.getId(), user.getEmail(), 
@@ -106,14 +117,18 @@ public class AuthService {
     }
 
     /**
-     * Extract domain from email address
+     * Extract the canonical college domain from an email address
      * @param email Email address
-     * @return Domain part of the email
+     * @return College domain, e.g. mit.edu for cs.mit.edu
      */
     private String extractDomainFromEmail(String email) {
         if (email == null || !email.contains("@")) {
             throw new RuntimeException("Invalid email format");
         }
-        return email.substring(email.indexOf("@") + 1);
+        String domain = collegeDomainResolver.resolve(email);
+        if (domain == null) {
+            throw new RuntimeException("Email domain is not a recognised college");
+        }
+        return domain;
     }
 }
\ No newline at end of file
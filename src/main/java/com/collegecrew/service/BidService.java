@@ -0,0 +1,106 @@
+package com.collegecrew.service;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.PlaceBidRequest;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.Job;
+import com.collegecrew.event.BidPlacedEvent;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.money.Money;
+import com.collegecrew.outbox.OutboxService;
+import com.collegecrew.repository.ArchivedBidRepository;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class BidService {
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ArchivedBidRepository archivedBidRepository;
+
+    /**
+     * Place a bid on an open job of the bidder's college
+     * @param user Authenticated bidder
+     * @param jobId Job to bid on
+     * @param request Bid details (amount, proposal)
+     * @return BidResponse of the placed bid
+     * @throws RuntimeException if the job is not biddable or the request is invalid
+     */
+    @Transactional
+    public BidResponse placeBid(AuthenticatedUser user, Long jobId, PlaceBidRequest request) {
+        Money amount = request.getAmount() == null ? Money.ZERO : Money.of(request.getAmount());
+        if (!amount.isPositive()) {
+            throw new RuntimeException("Amount must be positive");
+        }
+        // Share lock: a concurrent assignment or expiry waits for this bid, or this check sees its result
+        Job job = jobRepository.findForBiddingByIdAndCollegeId(jobId, user.getCollegeId())
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!"OPEN".equals(job.getStatus())) {
+            throw new RuntimeException("Job is not open for bidding");
+        }
+        if (job.getBiddingClosesAt() != null && !LocalDateTime.now().isBefore(job.getBiddingClosesAt())) {
+            throw new RuntimeException("Bidding has closed");
+        }
+        if (job.getPoster().getId().equals(user.getUserId())) {
+            throw new RuntimeException("Cannot bid on your own job");
+        }
+
+        Bid bid = bidRepository.save(Bid.builder()
+                .job(job)
+                .college(job.getCollege())
+                .bidder(userRepository.getReferenceById(user.getUserId()))
+                .amount(amount)
+                .proposal(request.getProposal())
+                .build());
+
+        outboxService.record(OutboxService.AGGREGATE_JOB, jobId, "BidPlaced", Map.of(
+                "bidId", bid.getId(),
+                "jobId", jobId,
+                "bidderId", user.getUserId(),
+                "posterId", job.getPoster().getId(),
+                "amount", amount.toBigDecimal()));
+        eventPublisher.publishEvent(CollegeStatsDelta.bidPlaced(user.getCollegeId()));
+        eventPublisher.publishEvent(new BidPlacedEvent(jobId, user.getCollegeId()));
+
+        return new BidResponse(bid.getId(), jobId, user.getUserId(), user.getAlias(), amount,
+                bid.getProposal(), bid.getStatus(), bid.getCreatedAt());
+    }
+
+    /**
+     * List bids on a job of the caller's college, falling back to the archive for
+     * archived jobs
+     * @param jobId Job ID
+     * @param collegeId College of the caller
+     * @return Bids, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<BidResponse> getBids(Long jobId, Long collegeId) {
+        List<BidResponse> bids = bidRepository.findResponsesByJob(jobId, collegeId);
+        return bids.isEmpty() ? archivedBidRepository.findResponsesByJob(jobId, collegeId) : bids;
+    }
+}
@@ -0,0 +1,91 @@
+package com.collegecrew.service;
+
+import com.collegecrew.event.CollegeStatsDelta;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of one college: the last checkpointed values plus the deltas applied
+ * on this node since. Reads are O(1) and lock-free; writers never contend on a
+ * shared cell thanks to {@link LongAdder}.
+ */
+class CollegeCounters {
+
+    static final int OPEN_JOBS = 0;
+    static final int JOBS = 1;
+    static final int BUDGET_CENTS = 2;
+    static final int BIDS = 3;
+    static final int COMPLETED_TRANSACTIONS = 4;
+    static final int TRANSACTION_VOLUME_CENTS = 5;
+    static final int SIZE = 6;
+
+    private final AtomicLongArray base = new AtomicLongArray(SIZE);
+    private final LongAdder[] pending = new LongAdder[SIZE];
+
+    CollegeCounters() {
+        for (int i = 0; i < SIZE; i++) {
+            pending[i] = new LongAdder();
+        }
+    }
+
+    void apply(CollegeStatsDelta delta) {
+        add(OPEN_JOBS, delta.getOpenJobs());
+        add(JOBS, delta.getJobs());
+        add(BUDGET_CENTS, delta.getBudgetCents());
+        add(BIDS, delta.getBids());
+        add(COMPLETED_TRANSACTIONS, delta.getCompletedTransactions());
+        add(TRANSACTION_VOLUME_CENTS, delta.getTransactionVolumeCents());
+    }
+
+    long get(int counter) {
+        return base.get(counter) + pending[counter].sum();
+    }
+
+    /**
+     * Move pending deltas into the base and return them for checkpointing. Concurrent
+     * additions are never lost: they either land in the drained value or stay pending.
+     * @return Drained deltas, or null if there were none
+     */
+    long[] drain() {
+        long[] drained = new long[SIZE];
+        boolean any = false;
+        for (int i = 0; i < SIZE; i++) {
+            long value = pending[i].sum();
+            if (value != 0) {
+                base.addAndGet(i, value);
+                pending[i].add(-value);
+                drained[i] = value;
+                any = true;
+            }
+        }
+        return any ? drained : null;
+    }
+
+    /**
+     * Put back deltas whose checkpoint failed
+     */
+    void restore(long[] drained) {
+        for (int i = 0; i < SIZE; i++) {
+            if (drained[i] != 0) {
+                pending[i].add(drained[i]);
+                base.addAndGet(i, -drained[i]);
+            }
+        }
+    }
+
+    /**
+     * Replace the base with checkpointed values; pending deltas are kept on top
+     */
+    void reset(long[] values) {
+        for (int i = 0; i < SIZE; i++) {
+            base.set(i, values[i]);
+        }
+    }
+
+    private void add(int counter, long value) {
+        if (value != 0) {
+            pending[counter].add(value);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.collegecrew.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps an email address to the canonical domain of its college, or rejects it as not
+ * academic, using the allowlist at {@code college.domains-location}.
+ *
+ * The list is compiled at startup into a trie of reversed domain labels
+ * ({@code edu -> mit -> cs}). Each node keeps its children in a sorted array, so a
+ * lookup walks the email from its last character backwards, binary-searching each
+ * label in place: no substrings, no lowercase copies, no map entries. Only a
+ * resolved domain that is not itself a list entry (a college below a {@code *.suffix}
+ * rule) allocates its result string.
+ *
+ * Entries are either a college domain, which also covers its subdomains, or a
+ * {@code *.suffix} rule under which every domain one label deep is a college. The
+ * longest matching entry wins, so {@code cs.mit.edu} resolves to {@code mit.edu}.
+ */
+@Service
+public class CollegeDomainResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(CollegeDomainResolver.class);
+
+    private static final int MAX_LABEL_LENGTH = 63;
+
+    @Value("${college.domains-location:classpath:colleges/domains.txt}")
+    private Resource domainsLocation;
+
+    private Node root = new Node();
+
+    @PostConstruct
+    void load() {
+        Builder builder = new Builder();
+        int entries = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(domainsLocation.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim().toLowerCase(Locale.ROOT);
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                builder.add(line);
+                entries++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read college domains from " + domainsLocation, e);
+        }
+        this.root = builder.build();
+        log.info("Loaded {} college domain entries", entries);
+    }
+
+    /**
+     * Resolve the college of an email address
+     * @param email Email address
+     * @return Canonical lowercase college domain, or null if the address has no
+     *         domain or its domain is not on the academic allowlist
+     */
+    public String resolve(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        if (at <= 0 || at == email.length() - 1) {
+            return null;
+        }
+        Node node = root;
+        // Best match so far: a college entry, or the start of the label below a suffix rule
+        String college = null;
+        int collegeStart = -1;
+        int end = email.length();
+        while (end > at + 1) {
+            int start = end;
+            while (start > at + 1 && email.charAt(start - 1) != '.') {
+                start--;
+            }
+            if (!isValidLabel(email, start, end)) {
+                return null;
+            }
+            if (node.wildcard) {
+                college = null;
+                collegeStart = start;
+            }
+            Node child = node.child(email, start, end);
+            if (child == null) {
+                break;
+            }
+            node = child;
+            if (node.college != null) {
+                college = node.college;
+                collegeStart = -1;
+            }
+            end = start - 1;
+        }
+        // Every remaining label must still be well formed, e.g. no "cs..mit.edu"
+        for (int labelEnd = end; labelEnd > at + 1; ) {
+            int start = labelEnd;
+            while (start > at + 1 && email.charAt(start - 1) != '.') {
+                start--;
+            }
+            if (!isValidLabel(email, start, labelEnd)) {
+                return null;
+            }
+            labelEnd = start - 1;
+        }
+        if (college != null) {
+            return college;
+        }
+        if (collegeStart < 0) {
+            return null;
+        }
+        String domain = email.substring(collegeStart);
+        return isLowerCase(domain) ? domain : domain.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isValidLabel(String text, int start, int end) {
+        int length = end - start;
+        if (length == 0 || length > MAX_LABEL_LENGTH || text.charAt(start) == '-' || text.charAt(end - 1) == '-') {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowerCase(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compare a label with the ASCII-case-insensitive region [start, end) of text
+     */
+    private static int compare(String label, String text, int start, int end) {
+        int length = Math.min(label.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(start + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (label.charAt(i) != c) {
+                return label.charAt(i) - c;
+            }
+        }
+        return label.length() - (end - start);
+    }
+
+    private static final class Node {
+        private String[] labels = new String[0];
+        private Node[] children = new Node[0];
+        // Canonical domain when this node is a college entry
+        private String college;
+        // Every label below this node is a college
+        private boolean wildcard;
+
+        private Node child(String text, int start, int end) {
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(labels[mid], text, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable trie used while loading; frozen into sorted arrays by {@link #build()}
+     */
+    private static final class Builder {
+        private final Map<String, Builder> children = new TreeMap<>();
+        private String college;
+        private boolean wildcard;
+
+        private void add(String entry) {
+            boolean isWildcard = entry.startsWith("*.");
+            String domain = isWildcard ? entry.substring(2) : entry;
+            String[] labels = domain.split("\\.");
+            for (String label : labels) {
+                if (!isValidLabel(label, 0, label.length())) {
+                    throw new IllegalArgumentException("Invalid college domain entry: " + entry);
+                }
+            }
+            Builder node = this;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(labels[i], label -> new Builder());
+            }
+            if (isWildcard) {
+                node.wildcard = true;
+            } else {
+                node.college = domain;
+            }
+        }
+
+        private Node build() {
+            Node node = new Node();
+            node.college = college;
+            node.wildcard = wildcard;
+            // TreeMap orders keys by char value, the same order compare() searches in
+            node.labels = children.keySet().toArray(new String[0]);
+            node.children = new Node[node.labels.length];
+            int i = 0;
+            for (Builder child : children.values()) {
+                node.children[i++] = child.build();
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.collegecrew.service;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.ActivityCounts;
+import com.collegecrew.dto.DashboardResponse;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds the "my activity" dashboard from six projection queries (one count query over
+ * the live and archive tables and one per slice), each an index range scan, instead of
+ * walking the lazy collections of {@code User}. Results are cached per user for the {@code expireAfterWrite} of
+ * {@code spring.cache.caffeine.spec}, so the dashboard may lag writes by that long.
+ */
+@Service
+public class DashboardService {
+
+    public static final String CACHE_NAME = "dashboard";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Value("${dashboard.recent-limit:5}")
+    private int recentLimit;
+
+    /**
+     * Get counts and the most recent entries of the user's jobs, bids and transactions
+     * @param user Authenticated user
+     * @return Dashboard of the user
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#user.userId")
+    @Transactional(readOnly = true)
+    public DashboardResponse getDashboard(AuthenticatedUser user) {
+        Long userId = user.getUserId();
+        Long collegeId = user.getCollegeId();
+        Pageable recent = PageRequest.of(0, recentLimit);
+        ActivityCounts counts = userRepository.findActivityCounts(userId, collegeId);
+        return new DashboardResponse(userId,
+                new DashboardResponse.Slice<>(counts.getPostedJobs(),
+                        jobRepository.findRecentByPoster(userId, collegeId, recent)),
+                new DashboardResponse.Slice<>(counts.getAssignedJobs(),
+                        jobRepository.findRecentByAssignee(userId, collegeId, recent)),
+                new DashboardResponse.Slice<>(counts.getBids(),
+                        bidRepository.findRecentByBidder(userId, collegeId, recent)),
+                new DashboardResponse.Slice<>(counts.getPayments(),
+                        transactionRepository.findRecentByPayer(userId, recent)),
+                new DashboardResponse.Slice<>(counts.getEarnings(),
+                        transactionRepository.findRecentByPayee(userId, recent)));
+    }
+}
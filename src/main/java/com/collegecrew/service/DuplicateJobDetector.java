@@ -0,0 +1,246 @@
+package com.collegecrew.service;
+
+import com.collegecrew.event.JobCreatedEvent;
+import com.collegecrew.repository.CollegeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Finds open jobs that a new job nearly duplicates, typically a poster re-posting the
+ * same job with a few words edited.
+ *
+ * Open jobs are kept in an in-memory {@link JobSimilarityIndex} (MinHash signatures
+ * in LSH buckets per college), so a lookup costs a signature and a few bucket probes
+ * rather than a comparison with every open job. Committed jobs are added as they are
+ * created, and the whole index is rebuilt from the open jobs of every college at
+ * startup and every {@code duplicates.rebuild-interval-ms}, which drops jobs that
+ * have since closed. Before a match is reported, one primary-key read confirms the
+ * matched job is still open; stale entries found that way are removed at once.
+ *
+ * Matching is tuned by {@code duplicates.threshold} (estimated Jaccard similarity of
+ * the word and word-pair sets) and {@code duplicates.bands} x {@code duplicates.rows}
+ * (signature layout; pairs well below the threshold are rarely even compared).
+ *
+ * Metrics: {@code collegecrew.duplicates.indexed} (gauge),
+ * {@code collegecrew.duplicates.found} (counter) and
+ * {@code collegecrew.duplicates.lookup} (timer).
+ */
+@Service
+public class DuplicateJobDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateJobDetector.class);
+
+    private static final String OPEN_JOBS_SQL =
+            "SELECT id, poster_id, title, description FROM jobs " +
+            "WHERE college_id = ? AND status = 'OPEN' AND id > ? ORDER BY id LIMIT ?";
+    private static final String IS_OPEN_SQL =
+            "SELECT COUNT(*) FROM jobs WHERE id = ? AND college_id = ? AND status = 'OPEN'";
+    // A stale match is removed and the lookup retried at most this many times
+    private static final int MAX_STALE_MATCHES = 3;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${duplicates.enabled:true}")
+    private boolean enabled;
+
+    @Value("${duplicates.threshold:0.8}")
+    private double threshold;
+
+    @Value("${duplicates.bands:12}")
+    private int bands;
+
+    @Value("${duplicates.rows:6}")
+    private int rows;
+
+    @Value("${duplicates.batch-size:5000}")
+    private int batchSize;
+
+    // Swapped by rebuild(); reads and writes of either index hold the detector's lock
+    private JobSimilarityIndex index;
+    private JobSimilarityIndex rebuilding;
+
+    private Counter foundCounter;
+    private Timer lookupTimer;
+
+    @PostConstruct
+    void init() {
+        this.index = new JobSimilarityIndex(bands, rows, 1024);
+        this.foundCounter = meterRegistry.counter("collegecrew.duplicates.found");
+        this.lookupTimer = meterRegistry.timer("collegecrew.duplicates.lookup");
+        Gauge.builder("collegecrew.duplicates.indexed", this, DuplicateJobDetector::indexedCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find the open job of a college that a new job's text nearly duplicates
+     * @param collegeId College of the new job
+     * @param title Title of the new job
+     * @param description Description of the new job
+     * @return Most similar open job at or above the threshold, or null
+     */
+    public Duplicate findDuplicate(Long collegeId, String title, String description) {
+        if (!enabled) {
+            return null;
+        }
+        return lookupTimer.record(() -> {
+            int[] signature = currentIndex().signature(title + " " + description);
+            if (signature == null) {
+                return null;
+            }
+            for (int attempt = 0; attempt < MAX_STALE_MATCHES; attempt++) {
+                JobSimilarityIndex searched;
+                JobSimilarityIndex.Match match;
+                synchronized (this) {
+                    searched = index;
+                    match = searched.find(collegeId, signature, threshold);
+                }
+                if (match == null) {
+                    return null;
+                }
+                if (isOpen(match.jobId(), collegeId)) {
+                    foundCounter.increment();
+                    return new Duplicate(match.jobId(), match.posterId(), match.similarity());
+                }
+                synchronized (this) {
+                    searched.remove(match.slot());
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Index a job once it is committed
+     * @param event Job creation event
+     */
+    @TransactionalEventListener
+    public void onJobCreated(JobCreatedEvent event) {
+        index(event.getJobId(), event.getCollegeId(), event.getPosterId(), event.getTitle(), event.getDescription());
+    }
+
+    /**
+     * Add an open job to the index
+     * @param jobId Job ID
+     * @param collegeId College of the job
+     * @param posterId Poster of the job
+     * @param title Job title
+     * @param description Job description
+     */
+    public void index(Long jobId, Long collegeId, Long posterId, String title, String description) {
+        if (!enabled) {
+            return;
+        }
+        int[] signature = currentIndex().signature(title + " " + description);
+        if (signature == null) {
+            return;
+        }
+        synchronized (this) {
+            index.add(jobId, collegeId, posterId, signature);
+            // Jobs committed while a rebuild is scanning may fall behind its cursor
+            if (rebuilding != null) {
+                rebuilding.add(jobId, collegeId, posterId, signature);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the index from the open jobs of every college, in pages of
+     * {@code duplicates.batch-size} per college, and swap it in
+     */
+    @Scheduled(fixedDelayString = "${duplicates.rebuild-interval-ms:3600000}",
+               initialDelayString = "${duplicates.initial-delay-ms:0}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        JobSimilarityIndex fresh;
+        synchronized (this) {
+            fresh = new JobSimilarityIndex(bands, rows, Math.max(1024, index.size()));
+            rebuilding = fresh;
+        }
+        try {
+            long afterCollegeId = 0;
+            List<Long> collegeIds;
+            while (!(collegeIds = collegeRepository.findIdsAfter(afterCollegeId, PageRequest.of(0, 100))).isEmpty()) {
+                for (Long collegeId : collegeIds) {
+                    indexCollege(fresh, collegeId);
+                }
+                afterCollegeId = collegeIds.get(collegeIds.size() - 1);
+            }
+            synchronized (this) {
+                index = fresh;
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+        log.info("Duplicate index rebuilt with {} open jobs in {} ms", fresh.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void indexCollege(JobSimilarityIndex fresh, Long collegeId) {
+        long afterId = 0;
+        while (true) {
+            List<Object[]> page = jdbcTemplate.query(OPEN_JOBS_SQL, (rs, rowNum) -> new Object[]{
+                    rs.getLong(1), rs.getLong(2), rs.getString(3) + " " + rs.getString(4)
+            }, collegeId, afterId, batchSize);
+            if (page.isEmpty()) {
+                return;
+            }
+            for (Object[] row : page) {
+                int[] signature = fresh.signature((String) row[2]);
+                if (signature != null) {
+                    synchronized (this) {
+                        fresh.add((Long) row[0], collegeId, (Long) row[1], signature);
+                    }
+                }
+            }
+            afterId = (Long) page.get(page.size() - 1)[0];
+        }
+    }
+
+    private boolean isOpen(long jobId, Long collegeId) {
+        Long count = jdbcTemplate.queryForObject(IS_OPEN_SQL, Long.class, jobId, collegeId);
+        return count != null && count > 0;
+    }
+
+    private synchronized JobSimilarityIndex currentIndex() {
+        return index;
+    }
+
+    private synchronized int indexedCount() {
+        return index.size();
+    }
+
+    /**
+     * Open job that a new job nearly duplicates
+     * @param jobId Existing open job
+     * @param posterId Poster of the existing job
+     * @param similarity Estimated Jaccard similarity of the two texts, in [0, 1]
+     */
+    public record Duplicate(long jobId, long posterId, double similarity) {
+    }
+}
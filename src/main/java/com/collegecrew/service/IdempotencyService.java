@@ -0,0 +1,259 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.IdempotencyRecord;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Store behind the {@code Idempotency-Key} header. A completed response is kept in a
+ * bounded Caffeine cache (at most {@code idempotency.cache-max-bytes} of bodies) in
+ * front of the {@code idempotency_keys} table, so a retry is normally answered from
+ * memory and, after a restart or on another node, with one indexed read.
+ *
+ * Requests with the same key are serialized in two steps. On one node, the first
+ * request registers an in-flight future and later ones wait up to
+ * {@code idempotency.wait-ms} for its response. Across nodes, the first request
+ * claims the key by inserting an IN_PROGRESS row; the unique constraint makes every
+ * other node see the claim and answer 409. A claim older than
+ * {@code idempotency.lock-timeout-ms} is assumed abandoned by a crashed node and may be
+ * taken over. Keys expire after {@code idempotency.ttl-hours}.
+ *
+ * Metrics: {@code collegecrew.idempotency.replayed}, {@code collegecrew.idempotency.conflicts}.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, status, created_at, expires_at) " +
+            "VALUES (?, ?, ?, '" + IdempotencyRecord.STATUS_IN_PROGRESS + "', ?, ?)";
+    private static final String RECLAIM_SQL =
+            "UPDATE idempotency_keys SET status = '" + IdempotencyRecord.STATUS_IN_PROGRESS + "', request_hash = ?, " +
+            "response_status = NULL, response_content_type = NULL, response_etag = NULL, response_body = NULL, " +
+            "created_at = ?, expires_at = ? WHERE scope = ? AND idempotency_key = ? " +
+            "AND ((status = '" + IdempotencyRecord.STATUS_COMPLETED + "' AND expires_at < ?) " +
+            "OR (status = '" + IdempotencyRecord.STATUS_IN_PROGRESS + "' AND created_at < ?))";
+    private static final String FIND_SQL =
+            "SELECT request_hash, status, response_status, response_content_type, response_etag, response_body " +
+            "FROM idempotency_keys WHERE scope = ? AND idempotency_key = ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_keys SET status = '" + IdempotencyRecord.STATUS_COMPLETED + "', response_status = ?, " +
+            "response_content_type = ?, response_etag = ?, response_body = ? WHERE scope = ? AND idempotency_key = ?";
+    private static final String ABANDON_SQL =
+            "DELETE FROM idempotency_keys WHERE scope = ? AND idempotency_key = ? " +
+            "AND status = '" + IdempotencyRecord.STATUS_IN_PROGRESS + "'";
+    private static final String PURGE_SQL = "DELETE FROM idempotency_keys WHERE expires_at < ?";
+
+    public enum Outcome {
+        /** The caller owns the key and must run the handler, then complete or abandon */
+        EXECUTE,
+        /** A response is stored; replay it */
+        REPLAY,
+        /** Another request with this key is still running */
+        IN_PROGRESS,
+        /** The key was used for a different request */
+        MISMATCH
+    }
+
+    /**
+     * Response captured for replay
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String eTag, byte[] body) {
+    }
+
+    /**
+     * Outcome of {@link #begin}, with the stored response when it is REPLAY
+     */
+    public record Claim(Outcome outcome, StoredResponse response) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private int ttlHours;
+
+    @Value("${idempotency.cache-max-bytes:16777216}")
+    private long cacheMaxBytes;
+
+    @Value("${idempotency.lock-timeout-ms:30000}")
+    private long lockTimeoutMillis;
+
+    @Value("${idempotency.wait-ms:5000}")
+    private long waitMillis;
+
+    private Cache<String, StoredResponse> responses;
+    private final ConcurrentMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private Counter replayed;
+    private Counter conflicts;
+
+    @PostConstruct
+    void init() {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String key, StoredResponse response) -> 256 + response.body().length)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+        this.replayed = meterRegistry.counter("collegecrew.idempotency.replayed");
+        this.conflicts = meterRegistry.counter("collegecrew.idempotency.conflicts");
+    }
+
+    /**
+     * Look up a key and claim it if it is unused
+     * @param scope Caller the key belongs to
+     * @param key Client-supplied idempotency key
+     * @param requestHash Fingerprint of the request
+     * @return EXECUTE if the caller now owns the key, otherwise what to answer instead
+     */
+    public Claim begin(String scope, String key, String requestHash) {
+        String cacheKey = scope + ':' + key;
+        StoredResponse cached = responses.getIfPresent(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            return awaitRunning(running, requestHash);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Timestamp expiresAt = Timestamp.valueOf(now.plusHours(ttlHours));
+        StoredResponse stored;
+        try {
+            try {
+                jdbcTemplate.update(CLAIM_SQL, scope, key, requestHash, createdAt, expiresAt);
+                return new Claim(Outcome.EXECUTE, null);
+            } catch (DuplicateKeyException e) {
+                // Key seen before: take it over if it expired or its owner died, else answer from the row
+            }
+            Timestamp staleBefore = Timestamp.valueOf(now.minus(Duration.ofMillis(lockTimeoutMillis)));
+            if (jdbcTemplate.update(RECLAIM_SQL, requestHash, createdAt, expiresAt, scope, key, createdAt, staleBefore) == 1) {
+                return new Claim(Outcome.EXECUTE, null);
+            }
+            stored = find(scope, key);
+        } catch (RuntimeException e) {
+            // Nobody owns the key: without this, later requests with it would wait on a future that never completes
+            release(cacheKey, mine, null);
+            throw e;
+        }
+        release(cacheKey, mine, stored);
+        if (stored == null) {
+            conflicts.increment();
+            return new Claim(Outcome.IN_PROGRESS, null);
+        }
+        responses.put(cacheKey, stored);
+        return replay(stored, requestHash);
+    }
+
+    /**
+     * Store the response of a request that owned its key
+     * @param scope Caller the key belongs to
+     * @param key Idempotency key
+     * @param response Captured response
+     */
+    public void complete(String scope, String key, StoredResponse response) {
+        String cacheKey = scope + ':' + key;
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.eTag(), response.body(),
+                scope, key);
+        responses.put(cacheKey, response);
+        release(cacheKey, inFlight.get(cacheKey), response);
+    }
+
+    /**
+     * Give up a claimed key without storing a response, so the request can be retried
+     * @param scope Caller the key belongs to
+     * @param key Idempotency key
+     */
+    public void abandon(String scope, String key) {
+        String cacheKey = scope + ':' + key;
+        try {
+            jdbcTemplate.update(ABANDON_SQL, scope, key);
+        } finally {
+            release(cacheKey, inFlight.get(cacheKey), null);
+        }
+    }
+
+    /**
+     * Delete expired keys
+     * @return Number of keys deleted
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}",
+               initialDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+        return purged;
+    }
+
+    private Claim awaitRunning(CompletableFuture<StoredResponse> running, String requestHash) {
+        try {
+            StoredResponse response = running.get(waitMillis, TimeUnit.MILLISECONDS);
+            if (response != null) {
+                return replay(response, requestHash);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Fall through: the client retries later
+        }
+        conflicts.increment();
+        return new Claim(Outcome.IN_PROGRESS, null);
+    }
+
+    private Claim replay(StoredResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            return new Claim(Outcome.MISMATCH, null);
+        }
+        replayed.increment();
+        return new Claim(Outcome.REPLAY, response);
+    }
+
+    private StoredResponse find(String scope, String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) ->
+                IdempotencyRecord.STATUS_COMPLETED.equals(rs.getString("status"))
+                        ? new StoredResponse(rs.getString("request_hash"), rs.getInt("response_status"),
+                                rs.getString("response_content_type"), rs.getString("response_etag"),
+                                rs.getBytes("response_body") != null ? rs.getBytes("response_body") : new byte[0])
+                        : null,
+                scope, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void release(String cacheKey, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (future != null) {
+            inFlight.remove(cacheKey, future);
+            future.complete(response);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.JobRef;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Expires open jobs whose deadline has passed and rejects their pending bids.
+ *
+ * Works in chunks of {@code job.lifecycle.batch-size} jobs: each chunk is one short
+ * transaction of set-based UPDATEs (no entities are loaded), followed by a pause of
+ * {@code job.lifecycle.pause-ms} so row locks are never held for long and foreground
+ * traffic can interleave. All updates are guarded by the current status, so several
+ * nodes may run the processor concurrently.
+ *
+ * Metrics: {@code collegecrew.jobs.expired}, {@code collegecrew.bids.auto_rejected},
+ * {@code collegecrew.jobs.lifecycle.chunks}, {@code collegecrew.jobs.lifecycle.run}
+ * and {@code collegecrew.jobs.lifecycle.last_success}.
+ */
+@Service
+public class JobLifecycleProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLifecycleProcessor.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter expiredJobs;
+    private Counter rejectedBids;
+    private Counter chunks;
+    private Timer runTimer;
+    private final AtomicLong lastSuccessEpochSeconds = new AtomicLong();
+
+    @Value("${job.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.lifecycle.pause-ms:200}")
+    private long pauseMillis;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiredJobs = meterRegistry.counter("collegecrew.jobs.expired");
+        this.rejectedBids = meterRegistry.counter("collegecrew.bids.auto_rejected");
+        this.chunks = meterRegistry.counter("collegecrew.jobs.lifecycle.chunks");
+        this.runTimer = meterRegistry.timer("collegecrew.jobs.lifecycle.run");
+        meterRegistry.gauge("collegecrew.jobs.lifecycle.last_success", lastSuccessEpochSeconds);
+    }
+
+    /**
+     * Expire every overdue open job, one chunk at a time
+     * @return Number of jobs expired by this run
+     */
+    @Scheduled(fixedDelayString = "${job.lifecycle.interval-ms:60000}",
+               initialDelayString = "${job.lifecycle.initial-delay-ms:30000}")
+    public long expireOverdueJobs() {
+        return runTimer.record(() -> {
+            LocalDateTime cutoff = LocalDateTime.now();
+            long total = 0;
+            while (true) {
+                List<JobRef> chunk = jobRepository.findOverdueOpenJobs(cutoff, PageRequest.of(0, batchSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                total += expireChunk(chunk);
+                if (chunk.size() < batchSize || !pause()) {
+                    break;
+                }
+            }
+            lastSuccessEpochSeconds.set(System.currentTimeMillis() / 1000);
+            if (total > 0) {
+                log.info("Expired {} overdue jobs", total);
+            }
+            return total;
+        });
+    }
+
+    private int expireChunk(List<JobRef> chunk) {
+        Set<Long> jobIds = chunk.stream().map(JobRef::getJobId).collect(Collectors.toSet());
+        Map<Long, Set<Long>> jobIdsByCollege = chunk.stream().collect(Collectors.groupingBy(
+                JobRef::getCollegeId, Collectors.mapping(JobRef::getJobId, Collectors.toSet())));
+        Integer expired = transactionTemplate.execute(status -> {
+            // One UPDATE per college: exact per-college counts for the stats, one partition each
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> changedColleges = new HashSet<>();
+            int jobs = 0;
+            for (Map.Entry<Long, Set<Long>> college : jobIdsByCollege.entrySet()) {
+                int count = jobRepository.expireOpenJobs(Set.of(college.getKey()), college.getValue(), now);
+                if (count > 0) {
+                    changedColleges.add(college.getKey());
+                    eventPublisher.publishEvent(CollegeStatsDelta.jobsClosed(college.getKey(), count));
+                    jobs += count;
+                }
+            }
+            if (jobs == 0) {
+                return 0;
+            }
+            rejectedBids.increment(bidRepository.rejectPendingBids(changedColleges, jobIds));
+            collegeRepository.incrementFeedVersions(changedColleges);
+            return jobs;
+        });
+        chunks.increment();
+        expiredJobs.increment(expired);
+        return expired;
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.collegecrew.service;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.CreateJobRequest;
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.entity.Job;
+import com.collegecrew.event.JobCreatedEvent;
+import com.collegecrew.outbox.OutboxService;
+import com.collegecrew.repository.ArchivedJobRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+public class JobService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ArchivedJobRepository archivedJobRepository;
+
+    @Autowired
+    private AuctionCloseProcessor auctionCloseProcessor;
+
+    @Autowired
+    private DuplicateJobDetector duplicateJobDetector;
+
+    @Value("${job.lifecycle.default-lifetime-days:30}")
+    private int defaultLifetimeDays;
+
+    @Value("${duplicates.reject-reposts:true}")
+    private boolean rejectReposts;
+
+    /**
+     * Post a new job in the poster's college. A job that nearly duplicates an open job
+     * of the college is flagged with {@code duplicateOfId}; if that job is the poster's
+     * own, the repost is rejected instead (unless {@code duplicates.reject-reposts} is off).
+     * @param user Authenticated poster
+     * @param request Job details
+     * @return JobResponse of the created job
+     * @throws RuntimeException if the request is invalid, re-posts the poster's open job, or the
+     *         college is being deleted
+     */
+    @Transactional
+    public JobResponse createJob(AuthenticatedUser user, CreateJobRequest request) {
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new RuntimeException("Title is required");
+        }
+        if (request.getDescription() == null || request.getDescription().isBlank()) {
+            throw new RuntimeException("Description is required");
+        }
+        if (request.getBudget() == null || request.getBudget().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new RuntimeException("Budget must be positive");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getDeadline() != null && !request.getDeadline().isAfter(now)) {
+            throw new RuntimeException("Deadline must be in the future");
+        }
+        LocalDateTime deadline = request.getDeadline() != null ? request.getDeadline() : now.plusDays(defaultLifetimeDays);
+        if (request.getBiddingClosesAt() != null
+                && (!request.getBiddingClosesAt().isAfter(now) || request.getBiddingClosesAt().isAfter(deadline))) {
+            throw new RuntimeException("Bidding must close in the future and before the deadline");
+        }
+        DuplicateJobDetector.Duplicate duplicate = duplicateJobDetector.findDuplicate(user.getCollegeId(),
+                request.getTitle(), request.getDescription());
+        if (duplicate != null && rejectReposts && duplicate.posterId() == user.getUserId()) {
+            throw new RuntimeException("Job duplicates your open job " + duplicate.jobId());
+        }
+
+        Job job = Job.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .budget(request.getBudget())
+                .deadline(deadline)
+                .biddingClosesAt(request.getBiddingClosesAt())
+                .duplicateOfId(duplicate != null ? duplicate.jobId() : null)
+                .poster(userRepository.getReferenceById(user.getUserId()))
+                .college(collegeRepository.getReferenceById(user.getCollegeId()))
+                .build();
+        Job savedJob = jobRepository.saveAndFlush(job);
+
+        // Every job write in a college must advance its feed watermark; the row lock also orders it against deletion
+        if (collegeRepository.incrementFeedVersion(user.getCollegeId()) == 0) {
+            throw new RuntimeException("College is being deleted");
+        }
+
+        outboxService.record(OutboxService.AGGREGATE_JOB, savedJob.getId(), "JobCreated", Map.of(
+                "jobId", savedJob.getId(),
+                "collegeId", user.getCollegeId(),
+                "posterId", user.getUserId(),
+                "title", savedJob.getTitle(),
+                "budget", savedJob.getBudget()));
+        eventPublisher.publishEvent(new JobCreatedEvent(savedJob.getId(), user.getCollegeId(), user.getUserId(),
+                savedJob.getTitle(), savedJob.getDescription(), savedJob.getBudget()));
+
+        return JobResponse.from(savedJob);
+    }
+
+    /**
+     * Mark an assigned job as done. Its escrow is then released to the assignee by the
+     * settlement processor.
+     * @param user Authenticated poster
+     * @param jobId Job ID
+     * @return Updated job
+     * @throws RuntimeException if the job is not visible, not the caller's or not assigned, or the
+     *         college is being deleted
+     */
+    @Transactional
+    public JobResponse completeJob(AuthenticatedUser user, Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .filter(found -> found.getCollege().getId().equals(user.getCollegeId()))
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getPoster().getId().equals(user.getUserId())) {
+            throw new RuntimeException("Only the poster can complete a job");
+        }
+        if (!"ASSIGNED".equals(job.getStatus())) {
+            throw new RuntimeException("Job is not assigned");
+        }
+        job.setStatus("COMPLETED");
+        Job savedJob = jobRepository.saveAndFlush(job);
+        if (collegeRepository.incrementFeedVersion(user.getCollegeId()) == 0) {
+            throw new RuntimeException("College is being deleted");
+        }
+
+        outboxService.record(OutboxService.AGGREGATE_JOB, jobId, "JobCompleted", Map.of(
+                "jobId", jobId,
+                "collegeId", user.getCollegeId(),
+                "assigneeId", job.getAssignee().getId()));
+        return JobResponse.from(savedJob);
+    }
+
+    /**
+     * Close bidding on an open job and award it to the lowest pending bid, creating its
+     * escrow transaction
+     * @param user Authenticated poster
+     * @param jobId Job ID
+     * @return Updated job, now ASSIGNED to the winning bidder
+     * @throws RuntimeException if the job is not visible, not the caller's, not open, or has no bids
+     */
+    @Transactional
+    public JobResponse closeBidding(AuthenticatedUser user, Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .filter(found -> found.getCollege().getId().equals(user.getCollegeId()))
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getPoster().getId().equals(user.getUserId())) {
+            throw new RuntimeException("Only the poster can close bidding");
+        }
+        if (!"OPEN".equals(job.getStatus())) {
+            throw new RuntimeException("Job is not open for bidding");
+        }
+        if (auctionCloseProcessor.award(List.of(jobId)) == 0) {
+            throw new RuntimeException("Job has no pending bids");
+        }
+        return jobRepository.findResponseByIdAndCollegeId(jobId, user.getCollegeId())
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+    }
+
+    /**
+     * Get the current version of a job without loading it
+     * @param jobId Job ID
+     * @param collegeId College of the caller; jobs of other colleges are invisible
+     * @return Version, or empty if the job does not exist in this college
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getJobVersion(Long jobId, Long collegeId) {
+        return jobRepository.findVersionByIdAndCollegeId(jobId, collegeId)
+                .or(() -> archivedJobRepository.findVersionByIdAndCollegeId(jobId, collegeId));
+    }
+
+    /**
+     * Get a job of a college, from the live table or, once archived, from the archive
+     * @param jobId Job ID
+     * @param collegeId College of the caller; jobs of other colleges are invisible
+     * @return Job, or empty if it does not exist in this college
+     */
+    @Transactional(readOnly = true)
+    public Optional<JobResponse> getJob(Long jobId, Long collegeId) {
+        return jobRepository.findResponseByIdAndCollegeId(jobId, collegeId)
+                .or(() -> archivedJobRepository.findResponseByIdAndCollegeId(jobId, collegeId));
+    }
+
+    /**
+     * Get the view count of a job, from the live table or the archive. Counts lag by up
+     * to one flush interval of {@code JobViewCounter}.
+     * @param jobId Job ID
+     * @param collegeId College of the caller; jobs of other colleges are invisible
+     * @return Flushed view count, or empty if the job does not exist in this college
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getJobViews(Long jobId, Long collegeId) {
+        return jobRepository.findViewsByIdAndCollegeId(jobId, collegeId)
+                .or(() -> archivedJobRepository.findViewsByIdAndCollegeId(jobId, collegeId));
+    }
+
+    /**
+     * Get the feed watermark of a college
+     * @param collegeId College ID
+     * @return Watermark that changes whenever any job in the college changes
+     */
+    @Transactional(readOnly = true)
+    public long getFeedVersion(Long collegeId) {
+        return collegeRepository.findFeedVersionById(collegeId).orElse(0L);
+    }
+
+    /**
+     * Get a page of open jobs in a college, newest first
+     * @param collegeId College ID
+     * @param page Zero-based page number
+     * @param size Page size, capped at 100
+     * @return Jobs on the page
+     */
+    @Transactional(readOnly = true)
+    public List<JobResponse> getOpenFeed(Long collegeId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jobRepository.findOpenFeed(collegeId, PageRequest.of(Math.max(page, 0), pageSize));
+    }
+
+    /**
+     * Get a page of open jobs in a college, most viewed first. View counts lag by up
+     * to one flush interval of {@code JobViewCounter}.
+     * @param collegeId College ID
+     * @param page Zero-based page number
+     * @param size Page size, capped at 100
+     * @return Jobs on the page
+     */
+    @Transactional(readOnly = true)
+    public List<JobResponse> getMostViewedFeed(Long collegeId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jobRepository.findOpenFeedByViews(collegeId, PageRequest.of(Math.max(page, 0), pageSize));
+    }
+}
@@ -0,0 +1,297 @@
+package com.collegecrew.service;
+
+import java.util.Arrays;
+
+/**
+ * MinHash signatures of job texts in a locality-sensitive hash (LSH) index, so the
+ * near-duplicates of a new job are found by probing a few buckets instead of
+ * comparing it with every open job.
+ *
+ * Text is shingled into lowercase words and adjacent word pairs, each hashed once to
+ * 64 bits. A signature holds, for each of {@code bands * rows} hash functions, the
+ * minimum hash over the shingles; two texts agree on a position with probability
+ * equal to the Jaccard similarity of their shingle sets. Each band of {@code rows}
+ * positions is hashed together with the college id into one bucket key, so two jobs
+ * become candidates when they share a college and at least one whole band. A
+ * candidate matches when the estimated similarity reaches the caller's threshold.
+ *
+ * Everything lives in primitive arrays: per entry the job, college and poster ids and
+ * the low byte of each signature position (b-bit MinHash), a next-pointer per band,
+ * and one open-addressing table of bucket heads. Removed entries stay in their chains
+ * and are skipped until the index is rebuilt. Not thread-safe; callers synchronise on
+ * the instance.
+ */
+class JobSimilarityIndex {
+
+    /**
+     * Candidates verified per lookup at most, bounding the cost of a bucket flooded by
+     * the same text posted over and over
+     */
+    static final int MAX_CANDIDATES = 512;
+
+    private static final int REMOVED = -1;
+    private static final int EMPTY = -1;
+    // Chance that two unrelated positions agree on their low byte
+    private static final double BYTE_COLLISION = 1.0 / 256;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    private long[] jobIds;
+    private long[] collegeIds;
+    private long[] posterIds;
+    private byte[] signatures;
+    private int[] next;
+    private int size;
+
+    private int[] bucketKeys;
+    private int[] bucketHeads;
+    private int buckets;
+
+    /**
+     * @param bands Number of bands; more bands find less similar pairs
+     * @param rows Signature positions per band; more rows make each band stricter
+     * @param expectedSize Entries to allocate for up front
+     */
+    JobSimilarityIndex(int bands, int rows, int expectedSize) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("bands and rows must be positive");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = mix(0x5DEECE66DL + i * 0x9E3779B97F4A7C15L);
+        }
+        int capacity = Math.max(16, expectedSize);
+        jobIds = new long[capacity];
+        collegeIds = new long[capacity];
+        posterIds = new long[capacity];
+        signatures = new byte[capacity * seeds.length];
+        next = new int[capacity * bands];
+        int tableSize = Integer.highestOneBit(Math.max(16, capacity * bands * 4 / 3 - 1)) << 1;
+        bucketKeys = new int[tableSize];
+        bucketHeads = new int[tableSize];
+        Arrays.fill(bucketHeads, EMPTY);
+    }
+
+    /**
+     * Compute the MinHash signature of a text. Thread-safe.
+     * @param text Job title and description
+     * @return Signature, or null if the text has no words
+     */
+    int[] signature(String text) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        long word = FNV_OFFSET;
+        long previous = 0;
+        boolean inWord = false;
+        boolean hasPrevious = false;
+        boolean empty = true;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word = (word ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (!inWord) {
+                continue;
+            }
+            addShingle(signature, word);
+            if (hasPrevious) {
+                addShingle(signature, mix(previous * 31 + word));
+            }
+            previous = word;
+            hasPrevious = true;
+            empty = false;
+            word = FNV_OFFSET;
+            inWord = false;
+        }
+        return empty ? null : signature;
+    }
+
+    /**
+     * Add a job
+     * @param jobId Job ID
+     * @param collegeId College of the job; only jobs of the same college match
+     * @param posterId Poster of the job
+     * @param signature Signature from {@link #signature}
+     * @return Slot of the new entry
+     */
+    int add(long jobId, long collegeId, long posterId, int[] signature) {
+        if (size == jobIds.length) {
+            grow();
+        }
+        int slot = size++;
+        jobIds[slot] = jobId;
+        collegeIds[slot] = collegeId;
+        posterIds[slot] = posterId;
+        int offset = slot * seeds.length;
+        for (int i = 0; i < seeds.length; i++) {
+            signatures[offset + i] = (byte) signature[i];
+        }
+        for (int band = 0; band < bands; band++) {
+            int bucket = bucketFor(bandKey(collegeId, signature, band));
+            next[slot * bands + band] = bucketHeads[bucket];
+            bucketHeads[bucket] = slot;
+        }
+        return slot;
+    }
+
+    /**
+     * Find the most similar job of a college
+     * @param collegeId College ID
+     * @param signature Signature of the new job's text
+     * @param threshold Minimum estimated Jaccard similarity
+     * @return Best match at or above the threshold, or null
+     */
+    Match find(long collegeId, int[] signature, double threshold) {
+        int best = -1;
+        double bestSimilarity = threshold;
+        int verified = 0;
+        for (int band = 0; band < bands && verified < MAX_CANDIDATES; band++) {
+            int bucket = findBucket(bandKey(collegeId, signature, band));
+            if (bucket < 0) {
+                continue;
+            }
+            for (int slot = bucketHeads[bucket]; slot != EMPTY && verified < MAX_CANDIDATES;
+                 slot = next[slot * bands + band]) {
+                if (jobIds[slot] == REMOVED || collegeIds[slot] != collegeId) {
+                    continue;
+                }
+                verified++;
+                double similarity = similarity(slot, signature);
+                // Ties go to the newest entry
+                if (similarity > bestSimilarity || (similarity == bestSimilarity && slot > best)) {
+                    best = slot;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best < 0 ? null : new Match(best, jobIds[best], posterIds[best], bestSimilarity);
+    }
+
+    /**
+     * Stop matching an entry, e.g. because its job is no longer open
+     * @param slot Slot from {@link Match#slot()}
+     */
+    void remove(int slot) {
+        jobIds[slot] = REMOVED;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Estimated Jaccard similarity of an entry and a signature, corrected for the
+     * chance agreements of one-byte positions
+     */
+    private double similarity(int slot, int[] signature) {
+        int offset = slot * seeds.length;
+        int equal = 0;
+        for (int i = 0; i < seeds.length; i++) {
+            if (signatures[offset + i] == (byte) signature[i]) {
+                equal++;
+            }
+        }
+        double agreement = (double) equal / seeds.length;
+        return Math.max(0, (agreement - BYTE_COLLISION) / (1 - BYTE_COLLISION));
+    }
+
+    private void addShingle(int[] signature, long shingle) {
+        for (int i = 0; i < seeds.length; i++) {
+            int value = (int) (mix(shingle ^ seeds[i]) >>> 32);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private int bandKey(long collegeId, int[] signature, int band) {
+        long hash = mix(collegeId * 0x9E3779B97F4A7C15L + band);
+        for (int i = band * rows, end = i + rows; i < end; i++) {
+            hash = mix(hash ^ (signature[i] & 0xFFFFFFFFL));
+        }
+        return (int) (hash >>> 32);
+    }
+
+    private int findBucket(int key) {
+        int mask = bucketKeys.length - 1;
+        for (int i = key & mask; bucketHeads[i] != EMPTY; i = (i + 1) & mask) {
+            if (bucketKeys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int bucketFor(int key) {
+        int bucket = findBucket(key);
+        if (bucket >= 0) {
+            return bucket;
+        }
+        if ((buckets + 1) * 4L > bucketKeys.length * 3L) {
+            rehash();
+        }
+        int mask = bucketKeys.length - 1;
+        int i = key & mask;
+        while (bucketHeads[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        bucketKeys[i] = key;
+        buckets++;
+        return i;
+    }
+
+    private void grow() {
+        int capacity = jobIds.length * 2;
+        jobIds = Arrays.copyOf(jobIds, capacity);
+        collegeIds = Arrays.copyOf(collegeIds, capacity);
+        posterIds = Arrays.copyOf(posterIds, capacity);
+        signatures = Arrays.copyOf(signatures, capacity * seeds.length);
+        next = Arrays.copyOf(next, capacity * bands);
+    }
+
+    private void rehash() {
+        int[] oldKeys = bucketKeys;
+        int[] oldHeads = bucketHeads;
+        bucketKeys = new int[oldKeys.length * 2];
+        bucketHeads = new int[oldKeys.length * 2];
+        Arrays.fill(bucketHeads, EMPTY);
+        int mask = bucketKeys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldHeads[j] == EMPTY) {
+                continue;
+            }
+            int i = oldKeys[j] & mask;
+            while (bucketHeads[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            bucketKeys[i] = oldKeys[j];
+            bucketHeads[i] = oldHeads[j];
+        }
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @param slot Entry slot, for {@link #remove}
+     * @param jobId Matched job
+     * @param posterId Poster of the matched job
+     * @param similarity Estimated Jaccard similarity of the two texts
+     */
+    record Match(int slot, long jobId, long posterId, double similarity) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.collegecrew.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind view counts for jobs. A view increments an in-memory {@link LongAdder}
+ * for the job (striped, so hot jobs do not contend on one cache line) and never
+ * touches the database; every {@code views.flush-interval-ms} the accumulated counts
+ * are written as batched {@code UPDATE jobs SET views = views + ?}, sorted by college
+ * and job so concurrent flushes from several nodes lock rows in the same order.
+ *
+ * Counts not yet flushed are lost if the node crashes (at most one interval's worth)
+ * and are flushed on orderly shutdown. A failed flush puts its counts back for the
+ * next one. At most {@code views.max-pending-jobs} jobs are held; views of further
+ * jobs are dropped until the next flush, as are the rare views recorded into an idle
+ * counter at the moment a flush retires it. Every view is also passed on to
+ * {@link TrendingJobService}.
+ *
+ * Metrics: {@code collegecrew.views.recorded}, {@code collegecrew.views.dropped} and
+ * {@code collegecrew.views.flush.failed} (counters), {@code collegecrew.views.pending}
+ * (gauge, jobs with unflushed views), {@code collegecrew.views.flush.batch} (rows per
+ * flush) and {@code collegecrew.views.flush.lag} (timer, age of the oldest view a
+ * flush wrote).
+ */
+@Service
+public class JobViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(JobViewCounter.class);
+
+    private static final String ADD_VIEWS_SQL = "UPDATE jobs SET views = views + ? WHERE college_id = ? AND id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TrendingJobService trendingJobService;
+
+    @Value("${views.batch-size:500}")
+    private int batchSize;
+
+    @Value("${views.max-pending-jobs:100000}")
+    private int maxPendingJobs;
+
+    private final Map<Long, PendingViews> pending = new ConcurrentHashMap<>();
+    // System.nanoTime() of the first view since the last flush began, 0 if none
+    private final AtomicLong oldestPendingNanos = new AtomicLong();
+
+    private TransactionTemplate transactionTemplate;
+    private Counter recorded;
+    private Counter dropped;
+    private Counter failed;
+    private DistributionSummary flushBatch;
+    private Timer flushLag;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        recorded = meterRegistry.counter("collegecrew.views.recorded");
+        dropped = meterRegistry.counter("collegecrew.views.dropped");
+        failed = meterRegistry.counter("collegecrew.views.flush.failed");
+        flushBatch = DistributionSummary.builder("collegecrew.views.flush.batch").register(meterRegistry);
+        flushLag = meterRegistry.timer("collegecrew.views.flush.lag");
+        Gauge.builder("collegecrew.views.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Count a view of a job
+     * @param jobId Job ID
+     * @param collegeId College of the job
+     */
+    public void record(Long jobId, Long collegeId) {
+        trendingJobService.recordView(jobId, collegeId);
+        PendingViews views = pending.get(jobId);
+        if (views == null) {
+            if (pending.size() >= maxPendingJobs) {
+                dropped.increment();
+                return;
+            }
+            views = pending.computeIfAbsent(jobId, id -> new PendingViews(collegeId));
+        }
+        views.count.increment();
+        recorded.increment();
+        if (oldestPendingNanos.get() == 0) {
+            oldestPendingNanos.compareAndSet(0, System.nanoTime());
+        }
+    }
+
+    /**
+     * Write the views counted since the last flush, {@code views.batch-size} rows per
+     * transaction. Counters that saw no views since the previous flush are retired.
+     * @return Number of views written to existing jobs
+     */
+    @Scheduled(fixedDelayString = "${views.flush-interval-ms:5000}",
+               initialDelayString = "${views.flush-interval-ms:5000}")
+    public synchronized long flush() {
+        long oldest = oldestPendingNanos.getAndSet(0);
+        List<long[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, PendingViews> entry : pending.entrySet()) {
+            PendingViews views = entry.getValue();
+            long count = views.count.sumThenReset();
+            if (count == 0) {
+                pending.remove(entry.getKey(), views);
+            } else {
+                rows.add(new long[]{count, views.collegeId, entry.getKey()});
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        rows.sort(Comparator.<long[]>comparingLong(row -> row[1]).thenComparingLong(row -> row[2]));
+
+        long written = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<long[]> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (long[] row : chunk) {
+                args.add(new Object[]{row[0], row[1], row[2]});
+            }
+            int[] updated;
+            try {
+                updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, args));
+            } catch (RuntimeException e) {
+                List<long[]> unwritten = rows.subList(from, rows.size());
+                for (long[] row : unwritten) {
+                    restore(row[2], row[1], row[0]);
+                }
+                oldestPendingNanos.compareAndSet(0, oldest);
+                failed.increment();
+                log.warn("View flush failed, {} jobs kept for the next flush: {}", unwritten.size(), e.getMessage());
+                break;
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                // Views of jobs deleted or archived since they were counted are discarded
+                if (updated[i] != 0) {
+                    written += chunk.get(i)[0];
+                }
+            }
+        }
+        flushBatch.record(rows.size());
+        if (oldest != 0) {
+            flushLag.record(System.nanoTime() - oldest, TimeUnit.NANOSECONDS);
+        }
+        return written;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void restore(long jobId, long collegeId, long count) {
+        pending.computeIfAbsent(jobId, id -> new PendingViews(collegeId)).count.add(count);
+    }
+
+    private static final class PendingViews {
+        private final long collegeId;
+        private final LongAdder count = new LongAdder();
+
+        private PendingViews(long collegeId) {
+            this.collegeId = collegeId;
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class JwtService {
     private Long expiration;
 
     /**
-     * Generate JWT token from user details
+     * Generate JWT token at token version 0, for a user whose tokens were never revoked
      * @param userId User ID
      * @param email User email (used as subject)
      * @param alias User alias
@@ -30,10 +30,24 @@ public class JwtService {
      * @return JWT token string
      */
     public String generateToken(Long userId, String email, String alias, Long collegeId) {
+        return generateToken(userId, email, alias, collegeId, 0);
+    }
+
+    /**
+     * Generate JWT token from user details
+     * @param userId User ID
+     * @param email User email (used as subject)
+     * @param alias User alias
+     * @param collegeId College ID
+     * @param tokenVersion The user's current token version; the token is revoked once it is raised
+     * @return JWT token string
+     */
+    public String generateToken(Long userId, String email, String alias, Long collegeId, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("alias", alias);
         claims.put("collegeId", collegeId);
+        claims.put("tokenVersion", tokenVersion);
         
         return createToken(claims, email);
     }
@@ -0,0 +1,346 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.CollegeStatsResponse;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.event.JobCreatedEvent;
+import com.collegecrew.money.Cents;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-college marketplace statistics kept in memory and served in O(1).
+ *
+ * Writers publish {@link CollegeStatsDelta} (and {@link JobCreatedEvent}); deltas are
+ * applied after commit to {@link CollegeCounters}. A periodic checkpoint adds the
+ * pending deltas to {@code college_stats} with additive UPDATEs and reloads the
+ * table, so every node converges on the totals of all nodes within one checkpoint
+ * interval. Counters are rebuilt from the table on startup, and a nightly
+ * reconciliation, on one node, compares them with the source tables and adds
+ * corrections for any settled drift (e.g. deltas lost in a crash between two
+ * checkpoints).
+ *
+ * Metrics: {@code collegecrew.stats.checkpoint} (timer) and
+ * {@code collegecrew.stats.reconcile.corrected} (colleges whose counters drifted).
+ */
+@Service
+public class MarketplaceStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(MarketplaceStatsService.class);
+
+    private static final String RECONCILE_LOCK = "stats-reconcile";
+
+    private static final String SELECT_SQL =
+            "SELECT college_id, open_jobs, jobs, budget_cents, bids, completed_transactions, " +
+            "transaction_volume_cents FROM college_stats";
+    private static final String ADD_SQL =
+            "UPDATE college_stats SET open_jobs = open_jobs + ?, jobs = jobs + ?, budget_cents = budget_cents + ?, " +
+            "bids = bids + ?, completed_transactions = completed_transactions + ?, " +
+            "transaction_volume_cents = transaction_volume_cents + ?, checkpointed_at = ? WHERE college_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO college_stats (open_jobs, jobs, budget_cents, bids, completed_transactions, " +
+            "transaction_volume_cents, checkpointed_at, college_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    // Source totals include the archive tables; archiving moves rows, it does not remove history
+    private static final String JOB_TOTALS_SQL =
+            "SELECT college_id, SUM(CASE WHEN status = 'OPEN' THEN 1 ELSE 0 END), COUNT(*), COALESCE(SUM(budget), 0) " +
+            "FROM (SELECT college_id, status, budget FROM jobs " +
+            "UNION ALL SELECT college_id, status, budget FROM jobs_archive) j GROUP BY college_id";
+    private static final String BID_TOTALS_SQL =
+            "SELECT college_id, COUNT(*) FROM (SELECT college_id FROM bids " +
+            "UNION ALL SELECT college_id FROM bids_archive) b GROUP BY college_id";
+    private static final String TRANSACTION_TOTALS_SQL =
+            "SELECT j.college_id, COUNT(*), COALESCE(SUM(t.amount), 0) " +
+            "FROM (SELECT job_id, amount FROM transactions WHERE status = 'COMPLETED' " +
+            "UNION ALL SELECT job_id, amount FROM transactions_archive WHERE status = 'COMPLETED') t " +
+            "JOIN (SELECT id, college_id FROM jobs UNION ALL SELECT id, college_id FROM jobs_archive) j " +
+            "ON j.id = t.job_id GROUP BY j.college_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Value("${stats.reconcile-settle-ms:180000}")
+    private long settleMillis;
+
+    private final Map<Long, CollegeCounters> counters = new ConcurrentHashMap<>();
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate snapshotTemplate;
+    private Timer checkpointTimer;
+    private Counter corrected;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.checkpointTimer = meterRegistry.timer("collegecrew.stats.checkpoint");
+        this.corrected = meterRegistry.counter("collegecrew.stats.reconcile.corrected");
+    }
+
+    /**
+     * Rebuild the counters from the last checkpoint
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (Map.Entry<Long, long[]> row : readCheckpoint().entrySet()) {
+            countersFor(row.getKey()).reset(row.getValue());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onJobCreated(JobCreatedEvent event) {
+        apply(CollegeStatsDelta.jobPosted(event.getCollegeId(), event.getBudget()));
+    }
+
+    @TransactionalEventListener
+    public void onStatsDelta(CollegeStatsDelta delta) {
+        apply(delta);
+    }
+
+    /**
+     * Apply a committed change to the in-memory counters
+     * @param delta Change to one college's counters
+     */
+    public void apply(CollegeStatsDelta delta) {
+        countersFor(delta.getCollegeId()).apply(delta);
+    }
+
+    /**
+     * Drop the counters of a deleted college, including deltas not yet checkpointed
+     * @param collegeId College ID
+     */
+    public synchronized void forget(Long collegeId) {
+        counters.remove(collegeId);
+    }
+
+    /**
+     * Current statistics of a college
+     * @param collegeId College ID
+     * @return Counters and derived averages; zeros for a college without activity
+     */
+    public CollegeStatsResponse getStats(Long collegeId) {
+        CollegeCounters college = counters.getOrDefault(collegeId, new CollegeCounters());
+        long jobs = college.get(CollegeCounters.JOBS);
+        long bids = college.get(CollegeCounters.BIDS);
+        BigDecimal averageBudget = jobs == 0 ? null
+                : BigDecimal.valueOf(college.get(CollegeCounters.BUDGET_CENTS), 2)
+                        .divide(BigDecimal.valueOf(jobs), 2, RoundingMode.HALF_UP);
+        return new CollegeStatsResponse(collegeId,
+                college.get(CollegeCounters.OPEN_JOBS),
+                jobs,
+                averageBudget,
+                bids,
+                jobs == 0 ? 0 : (double) bids / jobs,
+                college.get(CollegeCounters.COMPLETED_TRANSACTIONS),
+                BigDecimal.valueOf(college.get(CollegeCounters.TRANSACTION_VOLUME_CENTS), 2));
+    }
+
+    /**
+     * Add pending deltas of this node to {@code college_stats} and reload the totals
+     * of all nodes. On failure the deltas stay pending for the next checkpoint.
+     * @return Number of colleges written
+     */
+    @Scheduled(fixedDelayString = "${stats.checkpoint-interval-ms:60000}")
+    public synchronized int checkpoint() {
+        return checkpointTimer.record(() -> {
+            Map<Long, long[]> drained = new HashMap<>();
+            counters.forEach((collegeId, college) -> {
+                long[] delta = college.drain();
+                if (delta != null) {
+                    drained.put(collegeId, delta);
+                }
+            });
+            if (!drained.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(ADD_SQL, drained));
+                } catch (RuntimeException e) {
+                    drained.forEach((collegeId, delta) -> counters.get(collegeId).restore(delta));
+                    log.warn("Stats checkpoint failed, {} colleges stay pending: {}", drained.size(), e.getMessage());
+                    return 0;
+                }
+            }
+            load();
+            return drained.size();
+        });
+    }
+
+    @PreDestroy
+    void flush() {
+        checkpoint();
+    }
+
+    /**
+     * Correct counters that drifted from the source tables. Runs on one node at a time.
+     *
+     * Source tables already hold rows whose deltas are still pending, in memory on some
+     * node or in an after-commit listener, so counters are never overwritten. Instead the
+     * drift (source minus {@code college_stats}, read from one snapshot) is measured
+     * twice, {@code stats.reconcile-settle-ms} apart, which is long enough for every
+     * node to checkpoint. Drift seen identically both times is not in flight, and is
+     * added to {@code college_stats} as a correcting delta; drift that changed in between
+     * is left to the next run.
+     * @return Number of colleges whose counters were corrected
+     */
+    @Scheduled(cron = "${stats.reconcile-cron:0 30 3 * * *}")
+    public int reconcile() {
+        if (!schedulerLockService.tryAcquire(RECONCILE_LOCK, Duration.ofMillis(settleMillis).plusHours(1))) {
+            return 0;
+        }
+        try {
+            checkpoint();
+            Map<Long, long[]> first = measureDrift();
+            if (first.isEmpty()) {
+                return 0;
+            }
+            Thread.sleep(settleMillis);
+            checkpoint();
+            Map<Long, long[]> second = measureDrift();
+            Map<Long, long[]> stable = new HashMap<>();
+            first.forEach((collegeId, drift) -> {
+                if (Arrays.equals(drift, second.get(collegeId))) {
+                    stable.put(collegeId, drift);
+                }
+            });
+            if (!stable.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> write(ADD_SQL, stable));
+                load();
+            }
+            corrected.increment(stable.size());
+            if (!stable.isEmpty() || second.size() > stable.size()) {
+                log.info("Reconciled marketplace stats of {} colleges; {} still changing", stable.size(),
+                        second.size() - stable.size());
+            }
+            return stable.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            schedulerLockService.release(RECONCILE_LOCK);
+        }
+    }
+
+    /**
+     * @return Source totals minus checkpointed totals, per college that differs
+     */
+    private Map<Long, long[]> measureDrift() {
+        return snapshotTemplate.execute(status -> {
+            Map<Long, long[]> actual = computeFromSource();
+            Map<Long, long[]> stored = readCheckpoint();
+            for (Long collegeId : stored.keySet()) {
+                actual.putIfAbsent(collegeId, new long[CollegeCounters.SIZE]);
+            }
+            Map<Long, long[]> drift = new HashMap<>();
+            actual.forEach((collegeId, values) -> {
+                long[] current = stored.getOrDefault(collegeId, new long[CollegeCounters.SIZE]);
+                long[] difference = new long[CollegeCounters.SIZE];
+                for (int i = 0; i < CollegeCounters.SIZE; i++) {
+                    difference[i] = values[i] - current[i];
+                }
+                if (Arrays.stream(difference).anyMatch(value -> value != 0)) {
+                    drift.put(collegeId, difference);
+                }
+            });
+            return drift;
+        });
+    }
+
+    private void write(String updateSql, Map<Long, long[]> values) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> collegeIds = new ArrayList<>(values.keySet());
+        List<Object[]> rows = new ArrayList<>(collegeIds.size());
+        for (Long collegeId : collegeIds) {
+            rows.add(row(values.get(collegeId), now, collegeId));
+        }
+        int[] updated = jdbcTemplate.batchUpdate(updateSql, rows);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            // Colleges without a checkpoint row start from zero, so the delta is the total
+            if (updated[i] == 0) {
+                inserts.add(rows.get(i));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+    }
+
+    private Map<Long, long[]> readCheckpoint() {
+        Map<Long, long[]> rows = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            long[] values = new long[CollegeCounters.SIZE];
+            for (int i = 0; i < CollegeCounters.SIZE; i++) {
+                values[i] = rs.getLong(i + 2);
+            }
+            rows.put(rs.getLong(1), values);
+        });
+        return rows;
+    }
+
+    private Map<Long, long[]> computeFromSource() {
+        Map<Long, long[]> totals = new HashMap<>();
+        jdbcTemplate.query(JOB_TOTALS_SQL, rs -> {
+            long[] values = totals.computeIfAbsent(rs.getLong(1), id -> new long[CollegeCounters.SIZE]);
+            values[CollegeCounters.OPEN_JOBS] = rs.getLong(2);
+            values[CollegeCounters.JOBS] = rs.getLong(3);
+            values[CollegeCounters.BUDGET_CENTS] = Cents.of(rs.getBigDecimal(4));
+        });
+        jdbcTemplate.query(BID_TOTALS_SQL, rs -> {
+            totals.computeIfAbsent(rs.getLong(1), id -> new long[CollegeCounters.SIZE])
+                    [CollegeCounters.BIDS] = rs.getLong(2);
+        });
+        jdbcTemplate.query(TRANSACTION_TOTALS_SQL, rs -> {
+            long[] values = totals.computeIfAbsent(rs.getLong(1), id -> new long[CollegeCounters.SIZE]);
+            values[CollegeCounters.COMPLETED_TRANSACTIONS] = rs.getLong(2);
+            values[CollegeCounters.TRANSACTION_VOLUME_CENTS] = Cents.of(rs.getBigDecimal(3));
+        });
+        return totals;
+    }
+
+    private CollegeCounters countersFor(Long collegeId) {
+        return counters.computeIfAbsent(collegeId, id -> new CollegeCounters());
+    }
+
+    private static Object[] row(long[] values, Timestamp now, Long collegeId) {
+        Object[] row = new Object[CollegeCounters.SIZE + 2];
+        for (int i = 0; i < CollegeCounters.SIZE; i++) {
+            row[i] = values[i];
+        }
+        row[CollegeCounters.SIZE] = now;
+        row[CollegeCounters.SIZE + 1] = collegeId;
+        return row;
+    }
+}
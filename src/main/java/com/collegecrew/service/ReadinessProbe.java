@@ -0,0 +1,216 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.ReadinessResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness of this node, probed in the background and served from memory, so load
+ * balancer polls never touch the database.
+ *
+ * Every {@code health.probe-interval-ms} the probe reads the connection pool gauges
+ * and, unless the pool is saturated, runs {@code SELECT 1} with a
+ * {@code health.db-timeout-ms} timeout. The node is not ready while:
+ * <ul>
+ *   <li>the database is unreachable or slower than the timeout;</li>
+ *   <li>more than {@code health.max-pending-threads} threads wait for a connection
+ *       (overload: shed traffic until the backlog drains);</li>
+ *   <li>the last probe is older than {@code health.max-staleness-ms}, e.g. because
+ *       the probe itself is stuck.</li>
+ * </ul>
+ * After a failure the node becomes ready again only after
+ * {@code health.recovery-probes} consecutive healthy probes, so it does not flap at
+ * the saturation threshold. Probes run on a dedicated thread, never behind the
+ * shared scheduler, whose jobs can run for minutes, and keep running on nodes that
+ * disable scheduling: a node that serves traffic must keep its verdict fresh.
+ * {@code health.background-probe.enabled=false} turns the thread off, for tests.
+ *
+ * The public readiness endpoint serves only the verdict; the reason, which can hold
+ * database error messages, is logged whenever readiness changes.
+ *
+ * Metrics: {@code collegecrew.health.ready} (gauge, 1 or 0) and
+ * {@code collegecrew.health.probe} (timer).
+ */
+@Service
+public class ReadinessProbe {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessProbe.class);
+
+    private static final String PROBE_SQL = "SELECT 1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${health.probe-interval-ms:2000}")
+    private long probeIntervalMillis;
+
+    @Value("${health.db-timeout-ms:1000}")
+    private long dbTimeoutMillis;
+
+    @Value("${health.max-pending-threads:5}")
+    private int maxPendingThreads;
+
+    @Value("${health.max-staleness-ms:10000}")
+    private long maxStalenessMillis;
+
+    @Value("${health.recovery-probes:2}")
+    private int recoveryProbes;
+
+    @Value("${health.background-probe.enabled:true}")
+    private boolean backgroundProbeEnabled;
+
+    private JdbcTemplate probeTemplate;
+    private Timer probeTimer;
+    private ScheduledExecutorService executor;
+
+    private volatile ReadinessResponse last = new ReadinessResponse(
+            false, "Not probed yet", null, false, 0, 0, 0, 0);
+    private int healthyStreak;
+    private boolean ready;
+
+    @PostConstruct
+    void init() {
+        this.probeTemplate = new JdbcTemplate(dataSource);
+        this.probeTemplate.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(dbTimeoutMillis)));
+        this.probeTimer = meterRegistry.timer("collegecrew.health.probe");
+        Gauge.builder("collegecrew.health.ready", this, probe -> probe.isReady() ? 1 : 0).register(meterRegistry);
+    }
+
+    /**
+     * Probe once on startup, then keep probing in the background unless the background probe is disabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresh();
+        if (backgroundProbeEnabled && executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "readiness-probe");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::refresh, probeIntervalMillis, probeIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Probe the pool and the database and publish the result
+     * @return Result of this probe
+     */
+    public synchronized ReadinessResponse refresh() {
+        return probeTimer.record(() -> {
+            ReadinessResponse probe = probe();
+            if (probe.isReady()) {
+                healthyStreak++;
+                // A failed node must stay healthy for a few probes before taking traffic again
+                if (!ready && last.getCheckedAt() != null && healthyStreak < recoveryProbes) {
+                    probe.setReady(false);
+                    probe.setReason("Recovering");
+                }
+            } else {
+                healthyStreak = 0;
+            }
+            if (probe.isReady() != ready) {
+                log.warn("Readiness changed to {}{}", probe.isReady() ? "READY" : "NOT READY",
+                        probe.getReason() != null ? ": " + probe.getReason() : "");
+            }
+            ready = probe.isReady();
+            last = probe;
+            return probe;
+        });
+    }
+
+    /**
+     * Latest probe result, without touching the database
+     * @return Readiness; not ready if the latest probe is older than {@code health.max-staleness-ms}
+     */
+    public ReadinessResponse current() {
+        ReadinessResponse snapshot = last;
+        if (snapshot.isReady() && snapshot.getCheckedAt() != null
+                && Duration.between(snapshot.getCheckedAt(), LocalDateTime.now()).toMillis() > maxStalenessMillis) {
+            return new ReadinessResponse(false, "Probe is stale", snapshot.getCheckedAt(), snapshot.isDatabaseUp(),
+                    snapshot.getDatabaseLatencyMs(), snapshot.getActiveConnections(), snapshot.getMaxConnections(),
+                    snapshot.getPendingThreads());
+        }
+        return snapshot;
+    }
+
+    public boolean isReady() {
+        return current().isReady();
+    }
+
+    private ReadinessResponse probe() {
+        ReadinessResponse probe = new ReadinessResponse();
+        probe.setCheckedAt(LocalDateTime.now());
+        HikariPoolMXBean pool = pool();
+        if (pool != null) {
+            probe.setActiveConnections(pool.getActiveConnections());
+            probe.setPendingThreads(pool.getThreadsAwaitingConnection());
+            probe.setMaxConnections(hikari().getMaximumPoolSize());
+            if (probe.getPendingThreads() > maxPendingThreads) {
+                // Do not queue behind the backlog; the saturated pool is the answer
+                probe.setReason("Connection pool saturated: " + probe.getPendingThreads() + " threads waiting");
+                return probe;
+            }
+        }
+        long start = System.nanoTime();
+        try {
+            probeTemplate.queryForObject(PROBE_SQL, Integer.class);
+            probe.setDatabaseLatencyMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            probe.setDatabaseUp(true);
+        } catch (RuntimeException e) {
+            probe.setReason("Database unreachable: " + e.getMessage());
+            return probe;
+        }
+        if (probe.getDatabaseLatencyMs() > dbTimeoutMillis) {
+            probe.setReason("Database slow: " + probe.getDatabaseLatencyMs() + " ms");
+            return probe;
+        }
+        probe.setReady(true);
+        return probe;
+    }
+
+    private HikariPoolMXBean pool() {
+        HikariDataSource hikari = hikari();
+        return hikari != null ? hikari.getHikariPoolMXBean() : null;
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.BidHistoryEntry;
+import com.collegecrew.dto.JobCandidate;
+import com.collegecrew.dto.RecommendedJobResponse;
+import com.collegecrew.event.JobCreatedEvent;
+import com.collegecrew.money.Cents;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRecommendationRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranks open jobs for each user from their bidding history, text similarity and
+ * budget range. Scores are precomputed per college in background batches into the
+ * top-K table {@code job_recommendations}; new jobs are scored incrementally against
+ * the in-memory profiles and merged into the table, so serving is a single indexed
+ * read. The table is the only copy of each top-K, so every node merges against what
+ * other nodes and the batch refresh wrote.
+ */
+@Service
+public class RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO job_recommendations (user_id, job_id, score, computed_at) VALUES (?, ?, ?, ?)";
+    // Skipped if the job is already listed or K rows score at least as high
+    private static final String MERGE_SQL =
+            "INSERT INTO job_recommendations (user_id, job_id, score, computed_at) SELECT ?, ?, ?, ? " +
+            "WHERE NOT EXISTS (SELECT 1 FROM job_recommendations WHERE user_id = ? AND job_id = ?) " +
+            "AND (SELECT COUNT(*) FROM job_recommendations WHERE user_id = ? AND score >= ?) < ?";
+    private static final String TRIM_SQL =
+            "DELETE FROM job_recommendations WHERE user_id = ? AND id NOT IN (" +
+            "SELECT id FROM job_recommendations WHERE user_id = ? ORDER BY score DESC, id LIMIT ?)";
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JobRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${recommendation.top-k:50}")
+    private int topK;
+
+    @Value("${recommendation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${recommendation.candidate-limit:2000}")
+    private int candidateLimit;
+
+    // collegeId -> userId -> interest profile, rebuilt by every batch refresh
+    private final Map<Long, Map<Long, UserInterestProfile>> profilesByCollege = new ConcurrentHashMap<>();
+
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Serve recommendations for a user
+     * @param userId User ID
+     * @param collegeId College of the user, used for the cold-start fallback
+     * @param limit Maximum number of jobs, capped at the top-K size
+     * @return Recommended open jobs, best first; newest open jobs if the user has no history yet
+     */
+    public List<RecommendedJobResponse> getRecommendations(Long userId, Long collegeId, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, topK)));
+        List<RecommendedJobResponse> recommendations = recommendationRepository.findTopForUser(userId, page);
+        if (!recommendations.isEmpty()) {
+            return recommendations;
+        }
+        return jobRepository.findOpenFeed(collegeId, page).stream()
+                .filter(job -> !job.getPosterId().equals(userId))
+                .map(job -> new RecommendedJobResponse(job.getId(), job.getTitle(), job.getBudget(), 0))
+                .toList();
+    }
+
+    /**
+     * Recompute the top-K table for every college
+     */
+    @Scheduled(fixedDelayString = "${recommendation.refresh-interval-ms:3600000}",
+               initialDelayString = "${recommendation.initial-delay-ms:60000}")
+    public void refreshAll() {
+        long start = System.nanoTime();
+        long afterId = 0;
+        List<Long> collegeIds;
+        while (!(collegeIds = collegeRepository.findIdsAfter(afterId, PageRequest.of(0, 100))).isEmpty()) {
+            for (Long collegeId : collegeIds) {
+                refreshCollege(collegeId);
+            }
+            afterId = collegeIds.get(collegeIds.size() - 1);
+        }
+        log.info("Recommendations refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Recompute the top-K table for all users of one college who have bidding history,
+     * in batches of {@code recommendation.batch-size} users
+     * @param collegeId College ID
+     */
+    public void refreshCollege(Long collegeId) {
+        List<JobCandidate> candidates = jobRepository.findOpenCandidates(collegeId, PageRequest.of(0, candidateLimit));
+        List<Map<String, Double>> candidateTerms = new ArrayList<>(candidates.size());
+        long[] candidateBudgets = new long[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            JobCandidate candidate = candidates.get(i);
+            candidateTerms.add(UserInterestProfile.termVector(candidate.getTitle() + " " + candidate.getDescription()));
+            candidateBudgets[i] = budgetCents(candidate.getBudget());
+        }
+
+        Map<Long, UserInterestProfile> profiles = new ConcurrentHashMap<>();
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findBidderIdsByCollege(collegeId, afterId, PageRequest.of(0, batchSize)))
+                .isEmpty()) {
+            Map<Long, UserState> batch = scoreBatch(collegeId, userIds, candidates, candidateTerms, candidateBudgets);
+            writeBatch(batch);
+            batch.forEach((userId, state) -> profiles.put(userId, state.profile));
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        profilesByCollege.put(collegeId, profiles);
+    }
+
+    /**
+     * Merge a newly posted job into the top-K of every profiled user in its college.
+     * Whether the job makes a user's top-K, and which row it displaces, is decided by
+     * the table in the same transaction, never by a cached copy of it.
+     * @param event Job creation event, delivered after the job is committed
+     */
+    @Async
+    @TransactionalEventListener
+    public void onJobCreated(JobCreatedEvent event) {
+        Map<Long, UserInterestProfile> profiles = profilesByCollege.get(event.getCollegeId());
+        if (profiles == null || profiles.isEmpty()) {
+            return;
+        }
+        Map<String, Double> terms = UserInterestProfile.termVector(event.getTitle() + " " + event.getDescription());
+        long budgetCents = budgetCents(event.getBudget());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> merges = new ArrayList<>();
+        List<Object[]> trims = new ArrayList<>();
+        profiles.forEach((userId, profile) -> {
+            if (userId.equals(event.getPosterId())) {
+                return;
+            }
+            double score = profile.score(event.getJobId(), terms, budgetCents);
+            if (score > 0) {
+                merges.add(new Object[]{userId, event.getJobId(), score, now, userId, event.getJobId(), userId, score,
+                        topK});
+                trims.add(new Object[]{userId, userId, topK});
+            }
+        });
+        if (merges.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(MERGE_SQL, merges);
+                jdbcTemplate.batchUpdate(TRIM_SQL, trims);
+            });
+        } catch (DataAccessException e) {
+            // E.g. a refresh rewrote the same rows; it scores the job itself, as it is committed and open
+            log.warn("Could not merge job {} into recommendations: {}", event.getJobId(), e.getMessage());
+        }
+    }
+
+    private Map<Long, UserState> scoreBatch(Long collegeId, List<Long> userIds, List<JobCandidate> candidates,
+                                            List<Map<String, Double>> candidateTerms, long[] candidateBudgets) {
+        Map<Long, List<BidHistoryEntry>> history = new HashMap<>();
+        for (BidHistoryEntry entry : bidRepository.findHistoryByBidderIds(collegeId, userIds)) {
+            history.computeIfAbsent(entry.getBidderId(), id -> new ArrayList<>()).add(entry);
+        }
+
+        Map<Long, UserState> states = new HashMap<>();
+        for (Long userId : userIds) {
+            List<BidHistoryEntry> bids = history.getOrDefault(userId, List.of());
+            List<String> texts = new ArrayList<>(bids.size());
+            long[] amounts = new long[bids.size()];
+            Set<Long> biddenJobIds = new HashSet<>();
+            for (int i = 0; i < bids.size(); i++) {
+                BidHistoryEntry bid = bids.get(i);
+                texts.add(bid.getTitle() + " " + bid.getDescription());
+                amounts[i] = bid.getAmount().cents();
+                biddenJobIds.add(bid.getJobId());
+            }
+            UserInterestProfile profile = UserInterestProfile.of(texts, amounts, biddenJobIds);
+
+            TopKRecommendations top = new TopKRecommendations(topK);
+            for (int i = 0; i < candidates.size(); i++) {
+                JobCandidate candidate = candidates.get(i);
+                if (candidate.getPosterId().equals(userId)) {
+                    continue;
+                }
+                double score = profile.score(candidate.getJobId(), candidateTerms.get(i), candidateBudgets[i]);
+                if (score > 0) {
+                    top.offer(candidate.getJobId(), score);
+                }
+            }
+            states.put(userId, new UserState(profile, top));
+        }
+        return states;
+    }
+
+    private static long budgetCents(BigDecimal amount) {
+        return amount == null ? 0 : Cents.of(amount);
+    }
+
+    private void writeBatch(Map<Long, UserState> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, UserState> entry : batch.entrySet()) {
+            TopKRecommendations top = entry.getValue().top;
+            for (int i = 0; i < top.size(); i++) {
+                rows.add(new Object[]{entry.getKey(), top.jobIdAt(i), top.scoreAt(i), now});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            recommendationRepository.deleteByUserIds(batch.keySet());
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        });
+    }
+
+    private static class UserState {
+        private final UserInterestProfile profile;
+        private final TopKRecommendations top;
+
+        private UserState(UserInterestProfile profile, TopKRecommendations top) {
+            this.profile = profile;
+            this.top = top;
+        }
+    }
+}
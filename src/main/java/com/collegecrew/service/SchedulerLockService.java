@@ -0,0 +1,61 @@
+package com.collegecrew.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cluster-wide leases for scheduled jobs that must not run on several nodes at once.
+ * A lease is a row of {@code scheduler_locks}, taken with a conditional UPDATE (or the
+ * first INSERT of its name) and released by its holder. A holder that dies loses the
+ * lease when it lapses, so the lease time must exceed the longest run of the job.
+ */
+@Service
+public class SchedulerLockService {
+
+    private static final String TAKE_SQL =
+            "UPDATE scheduler_locks SET locked_by = ?, locked_until = ? WHERE name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_locks (name, locked_by, locked_until) VALUES (?, ?, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final String node = UUID.randomUUID().toString();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Take a lease unless another node holds it
+     * @param name Job name
+     * @param leaseTime How long the lease lasts if it is not released
+     * @return Whether this node now holds the lease
+     */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp until = Timestamp.valueOf(now.plus(leaseTime));
+        if (jdbcTemplate.update(TAKE_SQL, node, until, name, Timestamp.valueOf(now)) == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, node, until) == 1;
+        } catch (DuplicateKeyException e) {
+            // Held by another node
+            return false;
+        }
+    }
+
+    /**
+     * Give up a lease held by this node
+     * @param name Job name
+     */
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, node);
+    }
+}
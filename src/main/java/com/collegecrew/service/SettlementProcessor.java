@@ -0,0 +1,213 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.LedgerEntry;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.money.Money;
+import com.collegecrew.outbox.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Releases escrow to payees once their job is COMPLETED.
+ *
+ * Candidates are walked in id order with a keyset cursor, {@code settlement.batch-size}
+ * at a time. Each batch is one database transaction that
+ * <ol>
+ *   <li>claims the pending escrow rows with {@code FOR UPDATE OF t SKIP LOCKED}, so several
+ *       nodes can settle concurrently without waiting on each other; the joined jobs rows
+ *       are only read, so bids, edits and archival of those jobs are not blocked or skipped,</li>
+ *   <li>moves them to COMPLETED with a batched {@code UPDATE ... WHERE status = 'PENDING'};
+ *       only rows whose update count is 1 are settled by this batch,</li>
+ *   <li>writes one ledger entry per settled row under the unique idempotency key
+ *       {@code settle-{transactionId}},</li>
+ *   <li>credits payee balances with one additive UPDATE per payee, in user id order
+ *       to avoid lock-order deadlocks between nodes; amounts are read as cents and
+ *       summed per payee as {@link Money}, and converted back to decimals once per statement,</li>
+ *   <li>records TransactionStatusChanged outbox events.</li>
+ * </ol>
+ * A crash rolls back the whole batch and a rerun picks the same rows up again; the
+ * status guard and the idempotency key each rule out double settlement on their own.
+ *
+ * Metrics: {@code collegecrew.settlement.settled}, {@code collegecrew.settlement.batches}
+ * and {@code collegecrew.settlement.run}.
+ */
+@Service
+public class SettlementProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SettlementProcessor.class);
+
+    private static final String CLAIM_SQL =
+            "SELECT t.id, t.job_id, t.payee_id, CAST(t.amount * 100 AS BIGINT) AS amount_cents, j.college_id " +
+            "FROM transactions t " +
+            "JOIN jobs j ON j.id = t.job_id " +
+            "WHERE t.status = 'PENDING' AND t.transaction_type = 'ESCROW' AND j.status = 'COMPLETED' AND t.id > ? " +
+            "ORDER BY t.id LIMIT ? FOR UPDATE OF t SKIP LOCKED";
+    private static final String SETTLE_SQL =
+            "UPDATE transactions SET status = 'COMPLETED', settled_at = ? WHERE id = ? AND status = 'PENDING'";
+    private static final String LEDGER_SQL =
+            "INSERT INTO ledger_entries (user_id, transaction_id, amount, entry_type, idempotency_key, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String CREDIT_SQL =
+            "UPDATE users SET balance = balance + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter settled;
+    private Counter batches;
+    private Timer runTimer;
+
+    @Value("${settlement.batch-size:1000}")
+    private int batchSize;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settled = meterRegistry.counter("collegecrew.settlement.settled");
+        this.batches = meterRegistry.counter("collegecrew.settlement.batches");
+        this.runTimer = meterRegistry.timer("collegecrew.settlement.run");
+    }
+
+    /**
+     * Settle every releasable escrow transaction, one batch at a time
+     * @return Number of transactions settled by this run
+     */
+    @Scheduled(fixedDelayString = "${settlement.interval-ms:60000}",
+               initialDelayString = "${settlement.initial-delay-ms:45000}")
+    public long settlePending() {
+        return runTimer.record(() -> {
+            long total = 0;
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                BatchResult result = transactionTemplate.execute(status -> settleBatch(cursor));
+                batches.increment();
+                total += result.settled;
+                if (result.claimed < batchSize) {
+                    break;
+                }
+                afterId = result.lastId;
+            }
+            if (total > 0) {
+                log.info("Settled {} escrow transactions", total);
+            }
+            return total;
+        });
+    }
+
+    private BatchResult settleBatch(long afterId) {
+        List<Candidate> candidates = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new Candidate(
+                rs.getLong("id"), rs.getLong("job_id"), rs.getLong("payee_id"),
+                Money.ofCents(rs.getLong("amount_cents")), rs.getLong("college_id")), afterId, batchSize);
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, 0, afterId);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> settleArgs = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            settleArgs.add(new Object[]{now, candidate.id});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(SETTLE_SQL, settleArgs);
+
+        List<Object[]> ledgerArgs = new ArrayList<>();
+        // payeeId -> amount credited, in payee order
+        Map<Long, Money> credits = new TreeMap<>();
+        Map<Long, Object> events = new LinkedHashMap<>();
+        Map<Long, long[]> volumeByCollege = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (updated[i] != 1) {
+                continue;
+            }
+            Candidate candidate = candidates.get(i);
+            BigDecimal amount = candidate.amount.toBigDecimal();
+            ledgerArgs.add(new Object[]{candidate.payeeId, candidate.id, amount,
+                    LedgerEntry.TYPE_ESCROW_RELEASE, "settle-" + candidate.id, now});
+            credits.merge(candidate.payeeId, candidate.amount, Money::plus);
+            events.put(candidate.id, Map.of(
+                    "transactionId", candidate.id,
+                    "jobId", candidate.jobId,
+                    "fromStatus", Transaction.STATUS_PENDING,
+                    "toStatus", Transaction.STATUS_COMPLETED,
+                    "amount", amount));
+            long[] volume = volumeByCollege.computeIfAbsent(candidate.collegeId, id -> new long[2]);
+            volume[0]++;
+            volume[1] = Math.addExact(volume[1], candidate.amount.cents());
+        }
+
+        jdbcTemplate.batchUpdate(LEDGER_SQL, ledgerArgs);
+        List<Object[]> creditArgs = new ArrayList<>(credits.size());
+        credits.forEach((payeeId, credit) -> creditArgs.add(new Object[]{credit.toBigDecimal(), payeeId}));
+        jdbcTemplate.batchUpdate(CREDIT_SQL, creditArgs);
+        outboxService.recordAll(OutboxService.AGGREGATE_TRANSACTION, "TransactionStatusChanged", events);
+        volumeByCollege.forEach((collegeId, volume) -> eventPublisher.publishEvent(
+                CollegeStatsDelta.transactionsSettled(collegeId, volume[0], volume[1])));
+
+        settled.increment(ledgerArgs.size());
+        return new BatchResult(candidates.size(), ledgerArgs.size(), candidates.get(candidates.size() - 1).id);
+    }
+
+    private static class Candidate {
+        private final long id;
+        private final long jobId;
+        private final long payeeId;
+        private final Money amount;
+        private final long collegeId;
+
+        private Candidate(long id, long jobId, long payeeId, Money amount, long collegeId) {
+            this.id = id;
+            this.jobId = jobId;
+            this.payeeId = payeeId;
+            this.amount = amount;
+            this.collegeId = collegeId;
+        }
+    }
+
+    private static class BatchResult {
+        private final int claimed;
+        private final int settled;
+        private final long lastId;
+
+        private BatchResult(int claimed, int settled, long lastId) {
+            this.claimed = claimed;
+            this.settled = settled;
+            this.lastId = lastId;
+        }
+    }
+}
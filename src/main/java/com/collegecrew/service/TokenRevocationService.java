@@ -0,0 +1,67 @@
+package com.collegecrew.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Decides whether a signed token still belongs to a live account. Tokens carry the
+ * user's {@code users.token_version}; raising it, or deleting the user, revokes every
+ * token issued before.
+ *
+ * The current version of each user is read with one primary-key lookup and cached for
+ * {@code auth.token-check-ms}. Revocations made on this node evict the entry at once;
+ * other nodes honour them once their entry expires.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final String TOKEN_VERSION_SQL = "SELECT token_version FROM users WHERE id = ?";
+    // Cached for users that no longer exist
+    private static final int DELETED = -1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${auth.token-check-ms:10000}")
+    private long checkMillis;
+
+    @Value("${auth.token-cache-size:100000}")
+    private long cacheSize;
+
+    private Cache<Long, Integer> versions;
+
+    @PostConstruct
+    void init() {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis(checkMillis))
+                .build();
+    }
+
+    /**
+     * @param userId User ID from the token
+     * @param tokenVersion Token version from the token
+     * @return true if the user exists and has not revoked tokens of this version
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        int current = versions.get(userId, id -> jdbcTemplate.query(TOKEN_VERSION_SQL,
+                rs -> rs.next() ? rs.getInt(1) : DELETED, id));
+        return current != DELETED && current == tokenVersion;
+    }
+
+    /**
+     * Forget the cached versions of users whose tokens were just revoked on this node
+     * @param userIds User IDs
+     */
+    public void evict(Collection<Long> userIds) {
+        versions.invalidateAll(userIds);
+    }
+}
@@ -0,0 +1,65 @@
+package com.collegecrew.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-capacity best-K set of (jobId, score) pairs in two primitive arrays, used
+ * while scoring one user in a batch refresh. Not thread-safe.
+ */
+class TopKRecommendations {
+
+    private final long[] jobIds;
+    private final double[] scores;
+    private int size;
+
+    TopKRecommendations(int capacity) {
+        jobIds = new long[capacity];
+        scores = new double[capacity];
+    }
+
+    /**
+     * Offer a candidate
+     * @param jobId Job ID
+     * @param score Candidate score; replaces the weakest pair if the set is full and it scores higher
+     */
+    void offer(long jobId, double score) {
+        if (size < jobIds.length) {
+            jobIds[size] = jobId;
+            scores[size] = score;
+            size++;
+            return;
+        }
+        int weakest = weakestIndex();
+        if (score > scores[weakest]) {
+            jobIds[weakest] = jobId;
+            scores[weakest] = score;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long jobIdAt(int index) {
+        return jobIds[index];
+    }
+
+    double scoreAt(int index) {
+        return scores[index];
+    }
+
+    private int weakestIndex() {
+        int weakest = 0;
+        for (int i = 1; i < size; i++) {
+            if (scores[i] < scores[weakest]) {
+                weakest = i;
+            }
+        }
+        return weakest;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(jobIds, size));
+    }
+}
@@ -0,0 +1,210 @@
+package com.collegecrew.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Streams a user's transaction history, archived rows first, straight from a JDBC
+ * cursor to the response. Rows are never collected: each one is formatted and
+ * written as it is read, {@code export.fetch-size} rows are buffered by the driver,
+ * and the output is flushed every {@code export.flush-rows} rows, so memory use is
+ * the same for ten transactions or ten million.
+ */
+@Service
+public class TransactionExportService {
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final String COLUMNS =
+            "id, job_id, payer_id, payee_id, amount, status, transaction_type, created_at, settled_at";
+    private static final String ARCHIVE_SQL =
+            "SELECT " + COLUMNS + " FROM transactions_archive WHERE payer_id = ? OR payee_id = ? ORDER BY id";
+    private static final String LIVE_SQL =
+            "SELECT " + COLUMNS + " FROM transactions WHERE payer_id = ? OR payee_id = ? ORDER BY id";
+    private static final String CSV_HEADER =
+            "id,job_id,direction,counterparty_id,amount,status,type,created_at,settled_at,archived\n";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${export.flush-rows:1000}")
+    private int flushRows;
+
+    // Own template so the fetch size does not leak into other queries
+    private JdbcTemplate cursorTemplate;
+
+    @PostConstruct
+    void init() {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Write every transaction the user paid or received. Runs in a read-only transaction,
+     * which PostgreSQL needs to honour the fetch size with a server-side cursor. It is
+     * REPEATABLE READ so that both queries see one snapshot: under READ COMMITTED, an
+     * archival chunk committing between them would move rows out of the live table
+     * after the archive was read, and those rows would be in neither result.
+     * @param userId User whose history is exported
+     * @param format Output format
+     * @param out Response stream; not closed
+     * @return Number of rows written
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long export(Long userId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rows.start();
+        long[] count = {0};
+        try {
+            for (boolean archived : new boolean[]{true, false}) {
+                cursorTemplate.query(archived ? ARCHIVE_SQL : LIVE_SQL, rs -> {
+                    try {
+                        rows.write(rs, userId, archived);
+                        if (++count[0] % flushRows == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, userId, userId);
+            }
+        } catch (UncheckedIOException e) {
+            // Client went away; stop reading and release the cursor
+            throw e.getCause();
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        void write(ResultSet rs, Long userId, boolean archived) throws SQLException, IOException;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs, Long userId, boolean archived) throws SQLException, IOException {
+            boolean paid = rs.getLong("payer_id") == userId;
+            writer.write(Long.toString(rs.getLong("id")));
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong("job_id")));
+            writer.write(',');
+            writer.write(paid ? "PAID" : "RECEIVED");
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong(paid ? "payee_id" : "payer_id")));
+            writer.write(',');
+            writer.write(rs.getBigDecimal("amount").toPlainString());
+            writer.write(',');
+            writer.write(rs.getString("status"));
+            writer.write(',');
+            writer.write(rs.getString("transaction_type"));
+            writer.write(',');
+            writer.write(timestamp(rs.getTimestamp("created_at")));
+            writer.write(',');
+            writer.write(timestamp(rs.getTimestamp("settled_at")));
+            writer.write(',');
+            writer.write(Boolean.toString(archived));
+            writer.write('\n');
+        }
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs, Long userId, boolean archived) throws SQLException, IOException {
+            boolean paid = rs.getLong("payer_id") == userId;
+            BigDecimal amount = rs.getBigDecimal("amount");
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeNumberField("jobId", rs.getLong("job_id"));
+            generator.writeStringField("direction", paid ? "PAID" : "RECEIVED");
+            generator.writeNumberField("counterpartyId", rs.getLong(paid ? "payee_id" : "payer_id"));
+            generator.writeNumberField("amount", amount);
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("type", rs.getString("transaction_type"));
+            generator.writeStringField("createdAt", timestamp(rs.getTimestamp("created_at")));
+            String settledAt = timestamp(rs.getTimestamp("settled_at"));
+            if (settledAt.isEmpty()) {
+                generator.writeNullField("settledAt");
+            } else {
+                generator.writeStringField("settledAt", settledAt);
+            }
+            generator.writeBooleanField("archived", archived);
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+
+    private static String timestamp(Timestamp value) {
+        return value == null ? "" : value.toLocalDateTime().toString();
+    }
+}
@@ -0,0 +1,268 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.TrendingJobResponse;
+import com.collegecrew.event.BidPlacedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trending jobs per college, computed from a stream of bid and view events instead of
+ * grouping {@code bids} by time window.
+ *
+ * Each college has a {@link TrendingSketch}: Count-Min sketches over a ring of
+ * {@code trending.sub-windows} sub-windows of {@code trending.sub-window-ms} each, plus
+ * a bounded set of heavy-hitter candidates. A committed bid weighs
+ * {@code trending.bid-weight} and a job view {@code trending.view-weight}. Every
+ * {@code trending.refresh-interval-ms} the windows slide and each college's top
+ * {@code trending.top-k} is copied into an immutable list, so a read is one map
+ * lookup. Colleges without events in the window are dropped.
+ *
+ * Bids go straight into the sketch under its college's map-bin lock. Views are far more
+ * frequent, so they are only counted in a {@link LongAdder} per job and folded into the
+ * sketch at the next refresh, which places them in that refresh's sub-window.
+ *
+ * Views are not stored with a time, so after a restart the window is rebuilt from the
+ * bids placed within it, walked newest first in pages of
+ * {@code trending.replay-batch-size}; views count again from then on. A bid committed
+ * while the replay runs may be counted twice. Trending lists are per node.
+ *
+ * Metrics: {@code collegecrew.trending.events} and {@code collegecrew.trending.replayed}
+ * (counters), {@code collegecrew.trending.colleges} (gauge) and
+ * {@code collegecrew.trending.refresh} (timer).
+ */
+@Service
+public class TrendingJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingJobService.class);
+
+    // Newest first by primary key; the walk stops at the first page that leaves the window
+    private static final String RECENT_BIDS_SQL =
+            "SELECT id, job_id, college_id, created_at FROM bids WHERE id < ? ORDER BY id DESC LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${trending.sub-window-ms:300000}")
+    private long subWindowMs;
+
+    @Value("${trending.sub-windows:12}")
+    private int subWindows;
+
+    @Value("${trending.depth:4}")
+    private int depth;
+
+    @Value("${trending.width:512}")
+    private int width;
+
+    @Value("${trending.top-k:20}")
+    private int topK;
+
+    @Value("${trending.bid-weight:5}")
+    private int bidWeight;
+
+    @Value("${trending.view-weight:1}")
+    private int viewWeight;
+
+    @Value("${trending.replay-batch-size:5000}")
+    private int replayBatchSize;
+
+    // Sketches are only touched inside compute calls, which lock their key
+    private final Map<Long, TrendingSketch> sketches = new ConcurrentHashMap<>();
+    private final Map<Long, List<TrendingJobResponse>> snapshots = new ConcurrentHashMap<>();
+    // Views per college and job since the last refresh
+    private final Map<Long, Map<Long, LongAdder>> pendingViews = new ConcurrentHashMap<>();
+
+    private Counter events;
+    private Counter replayed;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    void init() {
+        this.events = meterRegistry.counter("collegecrew.trending.events");
+        this.replayed = meterRegistry.counter("collegecrew.trending.replayed");
+        this.refreshTimer = meterRegistry.timer("collegecrew.trending.refresh");
+        Gauge.builder("collegecrew.trending.colleges", sketches, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Trending jobs of a college as of the last refresh
+     * @param collegeId College ID
+     * @param limit Maximum number of jobs, capped at {@code trending.top-k}
+     * @return Jobs with their estimated activity, highest first; empty for a quiet college
+     */
+    public List<TrendingJobResponse> getTrending(Long collegeId, int limit) {
+        List<TrendingJobResponse> trending = snapshots.getOrDefault(collegeId, List.of());
+        return trending.subList(0, Math.max(0, Math.min(limit, trending.size())));
+    }
+
+    @TransactionalEventListener
+    public void onBidPlaced(BidPlacedEvent event) {
+        record(event.getJobId(), event.getCollegeId(), bidWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * Count a view of a job
+     * @param jobId Job ID
+     * @param collegeId College of the job
+     */
+    public void recordView(Long jobId, Long collegeId) {
+        Map<Long, LongAdder> views = pendingViews.get(collegeId);
+        if (views == null) {
+            views = pendingViews.computeIfAbsent(collegeId, id -> new ConcurrentHashMap<>());
+        }
+        LongAdder count = views.get(jobId);
+        if (count == null) {
+            count = views.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+        count.increment();
+        events.increment();
+    }
+
+    /**
+     * Rebuild the window from the bids placed within it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        long start = System.currentTimeMillis();
+        long cutoff = start - subWindowMs * subWindows;
+        long beforeId = Long.MAX_VALUE;
+        long count = 0;
+        boolean inWindow = true;
+        while (inWindow) {
+            List<Object[]> page = jdbcTemplate.query(RECENT_BIDS_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getTimestamp(4)},
+                    beforeId, replayBatchSize);
+            inWindow = page.size() == replayBatchSize;
+            for (Object[] row : page) {
+                Timestamp createdAt = (Timestamp) row[3];
+                if (createdAt == null || createdAt.getTime() < cutoff) {
+                    inWindow = false;
+                    continue;
+                }
+                record((Long) row[1], (Long) row[2], bidWeight, createdAt.getTime());
+                count++;
+            }
+            if (!page.isEmpty()) {
+                beforeId = (Long) page.get(page.size() - 1)[0];
+            }
+        }
+        replayed.increment(count);
+        refresh();
+        log.info("Trending window rebuilt from {} bids in {} ms", count, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Slide every college's window to now and publish its trending list
+     * @return Number of colleges with a trending list
+     */
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:10000}")
+    public int refresh() {
+        return refresh(System.currentTimeMillis());
+    }
+
+    void record(Long jobId, Long collegeId, int weight, long timeMillis) {
+        long epoch = Math.floorDiv(timeMillis, subWindowMs);
+        sketches.compute(collegeId, (id, sketch) -> {
+            if (sketch == null) {
+                sketch = newSketch();
+            }
+            sketch.add(jobId, epoch, weight);
+            return sketch;
+        });
+        events.increment();
+    }
+
+    int refresh(long nowMillis) {
+        return refreshTimer.record(() -> {
+            long epoch = Math.floorDiv(nowMillis, subWindowMs);
+            Set<Long> collegeIds = new HashSet<>(sketches.keySet());
+            collegeIds.addAll(pendingViews.keySet());
+            for (Long collegeId : collegeIds) {
+                List<long[]> views = drainViews(collegeId);
+                List<TrendingJobResponse> trending = new ArrayList<>();
+                sketches.compute(collegeId, (id, sketch) -> {
+                    if (sketch == null) {
+                        if (views.isEmpty()) {
+                            return null;
+                        }
+                        sketch = newSketch();
+                    }
+                    sketch.advance(epoch);
+                    for (long[] view : views) {
+                        sketch.add(view[0], epoch, (int) Math.min(view[1] * viewWeight, Integer.MAX_VALUE));
+                    }
+                    if (sketch.isEmpty()) {
+                        return null;
+                    }
+                    long[][] top = sketch.top();
+                    for (int i = 0; i < Math.min(topK, top.length); i++) {
+                        trending.add(new TrendingJobResponse(top[i][0], top[i][1]));
+                    }
+                    return sketch;
+                });
+                if (trending.isEmpty()) {
+                    snapshots.remove(collegeId);
+                } else {
+                    snapshots.put(collegeId, List.copyOf(trending));
+                }
+            }
+            snapshots.keySet().retainAll(sketches.keySet());
+            return snapshots.size();
+        });
+    }
+
+    /**
+     * Take the views of a college counted since the last refresh. Counters that saw no
+     * views since then are retired.
+     * @param collegeId College ID
+     * @return {jobId, views} pairs
+     */
+    private List<long[]> drainViews(Long collegeId) {
+        Map<Long, LongAdder> views = pendingViews.get(collegeId);
+        if (views == null) {
+            return List.of();
+        }
+        List<long[]> drained = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : views.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count == 0) {
+                views.remove(entry.getKey(), entry.getValue());
+            } else {
+                drained.add(new long[]{entry.getKey(), count});
+            }
+        }
+        if (views.isEmpty()) {
+            pendingViews.remove(collegeId, views);
+        }
+        return drained;
+    }
+
+    private TrendingSketch newSketch() {
+        return new TrendingSketch(subWindows, depth, width, topK * 2);
+    }
+}
@@ -0,0 +1,204 @@
+package com.collegecrew.service;
+
+import java.util.Arrays;
+
+/**
+ * Trending jobs of one college over a sliding window, in bounded memory whatever the
+ * number of jobs.
+ *
+ * The window is a ring of {@code subWindows} sub-windows, each identified by its epoch
+ * (event time divided by the sub-window length). Every sub-window holds a Count-Min
+ * sketch of {@code depth} rows of {@code width} counters, allocated on its first
+ * event; a running total sketch is the sum of the live sub-windows, so an estimate
+ * costs {@code depth} reads. When the window slides, expired sub-windows are
+ * subtracted from the total and freed. Estimates never undercount, and overcount by
+ * about {@code e / width} of the window's total weight with probability
+ * {@code 1 - e^-depth}.
+ *
+ * Heavy hitters are tracked in a fixed set of {@code capacity} candidates: an event
+ * whose estimate beats the weakest candidate replaces it. Candidate scores are
+ * re-estimated when the window slides, so jobs whose activity has expired drop out.
+ * Not thread-safe; callers synchronise on the instance.
+ */
+class TrendingSketch {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final int subWindows;
+    private final int depth;
+    private final int mask;
+    private final long[] seeds;
+
+    private final long[] epochs;
+    private final int[][] counts;
+    private final long[] total;
+    private long latestEpoch = NONE;
+
+    private final long[] candidateIds;
+    private final long[] candidateScores;
+    private int candidates;
+
+    /**
+     * @param subWindows Sub-windows in the sliding window
+     * @param depth Count-Min rows; more rows lower the chance of an overcount
+     * @param width Counters per row, rounded up to a power of two; more counters shrink overcounts
+     * @param capacity Heavy-hitter candidates kept
+     */
+    TrendingSketch(int subWindows, int depth, int width, int capacity) {
+        if (subWindows < 1 || depth < 1 || width < 1 || capacity < 1) {
+            throw new IllegalArgumentException("subWindows, depth, width and capacity must be positive");
+        }
+        int columns = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.subWindows = subWindows;
+        this.depth = depth;
+        this.mask = columns - 1;
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = mix(0x2545F4914F6CDD1DL + row * 0x9E3779B97F4A7C15L);
+        }
+        this.epochs = new long[subWindows];
+        Arrays.fill(epochs, NONE);
+        this.counts = new int[subWindows][];
+        this.total = new long[depth * columns];
+        this.candidateIds = new long[capacity];
+        this.candidateScores = new long[capacity];
+    }
+
+    /**
+     * Count an event
+     * @param jobId Job the event is about
+     * @param epoch Sub-window of the event
+     * @param weight Weight of the event
+     * @return false if the event is older than the window and was ignored
+     */
+    boolean add(long jobId, long epoch, int weight) {
+        if (latestEpoch != NONE && epoch <= latestEpoch - subWindows) {
+            return false;
+        }
+        if (latestEpoch == NONE || epoch > latestEpoch) {
+            advance(epoch);
+        }
+        int slot = Math.floorMod(epoch, subWindows);
+        if (counts[slot] == null) {
+            counts[slot] = new int[total.length];
+            epochs[slot] = epoch;
+        }
+        int[] sub = counts[slot];
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int cell = cell(row, jobId);
+            sub[cell] += weight;
+            total[cell] += weight;
+            estimate = Math.min(estimate, total[cell]);
+        }
+        offer(jobId, estimate);
+        return true;
+    }
+
+    /**
+     * Slide the window so that it ends at an epoch, expiring older sub-windows and
+     * re-estimating the candidates. Epochs before the latest one are ignored.
+     * @param epoch Current sub-window
+     */
+    void advance(long epoch) {
+        if (latestEpoch != NONE && epoch <= latestEpoch) {
+            return;
+        }
+        latestEpoch = epoch;
+        boolean expired = false;
+        for (int slot = 0; slot < subWindows; slot++) {
+            if (counts[slot] != null && epochs[slot] <= epoch - subWindows) {
+                int[] sub = counts[slot];
+                for (int cell = 0; cell < total.length; cell++) {
+                    total[cell] -= sub[cell];
+                }
+                counts[slot] = null;
+                epochs[slot] = NONE;
+                expired = true;
+            }
+        }
+        if (expired) {
+            rescore();
+        }
+    }
+
+    /**
+     * @param jobId Job ID
+     * @return Estimated weight of the job's events in the window, never below the true weight
+     */
+    long estimate(long jobId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, total[cell(row, jobId)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * @return Candidates as {jobId, score} pairs, highest score first (ties by newer job)
+     */
+    long[][] top() {
+        long[][] top = new long[candidates][];
+        for (int i = 0; i < candidates; i++) {
+            top[i] = new long[]{candidateIds[i], candidateScores[i]};
+        }
+        Arrays.sort(top, (a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(b[0], a[0]));
+        return top;
+    }
+
+    /**
+     * @return true if no sub-window in the window holds an event
+     */
+    boolean isEmpty() {
+        for (int[] sub : counts) {
+            if (sub != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void offer(long jobId, long score) {
+        int weakest = -1;
+        for (int i = 0; i < candidates; i++) {
+            if (candidateIds[i] == jobId) {
+                candidateScores[i] = score;
+                return;
+            }
+            if (weakest < 0 || candidateScores[i] < candidateScores[weakest]) {
+                weakest = i;
+            }
+        }
+        if (candidates < candidateIds.length) {
+            candidateIds[candidates] = jobId;
+            candidateScores[candidates] = score;
+            candidates++;
+        } else if (score > candidateScores[weakest]) {
+            candidateIds[weakest] = jobId;
+            candidateScores[weakest] = score;
+        }
+    }
+
+    private void rescore() {
+        int kept = 0;
+        for (int i = 0; i < candidates; i++) {
+            long score = estimate(candidateIds[i]);
+            if (score > 0) {
+                candidateIds[kept] = candidateIds[i];
+                candidateScores[kept] = score;
+                kept++;
+            }
+        }
+        candidates = kept;
+    }
+
+    private int cell(int row, long jobId) {
+        return row * (mask + 1) + (int) (mix(jobId ^ seeds[row]) & mask);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,345 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.UserImportResponse;
+import com.collegecrew.entity.College;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provisions students in bulk from a CSV of {@code email,alias,password} rows.
+ *
+ * Unlike one register call per student, lookups and inserts are set-based: all
+ * colleges of the file are resolved with one query per {@code import.lookup-size}
+ * names (missing ones are created once), already registered emails are found the same
+ * way, and users are written with JDBC batch inserts of {@code import.batch-size}
+ * rows, one transaction per batch. BCrypt dominates the cost, so each batch is hashed
+ * in parallel on a fixed pool of {@code import.hash-threads} threads; the pool is
+ * bounded and shared, so concurrent imports cannot starve request threads.
+ *
+ * Invalid rows are skipped and reported with their line number. A batch that fails as
+ * a whole (an email registered concurrently) is retried row by row.
+ *
+ * Metrics: {@code collegecrew.import.users.imported}, {@code collegecrew.import.users.failed}
+ * and {@code collegecrew.import.users.run}.
+ */
+@Service
+public class UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (email, password_hash, alias, college_id, balance) VALUES (?, ?, ?, ?, 0)";
+    private static final int MAX_ALIAS_LENGTH = 100;
+    private static final int MAX_EMAIL_LENGTH = 255;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CollegeDomainResolver collegeDomainResolver;
+
+    @Value("${import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${import.lookup-size:1000}")
+    private int lookupSize;
+
+    @Value("${import.hash-threads:0}")
+    private int hashThreads;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService hashPool;
+    private Counter importedUsers;
+    private Counter failedRows;
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.importedUsers = meterRegistry.counter("collegecrew.import.users.imported");
+        this.failedRows = meterRegistry.counter("collegecrew.import.users.failed");
+        this.runTimer = meterRegistry.timer("collegecrew.import.users.run");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    /**
+     * Import students from CSV. A header row starting with "email" is skipped; the
+     * password is the last column and may contain commas.
+     * @param csv CSV of email,alias,password rows
+     * @return Imported count and per-row failures
+     * @throws IOException if the input cannot be read
+     */
+    public UserImportResponse importUsers(Reader csv) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<UserImportResponse.RowFailure> failures = new ArrayList<>();
+        List<ImportRow> rows = parse(csv, failures);
+
+        Map<String, Long> colleges = new HashMap<>();
+        int createdColleges = resolveColleges(rows, colleges, failures);
+        rejectRegistered(rows, failures);
+
+        int imported = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<ImportRow> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            hash(batch);
+            imported += insert(batch, colleges, failures);
+        }
+
+        failures.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        importedUsers.increment(imported);
+        failedRows.increment(failures.size());
+        sample.stop(runTimer);
+        log.info("Imported {} users, {} rows failed, {} colleges created", imported, failures.size(), createdColleges);
+        return new UserImportResponse(imported + failures.size(), imported, createdColleges, failures);
+    }
+
+    private List<ImportRow> parse(Reader csv, List<UserImportResponse.RowFailure> failures) throws IOException {
+        BufferedReader reader = new BufferedReader(csv);
+        List<ImportRow> rows = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.toLowerCase().startsWith("email"))) {
+                continue;
+            }
+            String[] columns = line.split(",", 3);
+            if (columns.length < 3) {
+                failures.add(new UserImportResponse.RowFailure(lineNumber, null, "Expected email,alias,password"));
+                continue;
+            }
+            String email = columns[0].trim();
+            String alias = columns[1].trim();
+            String password = columns[2];
+            String reason = validate(email, alias, password);
+            String domain = reason == null ? collegeDomainResolver.resolve(email) : null;
+            if (reason == null && domain == null) {
+                reason = "Email domain is not a recognised college";
+            }
+            if (reason == null && !seenEmails.add(email)) {
+                reason = "Duplicate email in file";
+            }
+            if (reason != null) {
+                failures.add(new UserImportResponse.RowFailure(lineNumber, email, reason));
+                continue;
+            }
+            rows.add(new ImportRow(lineNumber, email, domain, alias, password));
+        }
+        return rows;
+    }
+
+    private String validate(String email, String alias, String password) {
+        int at = email.indexOf('@');
+        if (at <= 0 || at == email.length() - 1 || email.length() > MAX_EMAIL_LENGTH) {
+            return "Invalid email format";
+        }
+        if (alias.isEmpty() || alias.length() > MAX_ALIAS_LENGTH) {
+            return "Alias is required";
+        }
+        if (password.isEmpty()) {
+            return "Password is required";
+        }
+        return null;
+    }
+
+    /**
+     * Map every email domain of the file to a college id, creating missing colleges.
+     * Rows of a college that is being deleted fail.
+     * @return Number of colleges created
+     */
+    private int resolveColleges(List<ImportRow> rows, Map<String, Long> colleges,
+                                List<UserImportResponse.RowFailure> failures) {
+        Set<String> domains = new LinkedHashSet<>();
+        rows.forEach(row -> domains.add(row.domain()));
+        List<String> names = new ArrayList<>(domains);
+        Set<String> deleting = new HashSet<>();
+        for (int from = 0; from < names.size(); from += lookupSize) {
+            List<String> chunk = names.subList(from, Math.min(from + lookupSize, names.size()));
+            collegeRepository.findByNameIn(chunk).forEach(college -> {
+                if (college.getDeleting()) {
+                    deleting.add(college.getName());
+                } else {
+                    colleges.put(college.getName(), college.getId());
+                }
+            });
+        }
+        rows.removeIf(row -> {
+            if (deleting.contains(row.domain())) {
+                failures.add(new UserImportResponse.RowFailure(row.line(), row.email(), "College is being deleted"));
+                return true;
+            }
+            return false;
+        });
+        List<College> missing = names.stream()
+                .filter(name -> !colleges.containsKey(name) && !deleting.contains(name))
+                .map(name -> College.builder().name(name).build())
+                .toList();
+        if (!missing.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    collegeRepository.saveAll(missing).forEach(college -> colleges.put(college.getName(), college.getId())));
+        }
+        return missing.size();
+    }
+
+    /**
+     * Drop rows whose email is already registered, reporting them as failures
+     */
+    private void rejectRegistered(List<ImportRow> rows, List<UserImportResponse.RowFailure> failures) {
+        Set<String> registered = new HashSet<>();
+        for (int from = 0; from < rows.size(); from += lookupSize) {
+            List<String> emails = rows.subList(from, Math.min(from + lookupSize, rows.size())).stream()
+                    .map(ImportRow::email)
+                    .toList();
+            registered.addAll(userRepository.findExistingEmails(emails));
+        }
+        rows.removeIf(row -> {
+            if (registered.contains(row.email())) {
+                failures.add(new UserImportResponse.RowFailure(row.line(), row.email(), "Email already registered"));
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void hash(List<ImportRow> batch) {
+        List<Callable<Void>> tasks = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            tasks.add(() -> {
+                row.passwordHash = passwordEncoder.encode(row.password);
+                row.password = null;
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : hashPool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Insert a hashed batch in one transaction, falling back to one transaction per row
+     * @return Number of users inserted
+     */
+    private int insert(List<ImportRow> batch, Map<String, Long> colleges, List<UserImportResponse.RowFailure> failures) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER_SQL,
+                    batch.stream().map(row -> row.parameters(colleges)).toList()));
+            return batch.size();
+        } catch (DataAccessException batchFailure) {
+            int inserted = 0;
+            for (ImportRow row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.update(INSERT_USER_SQL, row.parameters(colleges)));
+                    inserted++;
+                } catch (DuplicateKeyException e) {
+                    failures.add(new UserImportResponse.RowFailure(row.line(), row.email(), "Email already registered"));
+                } catch (DataAccessException e) {
+                    log.warn("Import of line {} failed", row.line(), e);
+                    failures.add(new UserImportResponse.RowFailure(row.line(), row.email(),
+                            e.getMostSpecificCause().getMessage()));
+                }
+            }
+            return inserted;
+        }
+    }
+
+    private static final class ImportRow {
+        private final int line;
+        private final String email;
+        private final String domain;
+        private final String alias;
+        private String password;
+        private String passwordHash;
+
+        private ImportRow(int line, String email, String domain, String alias, String password) {
+            this.line = line;
+            this.email = email;
+            this.domain = domain;
+            this.alias = alias;
+            this.password = password;
+        }
+
+        int line() {
+            return line;
+        }
+
+        String email() {
+            return email;
+        }
+
+        String domain() {
+            return domain;
+        }
+
+        Object[] parameters(Map<String, Long> colleges) {
+            return new Object[]{email, passwordHash, alias, colleges.get(domain())};
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.collegecrew.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact model of what a user bids on: an L2-normalised term vector of the jobs
+ * they bid on plus the geometric mean of their bid amounts. Amounts are taken in
+ * cents, so scoring a candidate's budget never touches {@code BigDecimal}.
+ */
+class UserInterestProfile {
+
+    static final double TEXT_WEIGHT = 0.7;
+    static final double BUDGET_WEIGHT = 0.3;
+
+    private static final double LOG_4 = Math.log(4);
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "you", "your", "need", "needs", "someone", "help", "this", "that", "from",
+            "who", "can", "will", "have", "are", "our");
+
+    private final Map<String, Double> terms;
+    private final double logBidAmount;
+    private final Set<Long> excludedJobIds;
+
+    private UserInterestProfile(Map<String, Double> terms, double logBidAmount, Set<Long> excludedJobIds) {
+        this.terms = terms;
+        this.logBidAmount = logBidAmount;
+        this.excludedJobIds = excludedJobIds;
+    }
+
+    /**
+     * Build a profile from the jobs a user bid on
+     * @param jobTexts Title and description of each job bid on
+     * @param bidAmountCents Amount of each bid, in cents
+     * @param biddenJobIds Jobs already bid on; never recommended again
+     * @return Profile
+     */
+    static UserInterestProfile of(Iterable<String> jobTexts, long[] bidAmountCents, Set<Long> biddenJobIds) {
+        Map<String, Double> terms = new HashMap<>();
+        for (String text : jobTexts) {
+            for (Map.Entry<String, Double> term : termVector(text).entrySet()) {
+                terms.merge(term.getKey(), term.getValue(), Double::sum);
+            }
+        }
+        double logSum = 0;
+        int count = 0;
+        for (long cents : bidAmountCents) {
+            if (cents > 0) {
+                logSum += Math.log(cents);
+                count++;
+            }
+        }
+        return new UserInterestProfile(normalize(terms), count == 0 ? Double.NaN : logSum / count,
+                Collections.unmodifiableSet(new HashSet<>(biddenJobIds)));
+    }
+
+    /**
+     * Score a job for this user
+     * @param jobId Job ID
+     * @param jobTerms Term vector of the job, from {@link #termVector}
+     * @param budgetCents Job budget in cents
+     * @return Score in [0, 1], or a negative value if the job must not be recommended
+     */
+    double score(Long jobId, Map<String, Double> jobTerms, long budgetCents) {
+        if (excludedJobIds.contains(jobId)) {
+            return -1;
+        }
+        return TEXT_WEIGHT * cosine(jobTerms) + BUDGET_WEIGHT * budgetFit(budgetCents);
+    }
+
+    private double cosine(Map<String, Double> jobTerms) {
+        Map<String, Double> smaller = jobTerms.size() < terms.size() ? jobTerms : terms;
+        Map<String, Double> larger = smaller == jobTerms ? terms : jobTerms;
+        double dot = 0;
+        for (Map.Entry<String, Double> term : smaller.entrySet()) {
+            Double other = larger.get(term.getKey());
+            if (other != null) {
+                dot += term.getValue() * other;
+            }
+        }
+        return dot;
+    }
+
+    /**
+     * 1.0 at the user's typical bid amount, falling to 0 at a factor of four away
+     */
+    private double budgetFit(long budgetCents) {
+        if (Double.isNaN(logBidAmount) || budgetCents <= 0) {
+            return 0;
+        }
+        double distance = Math.abs(Math.log(budgetCents) - logBidAmount) / LOG_4;
+        return Math.max(0, 1 - distance);
+    }
+
+    /**
+     * Tokenise text into an L2-normalised term-frequency vector
+     * @param text Job title and description
+     * @return Term weights
+     */
+    static Map<String, Double> termVector(String text) {
+        Map<String, Double> terms = new HashMap<>();
+        if (text != null) {
+            for (String token : text.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+                if (token.length() >= 3 && !STOP_WORDS.contains(token)) {
+                    terms.merge(token, 1.0, Double::sum);
+                }
+            }
+        }
+        return normalize(terms);
+    }
+
+    private static Map<String, Double> normalize(Map<String, Double> terms) {
+        double norm = 0;
+        for (double weight : terms.values()) {
+            norm += weight * weight;
+        }
+        if (norm > 0) {
+            double length = Math.sqrt(norm);
+            terms.replaceAll((term, weight) -> weight / length);
+        }
+        return terms;
+    }
+}
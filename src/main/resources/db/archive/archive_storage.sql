@@ -0,0 +1,20 @@
+-- Storage settings for the append-only archive tables (PostgreSQL 14+).
+-- Apply once after the application has created the tables:
+--
+--   psql -f archive_storage.sql collegecrew
+--
+-- Archive rows are written once and never updated, so pages are packed full, and
+-- text is compressed with lz4 as soon as a row exceeds 256 bytes instead of the
+-- default ~2 kB.
+
+ALTER TABLE jobs_archive SET (fillfactor = 100, toast_tuple_target = 256);
+ALTER TABLE bids_archive SET (fillfactor = 100, toast_tuple_target = 256);
+ALTER TABLE transactions_archive SET (fillfactor = 100);
+
+ALTER TABLE jobs_archive ALTER COLUMN description SET COMPRESSION lz4;
+ALTER TABLE bids_archive ALTER COLUMN proposal SET COMPRESSION lz4;
+
+-- Insert-only tables are never vacuumed for dead tuples; freeze them as they grow
+ALTER TABLE jobs_archive SET (autovacuum_freeze_min_age = 0);
+ALTER TABLE bids_archive SET (autovacuum_freeze_min_age = 0);
+ALTER TABLE transactions_archive SET (autovacuum_freeze_min_age = 0);
@@ -0,0 +1,31 @@
+-- Adds bids.college_id, the copy of the job's college that bids are partitioned by,
+-- to a populated bids table (PostgreSQL 12+). Run once, before or right after
+-- deploying the version that introduced the column:
+--
+--   psql -f add_bids_college_id.sql collegecrew
+--
+-- Hibernate's ddl-auto=update adds the column as nullable, since adding it NOT NULL
+-- would fail on existing rows. New bids fill it when they are persisted; this script
+-- backfills older bids from their jobs and then enforces NOT NULL. It is safe to
+-- re-run, and partition_jobs_and_bids.sql repeats its steps.
+
+ALTER TABLE bids ADD COLUMN IF NOT EXISTS college_id bigint;
+
+-- Backfill in committed batches so the table is not locked row by row in one long transaction
+DO $$
+DECLARE
+    updated integer;
+BEGIN
+    LOOP
+        UPDATE bids b SET college_id = j.college_id
+        FROM jobs j
+        WHERE j.id = b.job_id
+          AND b.id IN (SELECT id FROM bids WHERE college_id IS NULL LIMIT 10000);
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        EXIT WHEN updated = 0;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+ALTER TABLE bids ALTER COLUMN college_id SET NOT NULL;
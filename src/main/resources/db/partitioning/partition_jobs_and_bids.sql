@@ -0,0 +1,96 @@
+-- Converts jobs and bids into tables hash-partitioned by college_id (PostgreSQL 12+).
+--
+-- Run once, during a maintenance window, before starting the application with the
+-- "partitioned" profile:
+--
+--   psql -v partitions=16 -f partition_jobs_and_bids.sql collegecrew
+--
+-- jobs and bids use the same modulus, so partition N of bids holds exactly the bids
+-- on jobs in partition N and joins between them can be done partition-wise.
+-- The whole conversion is one transaction; on any error nothing changes.
+
+\set ON_ERROR_STOP on
+\if :{?partitions}
+\else
+\set partitions 16
+\endif
+
+BEGIN;
+
+LOCK TABLE jobs, bids, transactions IN ACCESS EXCLUSIVE MODE;
+
+-- 1. Denormalize the partition key onto bids (no-op if add_bids_college_id.sql already ran)
+ALTER TABLE bids ADD COLUMN IF NOT EXISTS college_id bigint;
+UPDATE bids b SET college_id = j.college_id FROM jobs j WHERE j.id = b.job_id AND b.college_id IS NULL;
+ALTER TABLE bids ALTER COLUMN college_id SET NOT NULL;
+
+-- 2. Move the monolithic tables aside
+ALTER TABLE jobs RENAME TO jobs_legacy;
+ALTER TABLE bids RENAME TO bids_legacy;
+
+-- 3. Partitioned parents with the same columns and defaults. Identity columns on partitioned
+--    tables need PostgreSQL 17, so ids come from plain sequences owned by the new columns.
+CREATE TABLE jobs (LIKE jobs_legacy INCLUDING DEFAULTS) PARTITION BY HASH (college_id);
+CREATE TABLE bids (LIKE bids_legacy INCLUDING DEFAULTS) PARTITION BY HASH (college_id);
+
+CREATE SEQUENCE jobs_partitioned_id_seq OWNED BY jobs.id;
+CREATE SEQUENCE bids_partitioned_id_seq OWNED BY bids.id;
+ALTER TABLE jobs ALTER COLUMN id SET DEFAULT nextval('jobs_partitioned_id_seq');
+ALTER TABLE bids ALTER COLUMN id SET DEFAULT nextval('bids_partitioned_id_seq');
+
+SELECT format('CREATE TABLE %I PARTITION OF jobs FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+              'jobs_p' || i, :partitions, i)
+FROM generate_series(0, :partitions - 1) AS i
+\gexec
+
+SELECT format('CREATE TABLE %I PARTITION OF bids FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+              'bids_p' || i, :partitions, i)
+FROM generate_series(0, :partitions - 1) AS i
+\gexec
+
+-- 4. Copy rows, then continue the id sequences after the copied range
+INSERT INTO jobs SELECT * FROM jobs_legacy;
+INSERT INTO bids SELECT * FROM bids_legacy;
+
+SELECT setval('jobs_partitioned_id_seq', COALESCE(MAX(id), 0) + 1, false) FROM jobs;
+SELECT setval('bids_partitioned_id_seq', COALESCE(MAX(id), 0) + 1, false) FROM bids;
+
+-- 5. Drop the old tables. CASCADE also drops transactions.job_id -> jobs: a foreign key to a
+--    partitioned table must include the partition key, which transactions does not carry.
+DROP TABLE bids_legacy;
+DROP TABLE jobs_legacy CASCADE;
+
+ALTER SEQUENCE jobs_partitioned_id_seq RENAME TO jobs_id_seq;
+ALTER SEQUENCE bids_partitioned_id_seq RENAME TO bids_id_seq;
+
+-- 6. Keys. Unique constraints on a partitioned table must contain the partition key,
+--    so primary keys become (id, college_id); ids stay globally unique via the sequence.
+ALTER TABLE jobs ADD CONSTRAINT jobs_pkey PRIMARY KEY (id, college_id);
+ALTER TABLE bids ADD CONSTRAINT bids_pkey PRIMARY KEY (id, college_id);
+
+ALTER TABLE jobs ADD CONSTRAINT fk_jobs_college FOREIGN KEY (college_id) REFERENCES colleges (id);
+ALTER TABLE jobs ADD CONSTRAINT fk_jobs_poster FOREIGN KEY (poster_id) REFERENCES users (id);
+ALTER TABLE jobs ADD CONSTRAINT fk_jobs_assignee FOREIGN KEY (assignee_id) REFERENCES users (id);
+ALTER TABLE bids ADD CONSTRAINT fk_bids_job FOREIGN KEY (job_id, college_id) REFERENCES jobs (id, college_id);
+ALTER TABLE bids ADD CONSTRAINT fk_bids_bidder FOREIGN KEY (bidder_id) REFERENCES users (id);
+ALTER TABLE bids ADD CONSTRAINT fk_bids_college FOREIGN KEY (college_id) REFERENCES colleges (id);
+
+-- 7. Indexes declared on the entities; created per partition through the parent
+CREATE INDEX idx_jobs_college_status ON jobs (college_id, status, id);
+CREATE INDEX idx_jobs_poster ON jobs (poster_id, id);
+CREATE INDEX idx_jobs_assignee ON jobs (assignee_id, id);
+CREATE INDEX idx_jobs_status_deadline ON jobs (status, deadline);
+CREATE INDEX idx_jobs_status_updated ON jobs (status, updated_at);
+CREATE INDEX idx_jobs_status_bidding_closes ON jobs (status, bidding_closes_at);
+CREATE INDEX idx_jobs_college_status_views ON jobs (college_id, status, views, id);
+CREATE INDEX idx_bids_bidder ON bids (bidder_id, id);
+CREATE INDEX idx_bids_job_status ON bids (job_id, status);
+
+COMMIT;
+
+-- Let the planner join and aggregate matching partitions of jobs and bids pairwise
+ALTER DATABASE :"DBNAME" SET enable_partitionwise_join = on;
+ALTER DATABASE :"DBNAME" SET enable_partitionwise_aggregate = on;
+
+ANALYZE jobs;
+ANALYZE bids;
@@ -0,0 +1,212 @@
+package com.collegecrew.config;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.IdempotencyService;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000",
+    "idempotency.lock-timeout-ms=60000",
+    "idempotency.max-body-bytes=4096"
+})
+class IdempotencyFilterTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Job job;
+    private User bidder;
+    private String bidderToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        College college = collegeRepository.save(College.builder().name("university.edu").build());
+        User poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+        bidder = userRepository.save(User.builder()
+                .email("bidder@university.edu").passwordHash("hash").alias("bidder").college(college).build());
+        bidderToken = jwtService.generateToken(bidder.getId(), bidder.getEmail(), bidder.getAlias(), college.getId());
+        job = jobRepository.saveAndFlush(Job.builder()
+                .title("Calculus tutoring")
+                .description("Two sessions")
+                .budget(new BigDecimal("40.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    @Test
+    void testRetriedBidIsReplayedWithoutDuplicate() throws Exception {
+        MvcResult first = placeBid("bid-key-1", "35.00")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+
+        placeBid("bid-key-1", "35.00")
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().json(first.getResponse().getContentAsString(), true));
+
+        assertEquals(1, count("SELECT COUNT(*) FROM bids WHERE job_id = ?", job.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM outbox_events WHERE event_type = 'BidPlaced'"));
+    }
+
+    @Test
+    void testKeyReusedForDifferentRequestIsRejected() throws Exception {
+        placeBid("bid-key-2", "35.00").andExpect(status().isOk());
+        placeBid("bid-key-2", "30.00").andExpect(status().isUnprocessableEntity());
+
+        assertEquals(1, count("SELECT COUNT(*) FROM bids WHERE job_id = ?", job.getId()));
+    }
+
+    @Test
+    void testRequestWhileKeyInProgressConflicts() throws Exception {
+        insertClaim("bid-key-3", LocalDateTime.now());
+
+        placeBid("bid-key-3", "35.00")
+                .andExpect(status().isConflict())
+                .andExpect(header().string("Retry-After", "1"));
+        assertEquals(0, count("SELECT COUNT(*) FROM bids WHERE job_id = ?", job.getId()));
+    }
+
+    @Test
+    void testAbandonedClaimIsTakenOver() throws Exception {
+        insertClaim("bid-key-4", LocalDateTime.now().minusMinutes(5));
+
+        placeBid("bid-key-4", "35.00").andExpect(status().isOk());
+        assertEquals("COMPLETED", jdbcTemplate.queryForObject(
+                "SELECT status FROM idempotency_keys WHERE idempotency_key = 'bid-key-4'", String.class));
+    }
+
+    @Test
+    void testAuthResponsesAreNotStored() throws Exception {
+        String body = "{\"email\":\"new@university.edu\",\"password\":\"secret\",\"alias\":\"newbie\"}";
+        mockMvc.perform(post("/api/auth/register")
+                .header("Idempotency-Key", "register-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk());
+
+        // The token in the response is never written to the store, so the retry runs the handler again
+        assertEquals(0, count("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = 'register-1'"));
+        mockMvc.perform(post("/api/auth/register")
+                .header("Idempotency-Key", "register-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    @Test
+    void testOversizedBodyIsRejected() throws Exception {
+        mockMvc.perform(post("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + bidderToken)
+                .header("Idempotency-Key", "bid-key-5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":35.00,\"proposal\":\"" + "x".repeat(5000) + "\"}"))
+                .andExpect(status().isPayloadTooLarge());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM bids WHERE job_id = ?", job.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = 'bid-key-5'"));
+    }
+
+    @Test
+    void testConcurrentRequestWaitsForFirstResponse() throws Exception {
+        assertEquals(IdempotencyService.Outcome.EXECUTE,
+                idempotencyService.begin("42", "concurrent", "hash").outcome());
+
+        CompletableFuture<IdempotencyService.Claim> retry =
+                CompletableFuture.supplyAsync(() -> idempotencyService.begin("42", "concurrent", "hash"));
+        Thread.sleep(100);
+        assertFalse(retry.isDone());
+
+        idempotencyService.complete("42", "concurrent", new IdempotencyService.StoredResponse(
+                "hash", 200, "application/json", null, "{}".getBytes()));
+        IdempotencyService.Claim claim = retry.get(5, TimeUnit.SECONDS);
+        assertEquals(IdempotencyService.Outcome.REPLAY, claim.outcome());
+        assertEquals("{}", new String(claim.response().body()));
+    }
+
+    @Test
+    void testFailedClaimReleasesTheKey() {
+        // Longer than the idempotency_key column, so the claim fails with something other than a duplicate key
+        String key = "k".repeat(300);
+        assertThrows(DataAccessException.class, () -> idempotencyService.begin("42", key, "hash"));
+
+        // Fails again straight away instead of waiting on the first attempt's in-flight future
+        assertThrows(DataAccessException.class, () -> idempotencyService.begin("42", key, "hash"));
+    }
+
+    private ResultActions placeBid(String key, String amount) throws Exception {
+        return mockMvc.perform(post("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + bidderToken)
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":" + amount + ",\"proposal\":\"I can help\"}"));
+    }
+
+    private void insertClaim(String key, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, status, created_at, " +
+                "expires_at) VALUES (?, ?, 'other', 'IN_PROGRESS', ?, ?)", bidder.getId().toString(), key,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt.plusDays(1)));
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
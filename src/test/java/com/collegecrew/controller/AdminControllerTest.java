@@ -0,0 +1,120 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000",
+    "admin.password=adminSecret",
+    "import.batch-size=2",
+    "import.lookup-size=2",
+    "import.hash-threads=2"
+})
+class AdminControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private College college;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        userRepository.save(User.builder()
+                .email("taken@university.edu").passwordHash("hash").alias("taken").college(college).build());
+    }
+
+    @Test
+    void testImportUsersReportsFailuresPerRow() throws Exception {
+        String csv = String.join("\n",
+                "email,alias,password",
+                "ada@university.edu,ada,secret,with,commas",
+                "alan@university.edu,alan,enigma",
+                "grace@navy.edu,grace,cobol",
+                "taken@university.edu,taken,secret",
+                "not-an-email,nobody,secret",
+                "alan@university.edu,alan2,again",
+                "edsger@university.edu,,secret",
+                "linus@navy.edu,linus,kernel");
+
+        importUsers(csv, httpBasic("admin", "adminSecret"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(8))
+                .andExpect(jsonPath("$.imported").value(4))
+                .andExpect(jsonPath("$.createdColleges").value(1))
+                .andExpect(jsonPath("$.failures.length()").value(4))
+                .andExpect(jsonPath("$.failures[0].line").value(5))
+                .andExpect(jsonPath("$.failures[0].reason").value("Email already registered"))
+                .andExpect(jsonPath("$.failures[1].reason").value("Invalid email format"))
+                .andExpect(jsonPath("$.failures[2].reason").value("Duplicate email in file"))
+                .andExpect(jsonPath("$.failures[3].reason").value("Alias is required"));
+
+        User ada = userRepository.findByEmail("ada@university.edu").orElseThrow();
+        assertEquals(college.getId(), ada.getCollege().getId());
+        assertTrue(passwordEncoder.matches("secret,with,commas", ada.getPasswordHash()));
+        College navy = collegeRepository.findByName("navy.edu").orElseThrow();
+        assertEquals(navy.getId(), userRepository.findByEmail("linus@navy.edu").orElseThrow().getCollege().getId());
+    }
+
+    @Test
+    void testImportRequiresAdminCredentials() throws Exception {
+        User student = userRepository.findByEmail("taken@university.edu").orElseThrow();
+        String token = jwtService.generateToken(student.getId(), student.getEmail(), student.getAlias(), college.getId());
+
+        mockMvc.perform(post("/api/admin/users/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType("text/csv")
+                .content("eve@university.edu,eve,secret"))
+                .andExpect(status().isUnauthorized());
+        importUsers("eve@university.edu,eve,secret", httpBasic("admin", "wrong"))
+                .andExpect(status().isUnauthorized());
+
+        assertTrue(userRepository.findByEmail("eve@university.edu").isEmpty());
+    }
+
+    private ResultActions importUsers(String csv, RequestPostProcessor auth) throws Exception {
+        return mockMvc.perform(post("/api/admin/users/import")
+                .with(auth)
+                .contentType("text/csv")
+                .content(csv));
+    }
+}
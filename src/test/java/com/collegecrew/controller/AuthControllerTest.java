@@ -9,6 +9,7 @@ import com.collegecrew.repository.CollegeRepository;
 import com.collegecrew.repository.UserRepository;
 import com.collegecrew.service.JwtService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,6 +27,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -119,6 +123,58 @@ class AuthControllerTest {
         assertEquals(savedCollege.getId(), jwtService.extractCollegeId(authResponse.getToken()));
     }
 
+    @Test
+    void testTokenIsRevokedWhenAccountIsDeleted() throws Exception {
+        MockMvc secured = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+        MvcResult registered = secured.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRegisterRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper.readValue(registered.getResponse().getContentAsString(), AuthResponse.class)
+                .getToken();
+
+        secured.perform(get("/api/me/dashboard").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        secured.perform(delete("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        secured.perform(get("/api/me/dashboard").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        secured.perform(delete("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testRegisterAndLoginInCbor() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(validRegisterRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        byte[] cbor = result.getResponse().getContentAsByteArray();
+        AuthResponse registered = cborMapper.readValue(cbor, AuthResponse.class);
+        assertEquals("johndoe", registered.getAlias());
+        assertTrue(jwtService.validateToken(registered.getToken()));
+        assertTrue(cbor.length < objectMapper.writeValueAsBytes(registered).length);
+
+        // JSON in, CBOR out
+        result = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(objectMapper.writeValueAsString(validLoginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+        assertEquals(registered.getUserId(),
+                cborMapper.readValue(result.getResponse().getContentAsByteArray(), AuthResponse.class).getUserId());
+    }
+
     @Test
     void testRegisterWithExistingCollege() throws Exception {
         // Given - College already exists
@@ -248,4 +304,39 @@ class AuthControllerTest {
         assertNotNull(college);
         assertEquals("mit.edu", college.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSubdomainRegistersIntoCanonicalCollege() throws Exception {
+        // Given
+        College college = collegeRepository.save(College.builder().name("mit.edu").build());
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("student@CS.MIT.edu");
+        request.setPassword("password123");
+        request.setAlias("student1");
+
+        // When/Then
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collegeId").value(college.getId()));
+        assertEquals(1, collegeRepository.count());
+    }
+
+    @Test
+    void testRegisterNonAcademicDomain() throws Exception {
+        // Given
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("student@gmail.com");
+        request.setPassword("password123");
+        request.setAlias("student1");
+
+        // When/Then
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, collegeRepository.count());
+        assertEquals(0, userRepository.count());
+    }
+}
@@ -0,0 +1,175 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.dto.PlaceBidRequest;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000"
+})
+class BidControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Job job;
+    private String posterToken;
+    private String bidderToken;
+    private String outsiderToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        College college = collegeRepository.save(College.builder().name("university.edu").build());
+        User poster = saveUser("poster@university.edu", "poster", college);
+        User bidder = saveUser("bidder@university.edu", "bidder", college);
+        College otherCollege = collegeRepository.save(College.builder().name("mit.edu").build());
+        User outsider = saveUser("outsider@mit.edu", "outsider", otherCollege);
+        posterToken = token(poster);
+        bidderToken = token(bidder);
+        outsiderToken = token(outsider);
+
+        job = jobRepository.saveAndFlush(Job.builder()
+                .title("Calculus tutoring")
+                .description("Two sessions")
+                .budget(new BigDecimal("40.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    @Test
+    void testPlaceBidRecordsOutboxEvent() throws Exception {
+        placeBid(bidderToken, new BigDecimal("35.00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.bidderAlias").value("bidder"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        String eventType = jdbcTemplate.queryForObject(
+                "SELECT event_type FROM outbox_events WHERE aggregate_type = 'Job' AND aggregate_id = ?",
+                String.class, job.getId());
+        assertEquals("BidPlaced", eventType);
+    }
+
+    @Test
+    void testPlaceBidRejectsInvalidRequests() throws Exception {
+        placeBid(posterToken, new BigDecimal("35.00")).andExpect(status().isBadRequest());
+        placeBid(outsiderToken, new BigDecimal("35.00")).andExpect(status().isBadRequest());
+        placeBid(bidderToken, BigDecimal.ZERO).andExpect(status().isBadRequest());
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class));
+    }
+
+    @Test
+    void testListBidsScopedToCollege() throws Exception {
+        placeBid(bidderToken, new BigDecimal("35.00")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].amount").value(35.00));
+
+        mockMvc.perform(get("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testPlaceAndListBidsInCbor() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        PlaceBidRequest request = new PlaceBidRequest();
+        request.setAmount(new BigDecimal("35.50"));
+        request.setProposal("I can help");
+
+        mockMvc.perform(post("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + bidderToken)
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+
+        byte[] body = mockMvc.perform(get("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + posterToken)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode bids = cborMapper.readTree(body);
+        assertEquals(1, bids.size());
+        assertEquals(0, new BigDecimal("35.50").compareTo(bids.get(0).get("amount").decimalValue()));
+        assertEquals("bidder", bids.get(0).get("bidderAlias").asText());
+    }
+
+    private ResultActions placeBid(String token, BigDecimal amount) throws Exception {
+        PlaceBidRequest request = new PlaceBidRequest();
+        request.setAmount(amount);
+        request.setProposal("I can help");
+        return mockMvc.perform(post("/api/jobs/" + job.getId() + "/bids")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private User saveUser(String email, String alias, College college) {
+        return userRepository.save(User.builder().email(email).passwordHash("hash").alias(alias).college(college).build());
+    }
+
+    private String token(User user) {
+        return jwtService.generateToken(user.getId(), user.getEmail(), user.getAlias(), user.getCollege().getId());
+    }
+}
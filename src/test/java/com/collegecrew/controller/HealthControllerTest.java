@@ -0,0 +1,49 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.querycount.QueryBudget;
+import com.collegecrew.service.ReadinessProbe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+class HealthControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void testLivenessNeedsNoAuthentication() throws Exception {
+        mockMvc.perform(get("/api/health/live"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("UP"));
+    }
+
+    @Test
+    void testReadinessReportsProbeWithoutQuerying() throws Exception {
+        readinessProbe.refresh();
+
+        QueryBudget.none().verify(() -> mockMvc.perform(get("/api/health/ready")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(content().string("UP"));
+    }
+}
@@ -0,0 +1,439 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.dto.CreateJobRequest;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.DuplicateJobDetector;
+import com.collegecrew.service.JobViewCounter;
+import com.collegecrew.service.JwtService;
+import com.collegecrew.service.TrendingJobService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000"
+})
+class JobControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private DuplicateJobDetector duplicateJobDetector;
+
+    @Autowired
+    private JobViewCounter jobViewCounter;
+
+    @Autowired
+    private TrendingJobService trendingJobService;
+
+    private String posterToken;
+    private String otherCollegeToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        College college = collegeRepository.save(College.builder().name("university.edu").build());
+        User poster = userRepository.save(User.builder()
+                .email("poster@university.edu")
+                .passwordHash("hash")
+                .alias("poster")
+                .college(college)
+                .build());
+        posterToken = jwtService.generateToken(poster.getId(), poster.getEmail(), poster.getAlias(), college.getId());
+
+        College otherCollege = collegeRepository.save(College.builder().name("mit.edu").build());
+        User outsider = userRepository.save(User.builder()
+                .email("outsider@mit.edu")
+                .passwordHash("hash")
+                .alias("outsider")
+                .college(otherCollege)
+                .build());
+        otherCollegeToken = jwtService.generateToken(outsider.getId(), outsider.getEmail(), outsider.getAlias(),
+                otherCollege.getId());
+    }
+
+    @Test
+    void testCreateJob() throws Exception {
+        mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobRequest("Calculus tutoring"))))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.title").value("Calculus tutoring"))
+                .andExpect(jsonPath("$.status").value("OPEN"))
+                .andExpect(jsonPath("$.version").value(0));
+
+        assertEquals(1, jobRepository.count());
+    }
+
+    @Test
+    void testCreateJobRequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobRequest("Calculus tutoring"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testCreateJobInvalidBudget() throws Exception {
+        CreateJobRequest request = jobRequest("Calculus tutoring");
+        request.setBudget(BigDecimal.ZERO);
+
+        mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testJobDetailConditionalGet() throws Exception {
+        Long jobId = createJob("Moving help");
+
+        MvcResult result = mockMvc.perform(get("/api/jobs/" + jobId)
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Moving help"))
+                .andReturn();
+        String eTag = result.getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/jobs/" + jobId)
+                .header("Authorization", "Bearer " + posterToken)
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testJobDetailHiddenFromOtherColleges() throws Exception {
+        Long jobId = createJob("Moving help");
+
+        mockMvc.perform(get("/api/jobs/" + jobId)
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testFeedETagChangesWhenJobPosted() throws Exception {
+        createJob("Essay proofreading");
+
+        MvcResult first = mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        createJob("Laundry pickup");
+
+        mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Laundry pickup"));
+    }
+
+    @Test
+    void testFeedIsScopedToCollege() throws Exception {
+        createJob("Essay proofreading");
+
+        mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testCompleteJobRequiresAssignment() throws Exception {
+        Long jobId = createJob("Moving help");
+
+        mockMvc.perform(post("/api/jobs/" + jobId + "/complete")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isBadRequest());
+
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        job.setStatus("ASSIGNED");
+        job.setAssignee(job.getPoster());
+        jobRepository.saveAndFlush(job);
+
+        mockMvc.perform(post("/api/jobs/" + jobId + "/complete")
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/jobs/" + jobId + "/complete")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    void testCloseBiddingAwardsLowestBid() throws Exception {
+        Long jobId = createJob("Essay proofreading");
+
+        mockMvc.perform(post("/api/jobs/" + jobId + "/close")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isBadRequest());
+
+        User bidder = userRepository.save(User.builder()
+                .email("bidder@university.edu")
+                .passwordHash("hash")
+                .alias("bidder")
+                .college(collegeRepository.findByName("university.edu").orElseThrow())
+                .build());
+        String bidderToken = jwtService.generateToken(bidder.getId(), bidder.getEmail(), bidder.getAlias(),
+                bidder.getCollege().getId());
+        mockMvc.perform(post("/api/jobs/" + jobId + "/bids")
+                .header("Authorization", "Bearer " + bidderToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":30.00,\"proposal\":\"Tonight\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/jobs/" + jobId + "/close")
+                .header("Authorization", "Bearer " + bidderToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/jobs/" + jobId + "/close")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ASSIGNED"))
+                .andExpect(jsonPath("$.assigneeId").value(bidder.getId()))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void testNearDuplicateRepost() throws Exception {
+        CreateJobRequest original = jobRequest("Help moving a couch");
+        original.setDescription("Need two people to carry a heavy couch up three flights of stairs "
+                + "on Saturday morning, next to the main library");
+        Long originalId = createJob(original);
+        // Jobs are indexed after commit, which never happens inside this test's transaction
+        Job job = jobRepository.findById(originalId).orElseThrow();
+        duplicateJobDetector.index(job.getId(), job.getCollege().getId(), job.getPoster().getId(),
+                job.getTitle(), job.getDescription());
+
+        CreateJobRequest repost = jobRequest("Help moving a couch");
+        repost.setDescription("Need two people to carry a heavy couch up three flights of stairs "
+                + "on Sunday morning, next to the main library");
+
+        // The poster's own repost is rejected
+        mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(repost)))
+                .andExpect(status().isBadRequest());
+
+        // Another poster of the same college is flagged
+        User neighbour = userRepository.save(User.builder()
+                .email("neighbour@university.edu")
+                .passwordHash("hash")
+                .alias("neighbour")
+                .college(job.getCollege())
+                .build());
+        String neighbourToken = jwtService.generateToken(neighbour.getId(), neighbour.getEmail(),
+                neighbour.getAlias(), job.getCollege().getId());
+        mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + neighbourToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(repost)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duplicateOfId").value(originalId));
+
+        // Other colleges never match
+        mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + otherCollegeToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(repost)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.duplicateOfId").isEmpty());
+    }
+
+    @Test
+    void testJobViewsCountDetailRequestsAndRankTheFeed() throws Exception {
+        jobViewCounter.flush();
+        Long quiet = createJob("Quiet job");
+        Long popular = createJob("Popular job");
+        createJob("Unseen job");
+
+        MvcResult result = mockMvc.perform(get("/api/jobs/" + popular)
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.views").doesNotExist())
+                .andReturn();
+        // A revalidated view still counts; a job hidden from the caller does not
+        mockMvc.perform(get("/api/jobs/" + popular)
+                .header("Authorization", "Bearer " + posterToken)
+                .header("If-None-Match", result.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/jobs/" + quiet)
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/jobs/" + quiet)
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isNotFound());
+        assertEquals(3, jobViewCounter.flush());
+
+        mockMvc.perform(get("/api/jobs?sort=views")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").value(popular))
+                .andExpect(jsonPath("$[1].id").value(quiet));
+        // Counts are served uncached and reading them is not a view
+        mockMvc.perform(get("/api/jobs/" + popular + "/views")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.jobId").value(popular))
+                .andExpect(jsonPath("$.views").value(2));
+        mockMvc.perform(get("/api/jobs/" + popular + "/views")
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isNotFound());
+        assertEquals(0, jobViewCounter.flush());
+        mockMvc.perform(get("/api/jobs?sort=oldest")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testTrendingListsMostViewedJobsOfOwnCollege() throws Exception {
+        Long quiet = createJob("Quietly trending");
+        Long popular = createJob("Loudly trending");
+        for (Long id : new Long[]{popular, popular, quiet}) {
+            mockMvc.perform(get("/api/jobs/" + id)
+                    .header("Authorization", "Bearer " + posterToken))
+                    .andExpect(status().isOk());
+        }
+        trendingJobService.refresh();
+
+        mockMvc.perform(get("/api/jobs/trending?limit=5")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].jobId").value(popular))
+                .andExpect(jsonPath("$[0].score").value(2))
+                .andExpect(jsonPath("$[1].jobId").value(quiet));
+        mockMvc.perform(get("/api/jobs/trending")
+                .header("Authorization", "Bearer " + otherCollegeToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testFeedInCborCarriesTheJsonFieldsAndETag() throws Exception {
+        createJob("Calculus tutoring");
+        createJob("Moving help");
+
+        MvcResult json = mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", json.getResponse().getHeader("ETag")))
+                .andReturn();
+
+        JsonNode fromJson = objectMapper.readTree(json.getResponse().getContentAsByteArray());
+        JsonNode fromCbor = new CBORMapper().readTree(cbor.getResponse().getContentAsByteArray());
+        assertEquals(2, fromCbor.size());
+        for (int i = 0; i < fromJson.size(); i++) {
+            assertEquals(fromJson.get(i).get("id").asLong(), fromCbor.get(i).get("id").asLong());
+            assertEquals(fromJson.get(i).get("title").asText(), fromCbor.get(i).get("title").asText());
+            // Same Jackson settings: dates stay ISO-8601 strings, budgets stay exact
+            assertEquals(fromJson.get(i).get("createdAt").asText(), fromCbor.get(i).get("createdAt").asText());
+            assertEquals(0, fromJson.get(i).get("budget").decimalValue()
+                    .compareTo(fromCbor.get(i).get("budget").decimalValue()));
+        }
+        assertTrue(cbor.getResponse().getContentAsByteArray().length
+                < json.getResponse().getContentAsByteArray().length);
+        // Weak, so the container may gzip the feed; a strong copy cached before still matches
+        String eTag = json.getResponse().getHeader("ETag");
+        assertTrue(eTag.startsWith("W/"));
+        mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .header("If-None-Match", eTag.substring(2))
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isNotModified());
+    }
+
+    private Long createJob(String title) throws Exception {
+        return createJob(jobRequest(title));
+    }
+
+    private Long createJob(CreateJobRequest request) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/jobs")
+                .header("Authorization", "Bearer " + posterToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private CreateJobRequest jobRequest(String title) {
+        CreateJobRequest request = new CreateJobRequest();
+        request.setTitle(title);
+        request.setDescription("Details for " + title);
+        request.setBudget(new BigDecimal("40.00"));
+        return request;
+    }
+}
@@ -0,0 +1,211 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.querycount.QueryBudget;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import com.collegecrew.service.TokenRevocationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Declared SQL statement budgets of the hot endpoints. Each request runs against a
+ * cleared persistence context, and list endpoints are exercised with several rows, so
+ * an N+1 regression or an extra round trip fails the build. Token checks are warmed
+ * first, as they are between requests of a signed-in user; a cold check costs one
+ * extra primary-key select, see {@link #testColdTokenCheck}.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000"
+})
+class QueryBudgetTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    private College college;
+    private User poster;
+    private Job job;
+    private String posterToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = userRepository.save(User.builder().email("poster@university.edu")
+                .passwordHash(passwordEncoder.encode("password123")).alias("poster").college(college).build());
+        posterToken = jwtService.generateToken(poster.getId(), poster.getEmail(), poster.getAlias(), college.getId());
+        for (int i = 0; i < ROWS; i++) {
+            job = saveJob("Job " + i);
+            User bidder = userRepository.save(User.builder().email("bidder" + i + "@university.edu")
+                    .passwordHash("hash").alias("bidder" + i).college(college).build());
+            bidRepository.save(Bid.builder().job(job).bidder(bidder).amount(Money.ofCents(3000)).build());
+            transactionRepository.save(Transaction.builder().job(job).payer(poster).payee(bidder)
+                    .amount(Money.ofCents(3000)).status(Transaction.STATUS_PENDING)
+                    .transactionType(Transaction.TYPE_ESCROW).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        tokenRevocationService.isCurrent(poster.getId(), 0);
+    }
+
+    @Test
+    void testLogin() throws Exception {
+        QueryBudget.selects(1).readOnly().verify(() -> mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"poster@university.edu\",\"password\":\"password123\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRegister() throws Exception {
+        QueryBudget.selects(2).inserts(1).updates(0).deletes(0).verify(() -> mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"new@university.edu\",\"password\":\"password123\",\"alias\":\"new\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testColdTokenCheck() throws Exception {
+        tokenRevocationService.evict(List.of(poster.getId()));
+
+        QueryBudget.selects(2).readOnly().verify(() -> authorized(get("/api/jobs/" + job.getId() + "/bids")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testFeed() throws Exception {
+        QueryBudget.selects(2).readOnly().verify(() -> authorized(get("/api/jobs")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void testGetJob() throws Exception {
+        QueryBudget.selects(2).readOnly().verify(() -> authorized(get("/api/jobs/" + job.getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testListBids() throws Exception {
+        QueryBudget.selects(1).readOnly().verify(() -> authorized(get("/api/jobs/" + job.getId() + "/bids")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPostJob() throws Exception {
+        QueryBudget.selects(0).inserts(2).updates(1).deletes(0).verify(() -> authorized(post("/api/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"New\",\"description\":\"Job\",\"budget\":25.00}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testPlaceBid() throws Exception {
+        Job open = saveJob("Open");
+        entityManager.flush();
+        entityManager.clear();
+        Long bidderId = userRepository.findByEmail("bidder0@university.edu").orElseThrow().getId();
+        String bidderToken = jwtService.generateToken(bidderId, "bidder0@university.edu", "bidder0", college.getId());
+        tokenRevocationService.isCurrent(bidderId, 0);
+        entityManager.clear();
+
+        QueryBudget.selects(1).inserts(2).updates(0).deletes(0).verify(() -> mockMvc.perform(
+                        post("/api/jobs/" + open.getId() + "/bids")
+                                .header("Authorization", "Bearer " + bidderToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"amount\":20.00,\"proposal\":\"Me\"}")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testDashboard() throws Exception {
+        QueryBudget.selects(6).readOnly().verify(() -> authorized(get("/api/me/dashboard")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.payments.count").value(ROWS));
+    }
+
+    @Test
+    void testRecommendationsFallBackToFeed() throws Exception {
+        // No precomputed rows yet, so the open feed is served as well
+        QueryBudget.selects(2).readOnly().verify(() -> authorized(get("/api/recommendations")))
+                .andExpect(status().isOk());
+    }
+
+    private Job saveJob(String title) {
+        return jobRepository.save(Job.builder()
+                .title(title)
+                .description("Description")
+                .budget(new BigDecimal("40.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    private ResultActions authorized(org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder request)
+            throws Exception {
+        return mockMvc.perform(request.header("Authorization", "Bearer " + posterToken));
+    }
+}
@@ -0,0 +1,209 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: the reactive read path has its own connections, so it only sees
+ * committed rows. Every row is removed again after each test.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000",
+    "collegecrew.reactive.enabled=true",
+    "collegecrew.reactive.url=r2dbc:h2:mem:///testdb",
+    "collegecrew.reactive.username=sa"
+})
+class ReactiveJobControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private College otherCollege;
+    private User poster;
+    private User bidder;
+    private String token;
+    private String outsiderToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        college = collegeRepository.save(College.builder().name("reactive.edu").build());
+        otherCollege = collegeRepository.save(College.builder().name("elsewhere.edu").build());
+        poster = saveUser("poster@reactive.edu", "poster", college);
+        bidder = saveUser("bidder@reactive.edu", "bidder", college);
+        User outsider = saveUser("outsider@elsewhere.edu", "outsider", otherCollege);
+        token = jwtService.generateToken(poster.getId(), poster.getEmail(), poster.getAlias(), college.getId());
+        outsiderToken = jwtService.generateToken(outsider.getId(), outsider.getEmail(), outsider.getAlias(),
+                otherCollege.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (College c : new College[]{college, otherCollege}) {
+            jdbcTemplate.update("DELETE FROM bids WHERE college_id = ?", c.getId());
+            jdbcTemplate.update("DELETE FROM jobs_archive WHERE college_id = ?", c.getId());
+            jdbcTemplate.update("DELETE FROM jobs WHERE college_id = ?", c.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE college_id = ?", c.getId());
+            jdbcTemplate.update("DELETE FROM colleges WHERE id = ?", c.getId());
+        }
+    }
+
+    @Test
+    void testFeedListsOpenJobsNewestFirstAndRevalidates() throws Exception {
+        Job older = saveJob("Older job", "OPEN");
+        Job newer = saveJob("Newer job", "OPEN");
+        saveJob("Assigned job", "ASSIGNED");
+
+        MvcResult result = perform(get("/api/reactive/jobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(newer.getId()))
+                .andExpect(jsonPath("$[1].id").value(older.getId()))
+                .andExpect(jsonPath("$[0].posterId").value(poster.getId()))
+                .andExpect(jsonPath("$[0].budget").value(100.0))
+                .andReturn();
+        String eTag = result.getResponse().getHeader("ETag");
+
+        perform(get("/api/reactive/jobs")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        // Same ETag as the blocking feed, so clients can switch between the two
+        mockMvc.perform(get("/api/jobs")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testJobDetailIncludesArchivedJobsOfOwnCollegeOnly() throws Exception {
+        Job job = saveJob("Live job", "OPEN");
+        long archivedId = job.getId() + 1_000_000;
+        jdbcTemplate.update("INSERT INTO jobs_archive (id, title, description, budget, status, poster_id, " +
+                "college_id, version, created_at, updated_at, archived_at) VALUES (?, 'Old job', 'Done', 80, " +
+                "'COMPLETED', ?, ?, 3, ?, ?, ?)", archivedId, poster.getId(), college.getId(),
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now());
+
+        perform(get("/api/reactive/jobs/" + job.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"job-" + job.getId() + "-v" + job.getVersion() + "\""))
+                .andExpect(jsonPath("$.title").value("Live job"))
+                .andExpect(jsonPath("$.collegeId").value(college.getId()));
+        perform(get("/api/reactive/jobs/" + archivedId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.version").value(3));
+        perform(get("/api/reactive/jobs/" + job.getId()).header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testBidListJoinsBidderAlias() throws Exception {
+        Job job = saveJob("Job with bids", "OPEN");
+        Bid first = saveBid(job, "60.00");
+        Bid second = saveBid(job, "55.50");
+
+        perform(get("/api/reactive/jobs/" + job.getId() + "/bids").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(second.getId()))
+                .andExpect(jsonPath("$[0].amount").value(55.5))
+                .andExpect(jsonPath("$[1].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].bidderAlias").value("bidder"))
+                .andExpect(jsonPath("$[1].jobId").value(job.getId()));
+        perform(get("/api/reactive/jobs/" + job.getId() + "/bids").header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    private ResultActions perform(RequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private User saveUser(String email, String alias, College college) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .passwordHash("hash")
+                .alias(alias)
+                .college(college)
+                .build());
+    }
+
+    private Job saveJob(String title, String status) {
+        return jobRepository.save(Job.builder()
+                .title(title)
+                .description("Description of " + title)
+                .budget(new BigDecimal("100.00"))
+                .status(status)
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    private Bid saveBid(Job job, String amount) {
+        return bidRepository.save(Bid.builder()
+                .job(job)
+                .bidder(bidder)
+                .college(college)
+                .amount(Money.of(new BigDecimal(amount)))
+                .proposal("I can do it")
+                .build());
+    }
+}
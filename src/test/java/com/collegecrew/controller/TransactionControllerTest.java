@@ -0,0 +1,89 @@
+package com.collegecrew.controller;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000"
+})
+class TransactionControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        College college = collegeRepository.save(College.builder().name("university.edu").build());
+        User user = userRepository.save(User.builder()
+                .email("student@university.edu")
+                .passwordHash("hash")
+                .alias("student")
+                .college(college)
+                .build());
+        token = jwtService.generateToken(user.getId(), user.getEmail(), user.getAlias(), college.getId());
+    }
+
+    @Test
+    void testExportStreamsCsvAttachment() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/transactions/export")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transactions.csv\""))
+                .andExpect(content().string(
+                        "id,job_id,direction,counterparty_id,amount,status,type,created_at,settled_at,archived\n"));
+    }
+
+    @Test
+    void testExportRejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/transactions/export?format=xml")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/transactions/export"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,18 @@
+package com.collegecrew.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Id ranges of a generated dataset; the first id of each range is the most popular
+ * row where the generator applies skew.
+ */
+@Getter
+@AllArgsConstructor
+public class Dataset {
+
+    private final long firstCollegeId;
+    private final long firstUserId;
+    private final long firstJobId;
+    private final DatasetSize size;
+}
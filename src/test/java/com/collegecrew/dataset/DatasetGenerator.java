@@ -0,0 +1,184 @@
+package com.collegecrew.dataset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk-loads a synthetic marketplace with production-like skew: college sizes
+ * and bids per job both follow a Zipf distribution, so a few huge campuses and
+ * hot jobs dominate, just as they do in production.
+ *
+ * Rows are written with JDBC batched inserts using explicit ids; identity
+ * columns are moved past the generated range afterwards. With PostgreSQL, add
+ * {@code reWriteBatchedInserts=true} to the JDBC URL to get COPY-like speed.
+ */
+public class DatasetGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String PASSWORD_HASH = "$2a$10$datasetdatasetdatasetdeUJ8N0JmvD1N1o6Kp9R5nO2QbYp3e";
+    private static final String[] STATUSES = {"OPEN", "OPEN", "OPEN", "ASSIGNED", "COMPLETED"};
+    private static final String[] WORDS = {"tutoring", "calculus", "moving", "essay", "proofreading", "python",
+            "laundry", "delivery", "photography", "design", "chemistry", "notes", "furniture", "java", "resume"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generate a full dataset
+     * @param size Row counts per table
+     * @return Id ranges of the generated rows
+     */
+    public Dataset generate(DatasetSize size) {
+        long collegeBase = nextId("colleges");
+        long userBase = nextId("users");
+        long jobBase = nextId("jobs");
+        long bidBase = nextId("bids");
+        long transactionBase = nextId("transactions");
+
+        insertColleges(collegeBase, size.getColleges());
+        long[] userColleges = insertUsers(userBase, size.getUsers(), collegeBase, size.getColleges());
+        long[] jobPosters = insertJobs(jobBase, size.getJobs(), userBase, userColleges);
+        insertBids(bidBase, size.getBids(), jobBase, jobPosters, userBase, userColleges);
+        insertTransactions(transactionBase, size.getTransactions(), jobBase, jobPosters, userBase, userColleges.length);
+
+        restartIdentity("colleges", collegeBase + size.getColleges());
+        restartIdentity("users", userBase + size.getUsers());
+        restartIdentity("jobs", jobBase + size.getJobs());
+        restartIdentity("bids", bidBase + size.getBids());
+        restartIdentity("transactions", transactionBase + size.getTransactions());
+
+        return new Dataset(collegeBase, userBase, jobBase, size);
+    }
+
+    private void insertColleges(long base, int count) {
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{base + i, "college" + (base + i) + ".edu"});
+            flushIfFull("INSERT INTO colleges (id, name, feed_version) VALUES (?, ?, 0)", batch);
+        }
+        flush("INSERT INTO colleges (id, name, feed_version) VALUES (?, ?, 0)", batch);
+    }
+
+    private long[] insertUsers(long base, int count, long collegeBase, int colleges) {
+        String sql = "INSERT INTO users (id, email, password_hash, alias, college_id, balance) VALUES (?, ?, ?, ?, ?, 0)";
+        ZipfSampler collegeSkew = new ZipfSampler(colleges, 1.1);
+        long[] userColleges = new long[count];
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = base + i;
+            long collegeId = collegeBase + collegeSkew.next(random);
+            userColleges[i] = collegeId;
+            batch.add(new Object[]{id, "user" + id + "@college" + collegeId + ".edu", PASSWORD_HASH, "user" + id, collegeId});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+        return userColleges;
+    }
+
+    private long[] insertJobs(long base, int count, long userBase, long[] userColleges) {
+        String sql = "INSERT INTO jobs (id, title, description, budget, status, poster_id, college_id, " +
+                "version, created_at, updated_at, deadline) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+        long[] posters = new long[count];
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int posterIndex = random.nextInt(userColleges.length);
+            posters[i] = userBase + posterIndex;
+            Timestamp createdAt = timestamp();
+            batch.add(new Object[]{base + i, words(4), words(30), money(5, 500),
+                    STATUSES[random.nextInt(STATUSES.length)], posters[i], userColleges[posterIndex],
+                    createdAt, createdAt, Timestamp.valueOf(createdAt.toLocalDateTime().plusDays(30))});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+        return posters;
+    }
+
+    private void insertBids(long base, int count, long jobBase, long[] jobPosters, long userBase, long[] userColleges) {
+        String sql = "INSERT INTO bids (id, job_id, college_id, bidder_id, amount, proposal, status, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        ZipfSampler hotJobs = new ZipfSampler(jobPosters.length, 0.9);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int job = hotJobs.next(random);
+            long collegeId = userColleges[(int) (jobPosters[job] - userBase)];
+            batch.add(new Object[]{base + i, jobBase + job, collegeId, userBase + random.nextInt(userColleges.length),
+                    money(5, 500), words(12), "PENDING", timestamp()});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void insertTransactions(long base, int count, long jobBase, long[] jobPosters, long userBase, int users) {
+        String sql = "INSERT INTO transactions (id, job_id, payer_id, payee_id, amount, status, transaction_type, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int job = random.nextInt(jobPosters.length);
+            batch.add(new Object[]{base + i, jobBase + job, jobPosters[job], userBase + random.nextInt(users),
+                    money(5, 500), random.nextInt(10) == 0 ? "PENDING" : "COMPLETED", "PAYMENT", timestamp()});
+            flushIfFull(sql, batch);
+        }
+        flush(sql, batch);
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batch) {
+        if (batch.size() >= BATCH_SIZE) {
+            flush(sql, batch);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void restartIdentity(String table, long next) {
+        if (isPostgres()) {
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + (next - 1) + ")");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((java.sql.Connection connection) ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")));
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    private BigDecimal money(int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+
+    private Timestamp timestamp() {
+        return Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 90)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.collegecrew.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Row counts for a generated dataset, read from {@code dataset.*} system properties.
+ */
+@Getter
+@AllArgsConstructor
+public class DatasetSize {
+
+    private final int colleges;
+    private final int users;
+    private final int jobs;
+    private final int bids;
+    private final int transactions;
+
+    /**
+     * Build a size from system properties, falling back to a laptop-friendly default
+     * @return DatasetSize
+     */
+    public static DatasetSize fromSystemProperties() {
+        return new DatasetSize(
+                Integer.getInteger("dataset.colleges", 500),
+                Integer.getInteger("dataset.users", 50_000),
+                Integer.getInteger("dataset.jobs", 100_000),
+                Integer.getInteger("dataset.bids", 300_000),
+                Integer.getInteger("dataset.transactions", 50_000));
+    }
+}
@@ -0,0 +1,100 @@
+package com.collegecrew.dataset;
+
+import com.collegecrew.reactive.ReactiveBidRepository;
+import com.collegecrew.reactive.ReactiveJobRepository;
+import com.collegecrew.repository.ArchivedBidRepository;
+import com.collegecrew.repository.ArchivedJobRepository;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRecommendationRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A call of every custom repository query, with arguments drawn from the generated
+ * dataset (hottest college, most active user, ...). {@link QueryPlanTest} invokes each
+ * call, captures the SQL it sends and fails if a repository method is never called.
+ */
+public final class QueryPlanCatalog {
+
+    private QueryPlanCatalog() {
+    }
+
+    /**
+     * Build the catalog for a generated dataset
+     * @param dataset Generated dataset
+     * @return Repository calls, one repository method each
+     */
+    public static List<PlannedCall<?>> entries(Dataset dataset) {
+        long hotCollege = dataset.getFirstCollegeId();
+        long firstUser = dataset.getFirstUserId();
+        long hotJob = dataset.getFirstJobId();
+        String hotCollegeName = "college" + hotCollege + ".edu";
+        String firstEmail = "user" + firstUser + "@college" + hotCollege + ".edu";
+        return List.of(
+                call(CollegeRepository.class, r -> r.findByName(hotCollegeName)),
+                call(CollegeRepository.class, r -> r.findForRegistrationByName(hotCollegeName)),
+                call(CollegeRepository.class, r -> r.findByNameIn(
+                        List.of(hotCollegeName, "college" + (hotCollege + 1) + ".edu"))),
+                call(CollegeRepository.class, r -> r.findFeedVersionById(hotCollege)),
+                call(CollegeRepository.class, r -> r.findIdsAfter(hotCollege, PageRequest.of(0, 100))),
+                call(CollegeRepository.class, r -> r.incrementFeedVersions(List.of(hotCollege, hotCollege + 1))),
+                call(CollegeRepository.class, r -> r.incrementFeedVersion(hotCollege)),
+                call(UserRepository.class, r -> r.findByEmail(firstEmail)),
+                call(UserRepository.class, r -> r.findExistingEmails(List.of(firstEmail, "nobody@example.edu"))),
+                call(UserRepository.class, r -> r.findActivityCounts(firstUser, hotCollege)),
+                call(UserRepository.class, r -> r.findBidderIdsByCollege(hotCollege, 0L, PageRequest.of(0, 500))),
+                call(ArchivedBidRepository.class, r -> r.findResponsesByJob(hotJob, hotCollege)),
+                call(ArchivedJobRepository.class, r -> r.findVersionByIdAndCollegeId(hotJob, hotCollege)),
+                call(ArchivedJobRepository.class, r -> r.findViewsByIdAndCollegeId(hotJob, hotCollege)),
+                call(ArchivedJobRepository.class, r -> r.findResponseByIdAndCollegeId(hotJob, hotCollege)),
+                call(BidRepository.class, r -> r.findHistoryByBidderIds(hotCollege,
+                        List.of(firstUser, firstUser + 1, firstUser + 2))),
+                call(BidRepository.class, r -> r.rejectPendingBids(List.of(hotCollege, hotCollege + 1),
+                        List.of(hotJob, hotJob + 1))),
+                call(BidRepository.class, r -> r.findRecentByBidder(firstUser, hotCollege, PageRequest.of(0, 5))),
+                call(BidRepository.class, r -> r.findResponsesByJob(hotJob, hotCollege)),
+                call(JobRecommendationRepository.class, r -> r.findTopForUser(firstUser, PageRequest.of(0, 20))),
+                call(JobRecommendationRepository.class, r -> r.deleteByUserIds(List.of(firstUser, firstUser + 1))),
+                call(JobRepository.class, r -> r.findVersionByIdAndCollegeId(hotJob, hotCollege)),
+                call(JobRepository.class, r -> r.findForBiddingByIdAndCollegeId(hotJob, hotCollege)),
+                call(JobRepository.class, r -> r.findViewsByIdAndCollegeId(hotJob, hotCollege)),
+                call(JobRepository.class, r -> r.findResponseByIdAndCollegeId(hotJob, hotCollege)),
+                call(JobRepository.class, r -> r.findRecentByPoster(firstUser, hotCollege, PageRequest.of(0, 5))),
+                call(JobRepository.class, r -> r.findRecentByAssignee(firstUser, hotCollege, PageRequest.of(0, 5))),
+                call(JobRepository.class, r -> r.findOpenCandidates(hotCollege, PageRequest.of(0, 2000))),
+                call(JobRepository.class, r -> r.findOverdueOpenJobs(LocalDateTime.now().minusDays(60),
+                        PageRequest.of(0, 500))),
+                call(JobRepository.class, r -> r.expireOpenJobs(List.of(hotCollege, hotCollege + 1),
+                        List.of(hotJob, hotJob + 1), LocalDateTime.now())),
+                call(JobRepository.class, r -> r.findOpenFeed(hotCollege, PageRequest.of(0, 20))),
+                call(JobRepository.class, r -> r.findOpenFeedByViews(hotCollege, PageRequest.of(0, 20))),
+                call(TransactionRepository.class, r -> r.findRecentByPayer(firstUser, PageRequest.of(0, 5))),
+                call(TransactionRepository.class, r -> r.findRecentByPayee(firstUser, PageRequest.of(0, 5))),
+                call(ReactiveJobRepository.class, r -> r.findOpenFeed(hotCollege, 20, 0L)),
+                call(ReactiveJobRepository.class, r -> r.findByIdAndCollegeId(hotJob, hotCollege)),
+                call(ReactiveJobRepository.class, r -> r.findFeedVersionById(hotCollege)),
+                call(ReactiveBidRepository.class, r -> r.findByJob(hotJob, hotCollege)),
+                call(ReactiveBidRepository.class, r -> r.findArchivedByJob(hotJob, hotCollege))
+        );
+    }
+
+    private static <R> PlannedCall<R> call(Class<R> repository, Function<R, ?> call) {
+        return new PlannedCall<>(repository, call);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PlannedCall<R> {
+        private final Class<R> repository;
+        private final Function<R, ?> call;
+    }
+}
@@ -0,0 +1,71 @@
+package com.collegecrew.dataset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Captures {@code EXPLAIN} output for a query and recognises full table scans
+ * on both PostgreSQL ("Seq Scan on jobs") and H2 ("jobs.tableScan").
+ */
+public class QueryPlanInspector {
+
+    private static final Pattern POSTGRES_SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QueryPlanInspector(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Refresh planner statistics so plans reflect the generated data volume
+     */
+    public void analyze() {
+        // Both PostgreSQL and H2 accept a bare ANALYZE over the whole database
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Get the execution plan for a query
+     * @param sql Query with positional parameters
+     * @param params Parameter values
+     * @return Plan text, one line per plan node
+     */
+    public String explain(String sql, Object... params) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < params.length; i++) {
+                    statement.setObject(i + 1, params[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /**
+     * Find the first table read by a full scan in a plan
+     * @param plan Plan text from {@link #explain}
+     * @return Table name, or null if every table is read through an index
+     */
+    public static String sequentiallyScannedTable(String plan) {
+        Matcher postgres = POSTGRES_SEQ_SCAN.matcher(plan);
+        if (postgres.find()) {
+            return postgres.group(1);
+        }
+        Matcher h2 = H2_TABLE_SCAN.matcher(plan);
+        return h2.find() ? h2.group(1).toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.collegecrew.dataset;
+
+import com.collegecrew.querycount.QueryCounts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads a large skewed dataset, invokes every catalogued repository call and fails if
+ * any statement it sent is planned as a full table scan. Excluded from the default build; run with {@code mvn test -Pperf}.
+ * Point {@code spring.datasource.*} at a PostgreSQL instance to check real plans;
+ * scale with {@code dataset.users}, {@code dataset.jobs}, etc.
+ */
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private QueryPlanInspector inspector;
+    private List<RepositoryQueryCapture.CapturedCall> captured;
+
+    @BeforeAll
+    void generateDataset() throws Exception {
+        long start = System.nanoTime();
+        Dataset dataset = new DatasetGenerator(jdbcTemplate, 42).generate(DatasetSize.fromSystemProperties());
+        inspector = new QueryPlanInspector(jdbcTemplate);
+        inspector.analyze();
+        System.out.printf("Generated dataset in %.1fs%n", (System.nanoTime() - start) / 1e9);
+
+        RepositoryQueryCapture capture = new RepositoryQueryCapture(applicationContext);
+        captured = new ArrayList<>();
+        for (QueryPlanCatalog.PlannedCall<?> call : QueryPlanCatalog.entries(dataset)) {
+            captured.add(capture.capture(call));
+        }
+    }
+
+    @Test
+    void testNoRepositoryQueryUsesSequentialScan() {
+        List<String> regressions = new ArrayList<>();
+        for (RepositoryQueryCapture.CapturedCall call : captured) {
+            String name = String.join(", ", call.methods());
+            for (QueryCounts.Execution execution : call.executions()) {
+                String plan = inspector.explain(execution.sql(), execution.parameters().toArray());
+                System.out.printf("%n-- %s%n%s%n%s", name, execution.sql(), plan);
+                String scanned = QueryPlanInspector.sequentiallyScannedTable(plan);
+                if (scanned != null) {
+                    regressions.add(name + " scans " + scanned);
+                }
+            }
+        }
+        assertTrue(regressions.isEmpty(), "Sequential scans: " + regressions);
+    }
+
+    @Test
+    void testEveryCatalogueCallSendsOneRepositoryQuery() {
+        for (RepositoryQueryCapture.CapturedCall call : captured) {
+            assertEquals(1, call.methods().size(), "Catalogue calls must invoke one repository method: " + call.methods());
+            assertFalse(call.executions().isEmpty(), call.methods().get(0) + " sent no SQL");
+        }
+    }
+
+    @Test
+    void testEveryRepositoryQueryIsCatalogued() {
+        Set<String> catalogued = captured.stream()
+                .flatMap(call -> call.methods().stream())
+                .collect(Collectors.toSet());
+
+        Set<String> missing = new TreeSet<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            Class<?> repository = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                if (!catalogued.contains(name)) {
+                    missing.add(name);
+                }
+            }
+        }
+        assertTrue(missing.isEmpty(), "Repository queries without a plan check: " + missing);
+    }
+
+    @Test
+    void testSequentialScanDetection() {
+        assertEquals("jobs", QueryPlanInspector.sequentiallyScannedTable("Seq Scan on jobs  (cost=0.00..1.01 rows=1)"));
+        assertEquals("jobs", QueryPlanInspector.sequentiallyScannedTable("FROM \"public\".\"jobs\" /* PUBLIC.JOBS.tableScan */"));
+        assertNull(QueryPlanInspector.sequentiallyScannedTable("Index Scan using uk_users_email on users"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.collegecrew.dataset;
+
+import com.collegecrew.querycount.QueryCounter;
+import com.collegecrew.querycount.QueryCounts;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Invokes catalogued repository calls and captures the SQL they send, so plans are
+ * checked against the statements Hibernate actually generates.
+ *
+ * JPA repositories run for real in a transaction that is rolled back, with statements
+ * and their bound parameters recorded by the datasource-proxy {@link QueryCounter}.
+ * R2DBC repositories bypass the {@code DataSource}; their declared {@link Query} is sent
+ * as written, so it is captured with its named parameters bound to the call's arguments.
+ */
+public class RepositoryQueryCapture {
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+
+    private final ApplicationContext applicationContext;
+    private final TransactionTemplate transactionTemplate;
+
+    public RepositoryQueryCapture(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.transactionTemplate = new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+    }
+
+    /**
+     * Invoke a catalogued call and capture its statements
+     * @param planned Catalogued call
+     * @return Repository methods the call invoked and the statements they sent
+     * @throws Exception whatever the repository throws
+     */
+    public <R> CapturedCall capture(QueryPlanCatalog.PlannedCall<R> planned) throws Exception {
+        Class<R> repositoryType = planned.getRepository();
+        R repository = applicationContext.getBean(repositoryType);
+        boolean reactive = R2dbcRepository.class.isAssignableFrom(repositoryType);
+        List<String> methods = new ArrayList<>();
+        List<QueryCounts.Execution> executions = new ArrayList<>();
+
+        R recording = repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType}, (proxy, method, args) -> {
+                    methods.add(repositoryType.getSimpleName() + "." + method.getName());
+                    if (reactive) {
+                        executions.add(bind(method, args));
+                        return null;
+                    }
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+
+        if (reactive) {
+            planned.getCall().apply(recording);
+        } else {
+            executions.addAll(QueryCounter.measure(() -> transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                return planned.getCall().apply(recording);
+            })).counts().executions());
+        }
+        return new CapturedCall(List.copyOf(methods), List.copyOf(executions));
+    }
+
+    private static QueryCounts.Execution bind(Method method, Object[] args) {
+        Query query = method.getAnnotation(Query.class);
+        if (query == null) {
+            throw new IllegalArgumentException(method + " has no @Query to capture");
+        }
+        Map<String, Object> arguments = new HashMap<>();
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            arguments.put(parameters[i].getAnnotation(Param.class).value(), args[i]);
+        }
+        List<Object> values = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(query.value());
+        StringBuilder sql = new StringBuilder();
+        while (matcher.find()) {
+            values.add(arguments.get(matcher.group(1)));
+            matcher.appendReplacement(sql, "?");
+        }
+        matcher.appendTail(sql);
+        return new QueryCounts.Execution(sql.toString(), Arrays.asList(values.toArray()));
+    }
+
+    /**
+     * Repository methods invoked by one catalogued call and the statements they sent
+     */
+    public record CapturedCall(List<String> methods, List<QueryCounts.Execution> executions) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.collegecrew.dataset;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks 0..n-1 with Zipf-distributed probability, so a handful of
+ * low ranks (huge colleges, hot jobs) receive most of the draws.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    /**
+     * @param n Number of distinct ranks
+     * @param exponent Skew; 0 is uniform, ~1 is classic Zipf
+     */
+    public ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    /**
+     * Draw a rank
+     * @param random Source of randomness
+     * @return Rank between 0 (most popular) and n-1
+     */
+    public int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
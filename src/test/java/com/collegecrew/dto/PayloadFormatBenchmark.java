@@ -0,0 +1,190 @@
+package com.collegecrew.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of JSON and CBOR encoding and decoding of the payloads mobile
+ * clients fetch most: a feed page of 20 jobs, the bids on a job and the auth
+ * response. Mappers are configured like the application's (ISO-8601 dates). Run
+ * through {@link PayloadFormatBenchmarkTest}, which also reports sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    static final TypeReference<List<JobResponse>> JOB_LIST = new TypeReference<>() {
+    };
+    static final TypeReference<List<BidResponse>> BID_LIST = new TypeReference<>() {
+    };
+
+    private static final String[] WORDS = ("help need calculus tutoring moving couch dorm saturday exam midterm "
+            + "essay review chemistry lab report campus library online weekly hours flexible bring laptop "
+            + "pickup groceries dog walking resume feedback python assignment physics statistics spanish "
+            + "conversation practice furniture assembly bike repair photography event poster design").split(" ");
+
+    private final ObjectMapper json = jsonMapper();
+    private final ObjectMapper cbor = cborMapper();
+
+    private List<JobResponse> feed;
+    private List<BidResponse> bids;
+    private AuthResponse auth;
+    private byte[] feedJson;
+    private byte[] feedCbor;
+    private byte[] bidsJson;
+    private byte[] bidsCbor;
+    private byte[] authJson;
+    private byte[] authCbor;
+
+    @Setup
+    public void setUp() throws Exception {
+        feed = feedPage();
+        bids = bidList();
+        auth = authResponse();
+        feedJson = json.writeValueAsBytes(feed);
+        feedCbor = cbor.writeValueAsBytes(feed);
+        bidsJson = json.writeValueAsBytes(bids);
+        bidsCbor = cbor.writeValueAsBytes(bids);
+        authJson = json.writeValueAsBytes(auth);
+        authCbor = cbor.writeValueAsBytes(auth);
+    }
+
+    @Benchmark
+    public byte[] encodeFeedJson() throws Exception {
+        return json.writeValueAsBytes(feed);
+    }
+
+    @Benchmark
+    public byte[] encodeFeedCbor() throws Exception {
+        return cbor.writeValueAsBytes(feed);
+    }
+
+    @Benchmark
+    public List<JobResponse> decodeFeedJson() throws Exception {
+        return json.readValue(feedJson, JOB_LIST);
+    }
+
+    @Benchmark
+    public List<JobResponse> decodeFeedCbor() throws Exception {
+        return cbor.readValue(feedCbor, JOB_LIST);
+    }
+
+    @Benchmark
+    public byte[] encodeBidsJson() throws Exception {
+        return json.writeValueAsBytes(bids);
+    }
+
+    @Benchmark
+    public byte[] encodeBidsCbor() throws Exception {
+        return cbor.writeValueAsBytes(bids);
+    }
+
+    @Benchmark
+    public List<BidResponse> decodeBidsJson() throws Exception {
+        return json.readValue(bidsJson, BID_LIST);
+    }
+
+    @Benchmark
+    public List<BidResponse> decodeBidsCbor() throws Exception {
+        return cbor.readValue(bidsCbor, BID_LIST);
+    }
+
+    @Benchmark
+    public byte[] encodeAuthJson() throws Exception {
+        return json.writeValueAsBytes(auth);
+    }
+
+    @Benchmark
+    public byte[] encodeAuthCbor() throws Exception {
+        return cbor.writeValueAsBytes(auth);
+    }
+
+    @Benchmark
+    public AuthResponse decodeAuthJson() throws Exception {
+        return json.readValue(authJson, AuthResponse.class);
+    }
+
+    @Benchmark
+    public AuthResponse decodeAuthCbor() throws Exception {
+        return cbor.readValue(authCbor, AuthResponse.class);
+    }
+
+    static ObjectMapper jsonMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static ObjectMapper cborMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .factory(new CBORFactory())
+                .build();
+    }
+
+    /**
+     * @return A default-size feed page of open jobs with realistic text lengths
+     */
+    static List<JobResponse> feedPage() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 10, 15, 30);
+        List<JobResponse> page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            long id = 120_000 - i;
+            LocalDateTime created = now.minusMinutes(random.nextInt(10_000));
+            page.add(new JobResponse(id, text(random, 5), text(random, 30),
+                    BigDecimal.valueOf(1_000 + random.nextInt(49_000), 2), "OPEN", 4_000L + random.nextInt(1_000),
+                    null, 17L, created.plusDays(14), created.plusDays(7), (long) random.nextInt(5),
+                    created, created, null));
+        }
+        return page;
+    }
+
+    /**
+     * @return Bids on one job, as listed to its poster
+     */
+    static List<BidResponse> bidList() {
+        Random random = new Random(7);
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 10, 15, 30);
+        List<BidResponse> bids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            bids.add(new BidResponse(900_000L - i, 120_000L, 5_000L + i, "bidder" + (5_000 + i),
+                    BigDecimal.valueOf(1_000 + random.nextInt(4_000), 2),
+                    text(random, 12), "PENDING", now.minusMinutes(i * 7L)));
+        }
+        return bids;
+    }
+
+    // Random words rather than one repeated sentence, so gzip sizes are not flattered
+    private static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+
+    static AuthResponse authResponse() {
+        return new AuthResponse("eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJqb2huQHVuaXZlcnNpdHkuZWR1IiwidXNlcklkIjo0MjEz"
+                + "LCJhbGlhcyI6ImpvaG5kb2UiLCJjb2xsZWdlSWQiOjE3LCJpYXQiOjE3NjA4Njg5MzAsImV4cCI6MTc2MDk1NTMzMH0."
+                + "6x0Pq0s1Jm1y8b1ZlF3vFQZ7yq7m7cQm2dJ3V1kzq9E", 4_213L, "john@university.edu", "johndoe", 17L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.collegecrew.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reports the size of each payload in JSON and CBOR, plain and gzipped, then runs
+ * {@link PayloadFormatBenchmark} under JMH for the encode and decode cost. Checks that
+ * CBOR is smaller than JSON and that both decode to the same DTOs. Part of the
+ * {@code perf} profile: {@code mvn test -Pperf -Dtest=PayloadFormatBenchmarkTest}.
+ * Tunables (system properties): {@code jmh.forks}, {@code jmh.iterations},
+ * {@code jmh.iterationSeconds}.
+ */
+@Tag("perf")
+class PayloadFormatBenchmarkTest {
+
+    @Test
+    void cborIsSmallerThanJson() throws Exception {
+        ObjectMapper json = PayloadFormatBenchmark.jsonMapper();
+        ObjectMapper cbor = PayloadFormatBenchmark.cborMapper();
+        Map<String, Object> payloads = Map.of(
+                "Feed", PayloadFormatBenchmark.feedPage(),
+                "Bids", PayloadFormatBenchmark.bidList(),
+                "Auth", PayloadFormatBenchmark.authResponse());
+        for (String payload : new String[]{"Feed", "Bids", "Auth"}) {
+            byte[] asJson = json.writeValueAsBytes(payloads.get(payload));
+            byte[] asCbor = cbor.writeValueAsBytes(payloads.get(payload));
+            System.out.printf("%-5s JSON %6d B (gzip %5d B)   CBOR %6d B (gzip %5d B)   %4.0f%% of JSON%n",
+                    payload, asJson.length, gzip(asJson).length, asCbor.length, gzip(asCbor).length,
+                    100.0 * asCbor.length / asJson.length);
+            assertTrue(asCbor.length < asJson.length, payload + " is not smaller in CBOR");
+        }
+        assertEquals(PayloadFormatBenchmark.feedPage(),
+                cbor.readValue(cbor.writeValueAsBytes(PayloadFormatBenchmark.feedPage()), PayloadFormatBenchmark.JOB_LIST));
+        assertEquals(PayloadFormatBenchmark.bidList(),
+                cbor.readValue(cbor.writeValueAsBytes(PayloadFormatBenchmark.bidList()), PayloadFormatBenchmark.BID_LIST));
+
+        int iterations = Integer.getInteger("jmh.iterations", 3);
+        TimeValue iterationTime = TimeValue.seconds(Integer.getInteger("jmh.iterationSeconds", 1));
+        Options options = new OptionsBuilder()
+                .include(PayloadFormatBenchmark.class.getName())
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(iterations)
+                .warmupTime(iterationTime)
+                .measurementIterations(iterations)
+                .measurementTime(iterationTime)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> scores = new HashMap<>();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            scores.put(name.substring(name.lastIndexOf('.') + 1), result.getPrimaryResult().getScore());
+        }
+        // Cost is reported, not asserted: it depends on the JIT and is small next to the transfer time
+        for (String operation : new String[]{"encodeFeed", "decodeFeed", "encodeBids", "decodeBids",
+                "encodeAuth", "decodeAuth"}) {
+            double asJson = scores.get(operation + "Json");
+            double asCbor = scores.get(operation + "Cbor");
+            System.out.printf("%-11s JSON %8.3f us/op   CBOR %8.3f us/op   %5.2fx%n",
+                    operation, asJson, asCbor, asJson / asCbor);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
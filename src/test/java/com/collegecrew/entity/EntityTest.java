@@ -1,5 +1,6 @@
 package com.collegecrew.entity;
 
+import com.collegecrew.money.Money;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -100,12 +101,12 @@ class EntityTest {
         Bid bid = Bid.builder()
                 .job(job)
                 .bidder(bidder)
-                .amount(new BigDecimal("80.00"))
+                .amount(Money.ofCents(8000))
                 .proposal("I can do this job")
                 .build();
         
         assertNotNull(bid);
-        assertEquals(new BigDecimal("80.00"), bid.getAmount());
+        assertEquals(Money.ofCents(8000), bid.getAmount());
         assertEquals("PENDING", bid.getStatus());
         assertEquals(job, bid.getJob());
         assertEquals(bidder, bid.getBidder());
@@ -144,13 +145,13 @@ class EntityTest {
                 .job(job)
                 .payer(payer)
                 .payee(payee)
-                .amount(new BigDecimal("100.00"))
+                .amount(Money.ofCents(10000))
                 .status("COMPLETED")
                 .transactionType("PAYMENT")
                 .build();
         
         assertNotNull(transaction);
-        assertEquals(new BigDecimal("100.00"), transaction.getAmount());
+        assertEquals(Money.ofCents(10000), transaction.getAmount());
         assertEquals("COMPLETED", transaction.getStatus());
         assertEquals("PAYMENT", transaction.getTransactionType());
         assertEquals(job, transaction.getJob());
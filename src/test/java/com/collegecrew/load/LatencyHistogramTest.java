@@ -0,0 +1,39 @@
+package com.collegecrew.load;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsContainValue() {
+        long[] samples = {0, 1, 31, 32, 33, 64, 1_000, 123_456, 60_000_000L};
+        for (long micros : samples) {
+            int index = LatencyHistogram.indexFor(micros);
+            assertTrue(LatencyHistogram.upperBoundFor(index) >= micros);
+            assertTrue(index == 0 || LatencyHistogram.upperBoundFor(index - 1) < micros);
+        }
+    }
+
+    @Test
+    void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordNanos(i * 1_000L);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(5_000, histogram.percentileMicros(50), 5_000 * 0.04);
+        assertEquals(9_900, histogram.percentileMicros(99), 9_900 * 0.04);
+        assertEquals(10_000, histogram.percentileMicros(100));
+        assertEquals(10_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentileMicros(99));
+        assertEquals(0, histogram.getMeanMicros());
+    }
+}
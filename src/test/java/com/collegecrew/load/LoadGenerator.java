@@ -0,0 +1,97 @@
+package com.collegecrew.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a {@link LoadScenario} either at a fixed arrival rate (open model) or
+ * as fast as a fixed number of workers allows (closed model).
+ *
+ * In open-model runs latency is measured from the intended start time rather than
+ * the actual one, so queueing inside the generator is charged to the system under
+ * test instead of being silently hidden (coordinated omission).
+ */
+public class LoadGenerator {
+
+    private final int concurrency;
+
+    public LoadGenerator(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Run a scenario for a fixed duration
+     * @param name Scenario name used in the report
+     * @param scenario Work to execute
+     * @param ratePerSecond Target arrival rate; zero or negative runs closed-loop at full speed
+     * @param duration How long to generate load
+     * @return LoadReport with throughput, errors and latency histogram
+     */
+    public LoadReport run(String name, LoadScenario scenario, int ratePerSecond, Duration duration)
+            throws InterruptedException {
+        return ratePerSecond > 0
+                ? runOpen(name, scenario, ratePerSecond, duration)
+                : runClosed(name, scenario, duration);
+    }
+
+    private LoadReport runOpen(String name, LoadScenario scenario, int ratePerSecond, Duration duration)
+            throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long totalOperations = duration.toNanos() / intervalNanos;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (long i = 0; i < totalOperations; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long iteration = i;
+            workers.execute(() -> {
+                try {
+                    scenario.execute(iteration);
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+                histogram.recordNanos(System.nanoTime() - intended);
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        return new LoadReport(name, histogram.getCount(), errors.get(), System.nanoTime() - start, histogram);
+    }
+
+    private LoadReport runClosed(String name, LoadScenario scenario, Duration duration)
+            throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong sequence = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        scenario.execute(sequence.getAndIncrement());
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    histogram.recordNanos(System.nanoTime() - begin);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        return new LoadReport(name, histogram.getCount(), errors.get(), System.nanoTime() - start, histogram);
+    }
+}
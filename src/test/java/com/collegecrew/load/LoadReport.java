@@ -0,0 +1,56 @@
+package com.collegecrew.load;
+
+import lombok.Getter;
+
+/**
+ * Result of a single scenario run: throughput, error rate and latency distribution.
+ */
+@Getter
+public class LoadReport {
+
+    private final String scenario;
+    private final long operations;
+    private final long errors;
+    private final long elapsedNanos;
+    private final LatencyHistogram histogram;
+
+    public LoadReport(String scenario, long operations, long errors, long elapsedNanos, LatencyHistogram histogram) {
+        this.scenario = scenario;
+        this.operations = operations;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.histogram = histogram;
+    }
+
+    public double getThroughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getThroughputPerCore() {
+        return getThroughputPerSecond() / Runtime.getRuntime().availableProcessors();
+    }
+
+    public double getErrorRate() {
+        return operations == 0 ? 0 : (double) errors / operations;
+    }
+
+    /**
+     * Render the report as a single human-readable block
+     * @return Formatted report
+     */
+    public String format() {
+        return String.format(
+                "%n=== %s ===%n" +
+                "operations: %d, errors: %d (%.2f%%), elapsed: %.1fs%n" +
+                "throughput: %.1f ops/s (%.1f ops/s per core, %d cores)%n" +
+                "latency (ms): mean=%.2f p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                scenario, operations, errors, getErrorRate() * 100, elapsedNanos / 1e9,
+                getThroughputPerSecond(), getThroughputPerCore(), Runtime.getRuntime().availableProcessors(),
+                histogram.getMeanMicros() / 1000.0,
+                histogram.percentileMicros(50) / 1000.0,
+                histogram.percentileMicros(90) / 1000.0,
+                histogram.percentileMicros(99) / 1000.0,
+                histogram.percentileMicros(99.9) / 1000.0,
+                histogram.getMaxMicros() / 1000.0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.collegecrew.load;
+
+/**
+ * A single unit of work driven by the {@link LoadGenerator}.
+ * Implementations must be thread-safe; a non-exceptional return counts as success.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    /**
+     * Execute one operation of the scenario
+     * @param iteration Monotonic operation number, useful for generating unique data
+     * @throws Exception if the operation failed and should be counted as an error
+     */
+    void execute(long iteration) throws Exception;
+}
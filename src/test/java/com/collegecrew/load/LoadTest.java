@@ -0,0 +1,220 @@
+package com.collegecrew.load;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load scenarios against the full application on an embedded H2 database in
+ * PostgreSQL mode. Excluded from the default build; run with {@code mvn test -Pperf}.
+ *
+ * Tunables (system properties): {@code load.rate} (ops/s, 0 = closed loop),
+ * {@code load.durationSeconds}, {@code load.concurrency}, {@code load.users},
+ * {@code load.maxErrorRate}.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTest {
+
+    private static final String[] DOMAINS = {"state.edu", "tech.edu", "arts.edu", "law.edu", "med.edu"};
+    private static final String PASSWORD = "password123";
+
+    private final int rate = Integer.getInteger("load.rate", 0);
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("load.durationSeconds", 10));
+    private final int concurrency = Integer.getInteger("load.concurrency", 16);
+    private final int seededUsers = Integer.getInteger("load.users", 1_000);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<User> users = new ArrayList<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Job> jobs = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        // One hash for every seeded user keeps seeding fast; login cost is unchanged
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<College> colleges = new ArrayList<>();
+        for (String domain : DOMAINS) {
+            colleges.add(collegeRepository.findByName(domain)
+                    .orElseGet(() -> collegeRepository.save(College.builder().name(domain).build())));
+        }
+        List<User> batch = new ArrayList<>();
+        for (int i = 0; i < seededUsers; i++) {
+            College college = colleges.get(i % colleges.size());
+            batch.add(User.builder()
+                    .email("seed" + i + "@" + college.getName())
+                    .passwordHash(passwordHash)
+                    .alias("seed" + i)
+                    .college(college)
+                    .build());
+        }
+        users.addAll(userRepository.saveAll(batch));
+        for (User user : users) {
+            tokens.add(jwtService.generateToken(user.getId(), user.getEmail(), user.getAlias(), user.getCollege().getId()));
+        }
+        for (int i = 0; i < 100; i++) {
+            User poster = users.get(i % users.size());
+            jobs.add(jobRepository.save(newJob(poster, i)));
+        }
+    }
+
+    @Test
+    void signupWave() throws Exception {
+        long runId = System.nanoTime();
+        LoadReport report = new LoadGenerator(concurrency).run("signup wave", iteration -> {
+            String domain = DOMAINS[(int) (iteration % DOMAINS.length)];
+            String body = String.format("{\"email\":\"wave%d_%d@%s\",\"password\":\"%s\",\"alias\":\"wave%d\"}",
+                    runId, iteration, domain, PASSWORD, iteration);
+            post("/api/auth/register", body);
+        }, rate, duration);
+        assertReport(report);
+    }
+
+    @Test
+    void loginStorm() throws Exception {
+        LoadReport report = new LoadGenerator(concurrency).run("login storm", iteration -> {
+            User user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+            String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", user.getEmail(), PASSWORD);
+            post("/api/auth/login", body);
+        }, rate, duration);
+        assertReport(report);
+    }
+
+    @Test
+    void jobPosting() throws Exception {
+        LoadReport report = new LoadGenerator(concurrency).run("job posting", iteration -> {
+            String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+            String body = String.format("{\"title\":\"Load test job %d\",\"description\":\"Generated by the load harness\"," +
+                    "\"budget\":%d}", iteration, 50 + iteration % 450);
+            send(HttpRequest.newBuilder(uri("/api/jobs"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+        }, rate, duration);
+        assertReport(report);
+    }
+
+    @Test
+    void feedRefresh() throws Exception {
+        // Mobile-style refreshes: each client revalidates its cached feed with If-None-Match
+        Map<Integer, String> eTags = new ConcurrentHashMap<>();
+        LoadReport report = new LoadGenerator(concurrency).run("feed refresh", iteration -> {
+            int client = ThreadLocalRandom.current().nextInt(tokens.size());
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/jobs"))
+                    .header("Authorization", "Bearer " + tokens.get(client))
+                    .GET();
+            String eTag = eTags.get(client);
+            if (eTag != null) {
+                request.header("If-None-Match", eTag);
+            }
+            HttpResponse<Void> response = send(request);
+            response.headers().firstValue("ETag").ifPresent(value -> eTags.put(client, value));
+        }, rate, duration);
+        assertReport(report);
+    }
+
+    @Test
+    void bidding() throws Exception {
+        // Hot-job skew: half of all bids land on the first five jobs
+        LoadReport report = new LoadGenerator(concurrency).run("bidding", iteration -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int jobIndex = random.nextBoolean() ? random.nextInt(5) : random.nextInt(jobs.size());
+            // Job i was posted by user i; users i + k * DOMAINS.length share its college
+            int bidder = jobIndex + DOMAINS.length * random.nextInt(1, (users.size() - jobIndex) / DOMAINS.length);
+            String body = String.format("{\"amount\":%d,\"proposal\":\"Load test proposal %d\"}",
+                    random.nextInt(10, 500), iteration);
+            send(HttpRequest.newBuilder(uri("/api/jobs/" + jobs.get(jobIndex).getId() + "/bids"))
+                    .header("Authorization", "Bearer " + tokens.get(bidder))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+        }, rate, duration);
+        assertReport(report);
+    }
+
+    private Job newJob(User poster, long iteration) {
+        return Job.builder()
+                .title("Load test job " + iteration)
+                .description("Generated by the load harness")
+                .budget(BigDecimal.valueOf(50 + iteration % 450))
+                .poster(poster)
+                .college(poster.getCollege())
+                .build();
+    }
+
+    private void post(String path, String body) throws Exception {
+        send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<Void> send(HttpRequest.Builder request) throws Exception {
+        HttpRequest built = request.timeout(Duration.ofSeconds(30)).build();
+        HttpResponse<Void> response = httpClient.send(built, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(built.uri().getPath() + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void assertReport(LoadReport report) {
+        System.out.println(report.format());
+        assertTrue(report.getOperations() > 0, "scenario produced no operations");
+        assertTrue(report.getErrorRate() <= maxErrorRate,
+                "error rate " + report.getErrorRate() + " exceeds " + maxErrorRate);
+    }
+}
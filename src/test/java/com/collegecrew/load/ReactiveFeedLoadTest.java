@@ -0,0 +1,184 @@
+package com.collegecrew.load;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import com.collegecrew.service.JwtService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Thousands of concurrent feed reads against the blocking feed ({@code /api/jobs})
+ * and the reactive one ({@code /api/reactive/jobs}), reporting latency, throughput
+ * and the threads each needed. The reactive path runs first, so Tomcat workers grown
+ * by the blocking run cannot flatter it. Part of the {@code perf} profile:
+ * {@code mvn test -Pperf -Dtest=ReactiveFeedLoadTest}.
+ *
+ * On the embedded H2 database the R2DBC driver executes each query on the thread
+ * that subscribes, so the reactive run still saves Tomcat workers but not query
+ * time; for the full effect point both paths at PostgreSQL with
+ * {@code -Dspring.datasource.url=...} and {@code -Dcollegecrew.reactive.url=r2dbc:postgresql://...}.
+ *
+ * Tunables (system properties): {@code load.feed.inFlight} (concurrent requests),
+ * {@code load.feed.requests} (per path), {@code load.feed.jobs}, {@code load.maxErrorRate}.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveFeedLoadTest {
+
+    private static final String[] DOMAINS = {"state.edu", "tech.edu", "arts.edu", "law.edu", "med.edu"};
+
+    private final int inFlight = Integer.getInteger("load.feed.inFlight", 2_000);
+    private final int requests = Integer.getInteger("load.feed.requests", 10_000);
+    private final int seededJobs = Integer.getInteger("load.feed.jobs", 1_000);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    // A small fixed executor keeps the client's own threads out of the thread counts
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(2);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(clientExecutor)
+            .build();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        List<User> posters = new ArrayList<>();
+        for (String domain : DOMAINS) {
+            College college = collegeRepository.findByName(domain)
+                    .orElseGet(() -> collegeRepository.save(College.builder().name(domain).build()));
+            User poster = userRepository.save(User.builder()
+                    .email("feedreader@" + domain)
+                    .passwordHash("unused")
+                    .alias("feedreader-" + domain)
+                    .college(college)
+                    .build());
+            posters.add(poster);
+            tokens.add(jwtService.generateToken(poster.getId(), poster.getEmail(), poster.getAlias(), college.getId()));
+        }
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < seededJobs; i++) {
+            User poster = posters.get(i % posters.size());
+            jobs.add(Job.builder()
+                    .title("Feed load job " + i)
+                    .description("Generated by the reactive feed load test")
+                    .budget(BigDecimal.valueOf(50 + i % 450))
+                    .poster(poster)
+                    .college(poster.getCollege())
+                    .build());
+        }
+        jobRepository.saveAll(jobs);
+    }
+
+    @AfterAll
+    void shutdown() {
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentFeedReads() throws Exception {
+        // Short, low-concurrency warm-up of both paths (JIT, pools, connections)
+        burst("/api/reactive/jobs", 8, 500);
+        burst("/api/jobs", 8, 500);
+
+        Result reactive = burst("/api/reactive/jobs", inFlight, requests);
+        Result blocking = burst("/api/jobs", inFlight, requests);
+
+        for (Result result : new Result[]{reactive, blocking}) {
+            System.out.print(result.report().format());
+            System.out.printf("threads: peak live %d, Tomcat workers %d%n",
+                    result.peakThreads(), result.tomcatWorkers());
+        }
+        for (Result result : new Result[]{reactive, blocking}) {
+            assertEquals(requests, result.report().getOperations());
+            assertTrue(result.report().getErrorRate() <= maxErrorRate,
+                    result.report().getScenario() + " error rate " + result.report().getErrorRate());
+        }
+    }
+
+    private Result burst(String path, int concurrency, int count) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Authorization", "Bearer " + tokens.get(i % tokens.size()))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+            long sent = System.nanoTime();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        histogram.recordNanos(System.nanoTime() - sent);
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                    });
+        }
+        permits.acquire(concurrency);
+        long elapsed = System.nanoTime() - start;
+        String name = path + " (" + concurrency + " in flight)";
+        return new Result(new LoadReport(name, count, errors.get(), elapsed, histogram),
+                threads.getPeakThreadCount(), tomcatWorkers());
+    }
+
+    private static long tomcatWorkers() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-"))
+                .count();
+    }
+
+    private record Result(LoadReport report, int peakThreads, long tomcatWorkers) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.collegecrew.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of cents ({@link Money} and {@code long[]} through {@link Cents})
+ * against {@link BigDecimal} on the money paths the application runs in bulk: summing a
+ * batch, picking the lowest bid, ranking bids and crediting payees during settlement.
+ * Run through {@link MoneyBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private BigDecimal[] decimals;
+    private long[] cents;
+    private Money[] monies;
+    private long[] payees;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        decimals = new BigDecimal[size];
+        cents = new long[size];
+        monies = new Money[size];
+        payees = new long[size];
+        for (int i = 0; i < size; i++) {
+            cents[i] = 500 + random.nextInt(50_000);
+            decimals[i] = BigDecimal.valueOf(cents[i], 2);
+            monies[i] = Money.ofCents(cents[i]);
+            payees[i] = random.nextInt(Math.max(1, size / 10));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            sum = sum.add(amount);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumCents() {
+        return Cents.sum(cents);
+    }
+
+    @Benchmark
+    public int lowestBidBigDecimal() {
+        int best = 0;
+        for (int i = 1; i < decimals.length; i++) {
+            if (decimals[i].compareTo(decimals[best]) < 0) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int lowestBidCents() {
+        int best = 0;
+        for (int i = 1; i < monies.length; i++) {
+            if (monies[i].compareTo(monies[best]) < 0) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public BigDecimal[] rankBidsBigDecimal() {
+        BigDecimal[] ranked = decimals.clone();
+        Arrays.sort(ranked);
+        return ranked;
+    }
+
+    @Benchmark
+    public long[] rankBidsCents() {
+        long[] ranked = cents.clone();
+        Arrays.sort(ranked);
+        return ranked;
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal> creditPayeesBigDecimal() {
+        Map<Long, BigDecimal> credits = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            credits.merge(payees[i], decimals[i], BigDecimal::add);
+        }
+        return credits;
+    }
+
+    @Benchmark
+    public Map<Long, Money> creditPayeesCents() {
+        Map<Long, Money> credits = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            credits.merge(payees[i], monies[i], Money::plus);
+        }
+        return credits;
+    }
+}
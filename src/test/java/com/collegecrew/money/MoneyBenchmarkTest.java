@@ -0,0 +1,56 @@
+package com.collegecrew.money;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs {@link MoneyBenchmark} under JMH and checks that the arithmetic-bound cents
+ * variants beat their {@code BigDecimal} counterparts. Part of the {@code perf} profile:
+ * {@code mvn test -Pperf -Dtest=MoneyBenchmarkTest}. Tunables (system properties):
+ * {@code jmh.forks}, {@code jmh.iterations}, {@code jmh.iterationSeconds}.
+ */
+@Tag("perf")
+class MoneyBenchmarkTest {
+
+    @Test
+    void centsOutperformBigDecimal() throws Exception {
+        int iterations = Integer.getInteger("jmh.iterations", 3);
+        TimeValue iterationTime = TimeValue.seconds(Integer.getInteger("jmh.iterationSeconds", 1));
+        Options options = new OptionsBuilder()
+                .include(MoneyBenchmark.class.getName())
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(iterations)
+                .warmupTime(iterationTime)
+                .measurementIterations(iterations)
+                .measurementTime(iterationTime)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> scores = new HashMap<>();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            scores.put(name.substring(name.lastIndexOf('.') + 1), result.getPrimaryResult().getScore());
+        }
+        for (String operation : new String[]{"sum", "lowestBid", "rankBids", "creditPayees"}) {
+            double decimal = scores.get(operation + "BigDecimal");
+            double cents = scores.get(operation + "Cents");
+            System.out.printf("%-13s BigDecimal %10.3f us/op   cents %10.3f us/op   %5.1fx%n",
+                    operation, decimal, cents, decimal / cents);
+            // Crediting payees is dominated by the map lookups, so it is reported but not asserted
+            if (!operation.equals("creditPayees")) {
+                assertTrue(cents < decimal, operation + " is not faster in cents");
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.collegecrew.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void testRoundTripsThroughDecimal() {
+        Money money = Money.of(new BigDecimal("40.50"));
+
+        assertEquals(4050, money.cents());
+        assertEquals(new BigDecimal("40.50"), money.toBigDecimal());
+        assertEquals("40.50", money.toString());
+        assertEquals(Money.ofCents(4050), money);
+    }
+
+    @Test
+    void testRoundsHalfUpToCents() {
+        assertEquals(1001, Money.of(new BigDecimal("10.005")).cents());
+        assertEquals(1000, Money.of(new BigDecimal("10.004")).cents());
+        assertEquals(1000, Money.of(new BigDecimal("10")).cents());
+        assertEquals(-1001, Money.of(new BigDecimal("-10.005")).cents());
+    }
+
+    @Test
+    void testArithmeticAndOrdering() {
+        Money budget = Money.ofCents(2500);
+
+        assertEquals(Money.ofCents(3750), budget.plus(Money.ofCents(1250)));
+        assertTrue(budget.compareTo(Money.ofCents(2499)) > 0);
+        assertTrue(budget.isPositive());
+        assertFalse(Money.ofCents(-1).isPositive());
+        assertSame(Money.ZERO, budget.plus(Money.ofCents(-2500)));
+    }
+
+    @Test
+    void testOverflowFails() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Cents.sum(new long[]{Long.MAX_VALUE, 1}));
+        assertThrows(ArithmeticException.class, () -> Cents.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    void testPrimitiveSum() {
+        assertEquals(12100, Cents.sum(new long[]{4000, 2500, 3100, 2500}));
+        assertEquals(0, Cents.sum(new long[0]));
+    }
+
+    @Test
+    void testConverterMapsNumericColumns() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("12.30"), converter.convertToDatabaseColumn(Money.ofCents(1230)));
+        assertEquals(Money.ofCents(1230), converter.convertToEntityAttribute(new BigDecimal("12.3")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
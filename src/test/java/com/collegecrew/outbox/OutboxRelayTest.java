@@ -0,0 +1,180 @@
+package com.collegecrew.outbox;
+
+import com.collegecrew.entity.OutboxEvent;
+import com.collegecrew.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@Import(OutboxRelayTest.RecordingSinkConfig.class)
+@TestPropertySource(properties = {
+    "outbox.batch-size=2",
+    "outbox.max-attempts=2"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        sink.delivered.clear();
+        sink.failing.clear();
+    }
+
+    @Test
+    void testDeliversInOrderPerAggregate() {
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "JobCreated", Map.of("jobId", 1));
+        outboxService.record(OutboxService.AGGREGATE_JOB, 2L, "JobCreated", Map.of("jobId", 2));
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "BidPlaced", Map.of("jobId", 1));
+        outboxService.record(OutboxService.AGGREGATE_TRANSACTION, 1L, "TransactionStatusChanged", Map.of());
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "BidPlaced", Map.of("jobId", 1));
+        outboxEventRepository.flush();
+
+        assertEquals(5, relay.drain());
+
+        List<String> jobOne = sink.delivered.stream().filter(key -> key.startsWith("Job:1:")).toList();
+        assertEquals(List.of("Job:1:JobCreated", "Job:1:BidPlaced", "Job:1:BidPlaced"), jobOne);
+        assertEquals(5, countByStatus(OutboxEvent.STATUS_SENT));
+        assertEquals(0, relay.drain());
+    }
+
+    @Test
+    void testFailingEventIsRetriedWithBackoffAndParked() {
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "JobCreated", Map.of());
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "BidPlaced", Map.of());
+        outboxService.record(OutboxService.AGGREGATE_JOB, 2L, "JobCreated", Map.of());
+        outboxEventRepository.flush();
+        sink.failing.add("Job:1:JobCreated");
+
+        assertEquals(1, relay.drain());
+        assertEquals(List.of("Job:2:JobCreated"), sink.delivered);
+        assertEquals(2, countByStatus(OutboxEvent.STATUS_PENDING));
+
+        // Not due yet: the next poll leaves the failed event alone
+        sink.failing.clear();
+        assertEquals(0, relay.drain());
+        assertEquals(List.of("Job:2:JobCreated"), sink.delivered);
+
+        // Second failure reaches max-attempts; the parked event keeps blocking its aggregate
+        sink.failing.add("Job:1:JobCreated");
+        makeRetriesDue();
+        assertEquals(0, relay.drain());
+        assertEquals(1, countByStatus(OutboxEvent.STATUS_DEAD));
+        makeRetriesDue();
+        assertEquals(0, relay.drain());
+        assertEquals(List.of("Job:2:JobCreated"), sink.delivered);
+        assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM outbox_events WHERE status = 'DEAD'", String.class));
+
+        // Once an operator requeues it, the aggregate drains in order
+        sink.failing.clear();
+        jdbcTemplate.update("UPDATE outbox_events SET status = 'PENDING', attempts = 0, next_attempt_at = NULL " +
+                "WHERE status = 'DEAD'");
+        assertEquals(2, relay.drain());
+        assertEquals(List.of("Job:2:JobCreated", "Job:1:JobCreated", "Job:1:BidPlaced"), sink.delivered);
+    }
+
+    @Test
+    void testBackoffDoublesUpToTheCap() {
+        assertEquals(1_000, relay.backoffMillis(1));
+        assertEquals(2_000, relay.backoffMillis(2));
+        assertEquals(256_000, relay.backoffMillis(9));
+        assertEquals(300_000, relay.backoffMillis(10));
+        assertEquals(300_000, relay.backoffMillis(100));
+    }
+
+    @Test
+    void testPurgesOnlyOldSentEvents() {
+        outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "JobCreated", Map.of());
+        outboxService.record(OutboxService.AGGREGATE_JOB, 2L, "JobCreated", Map.of());
+        outboxEventRepository.flush();
+        assertEquals(2, relay.drain());
+        outboxService.record(OutboxService.AGGREGATE_JOB, 3L, "JobCreated", Map.of());
+        outboxEventRepository.flush();
+        jdbcTemplate.update("UPDATE outbox_events SET processed_at = ? WHERE aggregate_id = 1",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(8)));
+
+        assertEquals(1, relay.purgeSent());
+
+        assertEquals(1, countByStatus(OutboxEvent.STATUS_SENT));
+        assertEquals(1, countByStatus(OutboxEvent.STATUS_PENDING));
+        assertEquals(0, relay.purgeSent());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testRecordRequiresTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> outboxService.record(OutboxService.AGGREGATE_JOB, 1L, "JobCreated", Map.of()));
+    }
+
+    private void makeRetriesDue() {
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = ? WHERE next_attempt_at IS NOT NULL",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+    }
+
+    private int countByStatus(String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE status = ?", Integer.class, status);
+    }
+
+    static class RecordingSink implements OutboxEventSink {
+        final List<String> delivered = new ArrayList<>();
+        final Set<String> failing = new HashSet<>();
+
+        @Override
+        public boolean supports(String eventType) {
+            return true;
+        }
+
+        @Override
+        public void handle(OutboxEvent event) {
+            String key = event.getAggregateType() + ":" + event.getAggregateId() + ":" + event.getEventType();
+            if (failing.contains(key)) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            delivered.add(key);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingSinkConfig {
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+}
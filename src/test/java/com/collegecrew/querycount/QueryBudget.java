@@ -0,0 +1,100 @@
+package com.collegecrew.querycount;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Upper bounds on the SQL statements an action may issue, to catch N+1 and other
+ * query-count regressions in the regular test run:
+ * <pre>
+ * QueryBudget.selects(1).updates(0).verify(() -> mockMvc.perform(post("/api/auth/login")...));
+ * </pre>
+ * Statement types without a declared limit are not checked; {@link #total(int)} caps
+ * all of them together. A failure lists every statement that ran.
+ */
+public final class QueryBudget {
+
+    private final Map<QueryType, Integer> limits = new EnumMap<>(QueryType.class);
+    private Integer totalLimit;
+
+    private QueryBudget() {
+    }
+
+    public static QueryBudget selects(int max) {
+        return new QueryBudget().limit(QueryType.SELECT, max);
+    }
+
+    public static QueryBudget none() {
+        return new QueryBudget().total(0);
+    }
+
+    public static QueryBudget atMost(int total) {
+        return new QueryBudget().total(total);
+    }
+
+    public QueryBudget inserts(int max) {
+        return limit(QueryType.INSERT, max);
+    }
+
+    public QueryBudget updates(int max) {
+        return limit(QueryType.UPDATE, max);
+    }
+
+    public QueryBudget deletes(int max) {
+        return limit(QueryType.DELETE, max);
+    }
+
+    /**
+     * Forbid any insert, update or delete
+     */
+    public QueryBudget readOnly() {
+        return inserts(0).updates(0).deletes(0);
+    }
+
+    public QueryBudget total(int max) {
+        this.totalLimit = max;
+        return this;
+    }
+
+    /**
+     * Run an action and fail if it exceeds the budget
+     * @param action Action to measure, e.g. a MockMvc request or a service call
+     * @return Result of the action
+     * @throws Exception whatever the action throws
+     */
+    public <T> T verify(Callable<T> action) throws Exception {
+        QueryCounter.Measurement<T> measurement = QueryCounter.measure(action);
+        check(measurement.counts());
+        return measurement.result();
+    }
+
+    /**
+     * Fail if the counts exceed the budget
+     * @param counts Counts of a measurement
+     */
+    public void check(QueryCounts counts) {
+        StringBuilder exceeded = new StringBuilder();
+        limits.forEach((type, max) -> {
+            if (counts.get(type) > max) {
+                exceeded.append(String.format("%n  %s: %d > %d", type, counts.get(type), max));
+            }
+        });
+        if (totalLimit != null && counts.total() > totalLimit) {
+            exceeded.append(String.format("%n  total: %d > %d", counts.total(), totalLimit));
+        }
+        if (exceeded.length() > 0) {
+            fail("Query budget exceeded:" + exceeded + "\nStatements (" + counts + "):\n  "
+                    + String.join("\n  ", counts.statements()));
+        }
+    }
+
+    private QueryBudget limit(QueryType type, int max) {
+        limits.put(type, max);
+        return this;
+    }
+}
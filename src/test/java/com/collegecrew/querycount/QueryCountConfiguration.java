@@ -0,0 +1,33 @@
+package com.collegecrew.querycount;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a counting proxy for every test context.
+ * Lives in the test tree, so it is picked up by component scanning in tests only.
+ */
+@Configuration(proxyBeanMethods = false)
+public class QueryCountConfiguration {
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(QueryCounter.INSTANCE)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.collegecrew.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Counts SQL statements sent through the proxied data source while a measurement is
+ * running. Every execution counts once per statement text, so a JDBC batch is one
+ * round trip. The first statements are recorded with the parameters bound to them
+ * (the first row of a batch). Statements from all threads are counted, which includes async request
+ * processing; tests run sequentially, so only one measurement is active at a time.
+ */
+public final class QueryCounter implements QueryExecutionListener {
+
+    static final QueryCounter INSTANCE = new QueryCounter();
+
+    private static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private Map<QueryType, Integer> counts;
+    private List<String> statements;
+    private List<QueryCounts.Execution> executions;
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Run an action and count the statements it issues
+     * @param action Action to measure
+     * @return Result of the action and the statements counted while it ran
+     * @throws Exception whatever the action throws
+     */
+    public static <T> Measurement<T> measure(Callable<T> action) throws Exception {
+        INSTANCE.start();
+        T result;
+        try {
+            result = action.call();
+        } catch (Exception | Error e) {
+            INSTANCE.stop();
+            throw e;
+        }
+        return new Measurement<>(result, INSTANCE.stop());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (counts == null) {
+            return;
+        }
+        for (QueryInfo query : queryInfoList) {
+            counts.merge(QueryUtils.getQueryType(query.getQuery()), 1, Integer::sum);
+            if (statements.size() < MAX_RECORDED_STATEMENTS) {
+                statements.add((execInfo.isBatch() ? "[batch of " + execInfo.getBatchSize() + "] " : "")
+                        + query.getQuery());
+                executions.add(new QueryCounts.Execution(query.getQuery(), parameters(query)));
+            }
+        }
+    }
+
+    private synchronized void start() {
+        if (counts != null) {
+            throw new IllegalStateException("A query count measurement is already running");
+        }
+        counts = new EnumMap<>(QueryType.class);
+        statements = new ArrayList<>();
+        executions = new ArrayList<>();
+    }
+
+    private synchronized QueryCounts stop() {
+        QueryCounts snapshot = new QueryCounts(counts, statements, executions);
+        counts = null;
+        statements = null;
+        executions = null;
+        return snapshot;
+    }
+
+    /**
+     * @return Values of the first parameter set of a statement, in parameter index order
+     */
+    private static List<Object> parameters(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = new ArrayList<>(query.getParametersList().get(0));
+        operations.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+        Object[] values = new Object[operations.size()];
+        for (int i = 0; i < values.length; i++) {
+            ParameterSetOperation operation = operations.get(i);
+            values[i] = ParameterSetOperation.isSetNullParameterOperation(operation) ? null : operation.getArgs()[1];
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * Result of a measured action together with its statement counts
+     */
+    public record Measurement<T>(T result, QueryCounts counts) {
+    }
+}
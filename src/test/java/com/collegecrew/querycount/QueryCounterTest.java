@@ -0,0 +1,74 @@
+package com.collegecrew.querycount;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class QueryCounterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testCountsStatementsByType() throws Exception {
+        QueryCounts counts = QueryCounter.measure(() -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM colleges", Long.class);
+            jdbcTemplate.update("INSERT INTO colleges (name, feed_version) VALUES ('a.edu', 0)");
+            jdbcTemplate.batchUpdate("INSERT INTO colleges (name, feed_version) VALUES (?, 0)",
+                    List.of(new Object[]{"b.edu"}, new Object[]{"c.edu"}, new Object[]{"d.edu"}));
+            jdbcTemplate.update("UPDATE colleges SET feed_version = 1 WHERE name = 'a.edu'");
+            return null;
+        }).counts();
+
+        assertEquals(1, counts.selects());
+        // A JDBC batch is one round trip
+        assertEquals(2, counts.inserts());
+        assertEquals(1, counts.updates());
+        assertEquals(0, counts.deletes());
+        assertEquals(4, counts.total());
+        assertTrue(counts.statements().get(2).startsWith("[batch of 3]"));
+    }
+
+    @Test
+    void testRecordsBoundParameters() throws Exception {
+        QueryCounts counts = QueryCounter.measure(() -> {
+            jdbcTemplate.update("UPDATE colleges SET name = ? WHERE id = ? AND feed_version > ?", null, -1L, 3);
+            jdbcTemplate.queryForList("SELECT id FROM colleges", Long.class);
+            return null;
+        }).counts();
+
+        assertEquals("UPDATE colleges SET name = ? WHERE id = ? AND feed_version > ?", counts.executions().get(0).sql());
+        assertEquals(Arrays.asList(null, -1L, 3), counts.executions().get(0).parameters());
+        assertEquals(List.of(), counts.executions().get(1).parameters());
+    }
+
+    @Test
+    void testBudgetFailsWhenExceeded() throws Exception {
+        String sql = "SELECT COUNT(*) FROM users";
+        assertEquals(0L, QueryBudget.selects(1).readOnly()
+                .verify(() -> jdbcTemplate.queryForObject(sql, Long.class)));
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> QueryBudget.selects(1)
+                .verify(() -> jdbcTemplate.queryForObject(sql, Long.class) + jdbcTemplate.queryForObject(sql, Long.class)));
+        assertTrue(error.getMessage().contains("SELECT: 2 > 1"));
+        assertTrue(error.getMessage().contains(sql));
+
+        assertThrows(AssertionFailedError.class, () -> QueryBudget.none()
+                .verify(() -> jdbcTemplate.update("DELETE FROM users WHERE id = -1")));
+    }
+
+    @Test
+    void testMeasurementsCannotNest() {
+        assertThrows(IllegalStateException.class, () -> QueryCounter.measure(() -> QueryCounter.measure(() -> null)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.collegecrew.querycount;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable statement counts of one measurement, by statement type
+ */
+public final class QueryCounts {
+
+    private final Map<QueryType, Integer> counts;
+    private final List<String> statements;
+    private final List<Execution> executions;
+
+    QueryCounts(Map<QueryType, Integer> counts, List<String> statements, List<Execution> executions) {
+        this.counts = new EnumMap<>(QueryType.class);
+        this.counts.putAll(counts);
+        this.statements = List.copyOf(statements);
+        this.executions = List.copyOf(executions);
+    }
+
+    public int get(QueryType type) {
+        return counts.getOrDefault(type, 0);
+    }
+
+    public int selects() {
+        return get(QueryType.SELECT);
+    }
+
+    public int inserts() {
+        return get(QueryType.INSERT);
+    }
+
+    public int updates() {
+        return get(QueryType.UPDATE);
+    }
+
+    public int deletes() {
+        return get(QueryType.DELETE);
+    }
+
+    public int total() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * @return Executed statements in order, capped at the first 100
+     */
+    public List<String> statements() {
+        return statements;
+    }
+
+    /**
+     * @return Executed statements in order with their bound parameters, capped at the first 100
+     */
+    public List<Execution> executions() {
+        return executions;
+    }
+
+    @Override
+    public String toString() {
+        return selects() + " select(s), " + inserts() + " insert(s), " + updates() + " update(s), "
+                + deletes() + " delete(s), " + get(QueryType.OTHER) + " other";
+    }
+
+    /**
+     * A statement as sent to the driver, with the values bound to its positional parameters
+     */
+    public record Execution(String sql, List<Object> parameters) {
+    }
+}
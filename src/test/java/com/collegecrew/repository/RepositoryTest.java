@@ -1,13 +1,18 @@
 package com.collegecrew.repository;
 
+import com.collegecrew.entity.Bid;
 import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
 import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,6 +78,27 @@ class RepositoryTest {
         assertEquals("testuser", found.get().getAlias());
     }
 
+    @Test
+    void testBidInheritsJobCollege() {
+        // Given
+        College college = entityManager.persistAndFlush(College.builder().name("Test University").build());
+        User poster = entityManager.persistAndFlush(User.builder()
+                .email("poster@test.com").passwordHash("hashedpassword").alias("poster").college(college).build());
+        User bidder = entityManager.persistAndFlush(User.builder()
+                .email("bidder@test.com").passwordHash("hashedpassword").alias("bidder").college(college).build());
+        Job job = entityManager.persistAndFlush(Job.builder()
+                .title("Test Job").description("Description").budget(new BigDecimal("50.00"))
+                .poster(poster).college(college).build());
+
+        // When
+        Bid bid = bidRepository.saveAndFlush(Bid.builder()
+                .job(job).bidder(bidder).amount(Money.ofCents(4000)).build());
+
+        // Then
+        assertEquals(college.getId(), bid.getCollege().getId());
+        assertEquals(1, bidRepository.rejectPendingBids(Set.of(college.getId()), Set.of(job.getId())));
+    }
+
     @Test
     void testAllRepositoriesAutowired() {
         // Verify all repositories are properly autowired
@@ -0,0 +1,258 @@
+package com.collegecrew.service;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.CreateJobRequest;
+import com.collegecrew.dto.DeletionResponse;
+import com.collegecrew.dto.RegisterRequest;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.JobRecommendation;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRecommendationRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "deletion.batch-size=1",
+    "deletion.pause-ms=0"
+})
+class AccountDeletionServiceTest {
+
+    @Autowired
+    private AccountDeletionService deletionService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JobRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User poster;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = saveUser(college, "poster");
+        worker = saveUser(college, "worker");
+    }
+
+    @Test
+    void testDeleteUserWithoutFinancialHistoryRemovesEverything() {
+        Job ownJob = saveJob(worker, "OPEN");
+        Job secondJob = saveJob(worker, "OPEN");
+        saveBid(ownJob, poster);
+        Job otherJob = saveJob(poster, "OPEN");
+        saveBid(otherJob, worker);
+        saveBid(otherJob, worker);
+        recommendationRepository.saveAndFlush(JobRecommendation.builder()
+                .userId(worker.getId()).jobId(otherJob.getId()).score(1.0).build());
+
+        DeletionResponse result = deletionService.deleteUser(worker.getId());
+
+        assertEquals(1, result.getUsersDeleted());
+        assertEquals(0, result.getUsersAnonymized());
+        assertEquals(2, result.getJobsDeleted());
+        assertEquals(3, result.getBidsDeleted());
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = ?", worker.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM jobs WHERE id IN (?, ?)", ownJob.getId(), secondJob.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM bids WHERE bidder_id = ? OR job_id = ?",
+                worker.getId(), ownJob.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM job_recommendations WHERE user_id = ?", worker.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM jobs WHERE id = ?", otherJob.getId()));
+        assertEquals(2, count("SELECT COUNT(*) FROM outbox_events WHERE event_type = 'JobDeleted'"));
+    }
+
+    @Test
+    void testDeleteUserWithTransactionsIsAnonymized() {
+        Job paidJob = saveJob(poster, "ASSIGNED");
+        paidJob.setAssignee(worker);
+        jobRepository.saveAndFlush(paidJob);
+        saveTransaction(paidJob, poster, worker);
+        Job unpaidJob = saveJob(poster, "OPEN");
+        saveBid(unpaidJob, worker);
+
+        DeletionResponse result = deletionService.deleteUser(poster.getId());
+
+        assertEquals(0, result.getUsersDeleted());
+        assertEquals(1, result.getUsersAnonymized());
+        assertEquals(1, result.getJobsDeleted());
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT email, alias, password_hash FROM users WHERE id = ?", poster.getId());
+        assertEquals("deleted-" + poster.getId() + "@deleted.invalid", row.get("EMAIL"));
+        assertEquals(AccountDeletionService.DELETED_ALIAS, row.get("ALIAS"));
+        assertEquals(AccountDeletionService.UNUSABLE_PASSWORD, row.get("PASSWORD_HASH"));
+        assertEquals(1, count("SELECT COUNT(*) FROM jobs WHERE id = ?", paidJob.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM transactions WHERE payer_id = ?", poster.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM jobs WHERE id = ?", unpaidJob.getId()));
+    }
+
+    @Test
+    void testDeleteUserReleasesUnpaidAssignment() {
+        Job job = saveJob(poster, "ASSIGNED");
+        job.setAssignee(worker);
+        jobRepository.saveAndFlush(job);
+
+        deletionService.deleteUser(worker.getId());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, assignee_id FROM jobs WHERE id = ?", job.getId());
+        assertEquals("OPEN", row.get("STATUS"));
+        assertNull(row.get("ASSIGNEE_ID"));
+    }
+
+    @Test
+    void testDeleteCollegeArchivesTransactions() {
+        College other = collegeRepository.save(College.builder().name("other.edu").build());
+        User outsider = saveUser(other, "outsider");
+        Job job = saveJob(poster, "ASSIGNED");
+        saveBid(job, worker);
+        Transaction escrow = saveTransaction(job, poster, worker);
+        saveJob(worker, "OPEN");
+
+        DeletionResponse result = deletionService.deleteCollege(college.getId());
+
+        assertEquals(2, result.getUsersDeleted());
+        assertEquals(2, result.getJobsDeleted());
+        assertEquals(1, result.getBidsDeleted());
+        assertEquals(1, result.getTransactionsArchived());
+        assertEquals(0, count("SELECT COUNT(*) FROM colleges WHERE id = ?", college.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE college_id = ?", college.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM jobs WHERE college_id = ?", college.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM transactions WHERE id = ?", escrow.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM transactions_archive WHERE id = ? AND payer_id = ?",
+                escrow.getId(), poster.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM users WHERE id = ?", outsider.getId()));
+    }
+
+    @Test
+    void testDeletedUsersTokensAreRevoked() {
+        saveTransaction(saveJob(poster, "ASSIGNED"), poster, worker);
+        assertTrue(tokenRevocationService.isCurrent(poster.getId(), 0));
+        assertTrue(tokenRevocationService.isCurrent(worker.getId(), 0));
+
+        deletionService.deleteUser(poster.getId());
+        deletionService.deleteUser(worker.getId());
+
+        // The poster is anonymized and the worker anonymized too, as payee; both keep their rows
+        assertFalse(tokenRevocationService.isCurrent(poster.getId(), 0));
+        assertFalse(tokenRevocationService.isCurrent(worker.getId(), 0));
+        assertTrue(tokenRevocationService.isCurrent(poster.getId(), 1));
+    }
+
+    @Test
+    void testDeletedUserWithoutRowHasNoValidToken() {
+        deletionService.deleteUser(worker.getId());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = ?", worker.getId()));
+        assertFalse(tokenRevocationService.isCurrent(worker.getId(), 0));
+        assertFalse(tokenRevocationService.isCurrent(worker.getId(), 1));
+    }
+
+    @Test
+    void testCollegeBeingDeletedRejectsRegistrationsAndJobPosts() {
+        college.setDeleting(true);
+        collegeRepository.saveAndFlush(college);
+
+        CreateJobRequest job = new CreateJobRequest();
+        job.setTitle("Late job");
+        job.setDescription("Posted during deletion");
+        job.setBudget(new BigDecimal("20.00"));
+        AuthenticatedUser user = new AuthenticatedUser(poster.getId(), poster.getEmail(), poster.getAlias(),
+                college.getId());
+        RuntimeException postError = assertThrows(RuntimeException.class, () -> jobService.createJob(user, job));
+        assertEquals("College is being deleted", postError.getMessage());
+
+        RegisterRequest register = new RegisterRequest();
+        register.setEmail("late@university.edu");
+        register.setPassword("secret");
+        register.setAlias("late");
+        RuntimeException registerError = assertThrows(RuntimeException.class, () -> authService.register(register));
+        assertEquals("College is being deleted", registerError.getMessage());
+    }
+
+    @Test
+    void testDeleteUnknownUserFails() {
+        assertThrows(RuntimeException.class, () -> deletionService.deleteUser(-1L));
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private User saveUser(College userCollege, String alias) {
+        return userRepository.save(User.builder()
+                .email(alias + "@" + userCollege.getName()).passwordHash("hash").alias(alias).college(userCollege).build());
+    }
+
+    private Job saveJob(User jobPoster, String status) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal("40.00"))
+                .status(status)
+                .poster(jobPoster)
+                .college(college)
+                .build());
+    }
+
+    private void saveBid(Job job, User bidder) {
+        bidRepository.saveAndFlush(Bid.builder().job(job).bidder(bidder).amount(Money.ofCents(3000)).build());
+    }
+
+    private Transaction saveTransaction(Job job, User payer, User payee) {
+        return transactionRepository.saveAndFlush(Transaction.builder()
+                .job(job)
+                .payer(payer)
+                .payee(payee)
+                .amount(Money.ofCents(3000))
+                .status(Transaction.STATUS_PENDING)
+                .transactionType(Transaction.TYPE_ESCROW)
+                .build());
+    }
+}
@@ -0,0 +1,153 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.BidResponse;
+import com.collegecrew.dto.JobResponse;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "archive.min-age-days=30",
+    "archive.batch-size=2",
+    "archive.pause-ms=0"
+})
+class ArchivalProcessorTest {
+
+    @Autowired
+    private ArchivalProcessor processor;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User poster;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+        worker = userRepository.save(User.builder()
+                .email("worker@university.edu").passwordHash("hash").alias("worker").college(college).build());
+    }
+
+    @Test
+    void testMovesFinishedJobsWithChildrenToArchive() {
+        Job completed = saveJob("COMPLETED", 60);
+        bidRepository.saveAndFlush(Bid.builder().job(completed).bidder(worker).amount(Money.ofCents(3000)).build());
+        saveTransaction(completed, Transaction.STATUS_COMPLETED);
+        Job expired = saveJob("EXPIRED", 45);
+        Job unsettled = saveJob("COMPLETED", 60);
+        saveTransaction(unsettled, Transaction.STATUS_PENDING);
+        Job recent = saveJob("COMPLETED", 5);
+        Job open = saveJob("OPEN", 60);
+
+        assertEquals(2, processor.archiveFinishedJobs());
+
+        assertFalse(jobRepository.existsById(completed.getId()));
+        assertFalse(jobRepository.existsById(expired.getId()));
+        assertTrue(jobRepository.existsById(unsettled.getId()));
+        assertTrue(jobRepository.existsById(recent.getId()));
+        assertTrue(jobRepository.existsById(open.getId()));
+        assertEquals(1, count("bids_archive"));
+        assertEquals(1, count("transactions_archive"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bids WHERE job_id = ?", Integer.class, completed.getId()));
+        assertEquals(0, processor.archiveFinishedJobs());
+    }
+
+    @Test
+    void testArchivedJobStaysReadable() {
+        Job completed = saveJob("COMPLETED", 60);
+        bidRepository.saveAndFlush(Bid.builder().job(completed).bidder(worker).amount(Money.ofCents(3000)).build());
+        Long version = completed.getVersion();
+
+        processor.archiveFinishedJobs();
+
+        Optional<JobResponse> job = jobService.getJob(completed.getId(), college.getId());
+        assertTrue(job.isPresent());
+        assertEquals("COMPLETED", job.get().getStatus());
+        assertEquals(Optional.of(version), jobService.getJobVersion(completed.getId(), college.getId()));
+        List<BidResponse> bids = bidService.getBids(completed.getId(), college.getId());
+        assertEquals(1, bids.size());
+        assertEquals("worker", bids.get(0).getBidderAlias());
+        assertTrue(jobService.getJob(completed.getId(), college.getId() + 1).isEmpty());
+    }
+
+    private Job saveJob(String status, int daysSinceUpdate) {
+        Job job = jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal("50.00"))
+                .status(status)
+                .poster(poster)
+                .assignee(worker)
+                .college(college)
+                .build());
+        jdbcTemplate.update("UPDATE jobs SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(daysSinceUpdate)), job.getId());
+        return job;
+    }
+
+    private void saveTransaction(Job job, String status) {
+        transactionRepository.saveAndFlush(Transaction.builder()
+                .job(job)
+                .payer(poster)
+                .payee(worker)
+                .amount(Money.ofCents(3000))
+                .status(status)
+                .transactionType(Transaction.TYPE_ESCROW)
+                .build());
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
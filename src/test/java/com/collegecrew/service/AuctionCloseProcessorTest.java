@@ -0,0 +1,169 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {"auction.batch-size=2", "auction.pause-ms=0"})
+class AuctionCloseProcessorTest {
+
+    @Autowired
+    private AuctionCloseProcessor processor;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User poster;
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = saveUser("poster");
+        alice = saveUser("alice");
+        bob = saveUser("bob");
+        carol = saveUser("carol");
+    }
+
+    @Test
+    void testClosesDueAuctionsWithLowestEarliestBid() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        Job due = saveJob(past);
+        Bid high = saveBid(due, alice, "30.00", past.minusMinutes(3));
+        Bid winner = saveBid(due, bob, "25.00", past.minusMinutes(2));
+        Bid tiedLater = saveBid(due, carol, "25.00", past.minusMinutes(1));
+        Job notYetDue = saveJob(LocalDateTime.now().plusHours(1));
+        Bid waiting = saveBid(notYetDue, alice, "10.00", past);
+        Job noBids = saveJob(past);
+        long feedVersion = feedVersion();
+
+        assertEquals(1, processor.closeDueAuctions());
+
+        Map<String, Object> job = jdbcTemplate.queryForMap(
+                "SELECT status, assignee_id, version FROM jobs WHERE id = ?", due.getId());
+        assertEquals("ASSIGNED", job.get("status"));
+        assertEquals(bob.getId(), ((Number) job.get("assignee_id")).longValue());
+        assertEquals(1L, ((Number) job.get("version")).longValue());
+        assertEquals("ACCEPTED", bidStatus(winner));
+        assertEquals("REJECTED", bidStatus(high));
+        assertEquals("REJECTED", bidStatus(tiedLater));
+        assertEquals("PENDING", bidStatus(waiting));
+        assertEquals("OPEN", jobStatus(notYetDue));
+        assertEquals("OPEN", jobStatus(noBids));
+
+        Map<String, Object> escrow = jdbcTemplate.queryForMap(
+                "SELECT payer_id, payee_id, amount, status, transaction_type FROM transactions WHERE job_id = ?",
+                due.getId());
+        assertEquals(poster.getId(), ((Number) escrow.get("payer_id")).longValue());
+        assertEquals(bob.getId(), ((Number) escrow.get("payee_id")).longValue());
+        assertEquals(new BigDecimal("25.00"), escrow.get("amount"));
+        assertEquals("PENDING", escrow.get("status"));
+        assertEquals("ESCROW", escrow.get("transaction_type"));
+        assertEquals(1, count("SELECT COUNT(*) FROM outbox_events WHERE event_type = 'JobAssigned' AND aggregate_id = ?",
+                due.getId()));
+        assertEquals(feedVersion + 1, feedVersion());
+    }
+
+    @Test
+    void testBulkCloseWorksInChunks() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        for (int i = 0; i < 5; i++) {
+            Job job = saveJob(past);
+            saveBid(job, alice, "20.00", past);
+            saveBid(job, bob, "15.00", past);
+        }
+
+        assertEquals(5, processor.closeDueAuctions());
+        assertEquals(5, count("SELECT COUNT(*) FROM jobs WHERE status = 'ASSIGNED' AND assignee_id = ?", bob.getId()));
+        assertEquals(5, count("SELECT COUNT(*) FROM bids WHERE status = 'REJECTED'"));
+        assertEquals(5, count("SELECT COUNT(*) FROM transactions WHERE transaction_type = 'ESCROW'"));
+    }
+
+    @Test
+    void testAwardSkipsJobsNoLongerOpen() {
+        Job job = saveJob(null);
+        saveBid(job, alice, "20.00", LocalDateTime.now());
+
+        assertEquals(1, processor.award(List.of(job.getId())));
+        assertEquals(0, processor.award(List.of(job.getId())));
+        assertEquals(1, count("SELECT COUNT(*) FROM transactions WHERE job_id = ?", job.getId()));
+    }
+
+    private User saveUser(String alias) {
+        return userRepository.save(User.builder()
+                .email(alias + "@university.edu").passwordHash("hash").alias(alias).college(college).build());
+    }
+
+    private Job saveJob(LocalDateTime biddingClosesAt) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal("50.00"))
+                .poster(poster)
+                .college(college)
+                .biddingClosesAt(biddingClosesAt)
+                .build());
+    }
+
+    private Bid saveBid(Job job, User bidder, String amount, LocalDateTime createdAt) {
+        return bidRepository.saveAndFlush(Bid.builder()
+                .job(job)
+                .bidder(bidder)
+                .amount(Money.of(new BigDecimal(amount)))
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private String bidStatus(Bid bid) {
+        return jdbcTemplate.queryForObject("SELECT status FROM bids WHERE id = ?", String.class, bid.getId());
+    }
+
+    private String jobStatus(Job job) {
+        return jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE id = ?", String.class, job.getId());
+    }
+
+    private long feedVersion() {
+        return jdbcTemplate.queryForObject("SELECT feed_version FROM colleges WHERE id = ?", Long.class, college.getId());
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+}
@@ -0,0 +1,61 @@
+package com.collegecrew.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "jwt.secret=testSecretKeyForJwtServiceTesting123456789",
+    "jwt.expiration=86400000"
+})
+class CollegeDomainResolverTest {
+
+    @Autowired
+    private CollegeDomainResolver resolver;
+
+    @Test
+    void testSubdomainsResolveToCollegeBelowSuffix() {
+        assertEquals("mit.edu", resolver.resolve("student@mit.edu"));
+        assertEquals("mit.edu", resolver.resolve("student@cs.mit.edu"));
+        assertEquals("mit.edu", resolver.resolve("student@csail.cs.mit.edu"));
+        assertEquals("ox.ac.uk", resolver.resolve("student@maths.ox.ac.uk"));
+        assertEquals("sydney.edu.au", resolver.resolve("student@sydney.edu.au"));
+    }
+
+    @Test
+    void testExplicitCollegeTakesPrecedence() {
+        assertEquals("ethz.ch", resolver.resolve("student@inf.ethz.ch"));
+        assertEquals("nus.edu.sg", resolver.resolve("student@comp.nus.edu.sg"));
+    }
+
+    @Test
+    void testCaseInsensitive() {
+        assertEquals("mit.edu", resolver.resolve("Student@CS.MIT.EDU"));
+        assertEquals("ethz.ch", resolver.resolve("student@INF.ETHZ.CH"));
+    }
+
+    @Test
+    void testRejectsNonAcademicDomains() {
+        assertNull(resolver.resolve("student@gmail.com"));
+        assertNull(resolver.resolve("student@uni.ch"));
+        assertNull(resolver.resolve("student@edu"));
+        assertNull(resolver.resolve("student@ac.uk"));
+        assertNull(resolver.resolve("student@mit.edu.evil.com"));
+    }
+
+    @Test
+    void testRejectsMalformedAddresses() {
+        assertNull(resolver.resolve(null));
+        assertNull(resolver.resolve("student"));
+        assertNull(resolver.resolve("@mit.edu"));
+        assertNull(resolver.resolve("student@"));
+        assertNull(resolver.resolve("student@cs..mit.edu"));
+        assertNull(resolver.resolve("student@mit.edu."));
+        assertNull(resolver.resolve("student@-mit.edu"));
+        assertNull(resolver.resolve("student@mit_cs.edu"));
+    }
+}
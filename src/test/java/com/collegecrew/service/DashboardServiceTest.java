@@ -0,0 +1,174 @@
+package com.collegecrew.service;
+
+import com.collegecrew.config.AuthenticatedUser;
+import com.collegecrew.dto.DashboardResponse;
+import com.collegecrew.dto.JobSummary;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "dashboard.recent-limit=2")
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User student;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        student = saveUser("student");
+        other = saveUser("other");
+    }
+
+    @Test
+    void testDashboardHasCountsAndNewestSlices() {
+        Job first = saveJob(student, null, "First");
+        Job second = saveJob(student, null, "Second");
+        Job third = saveJob(student, null, "Third");
+        Job assigned = saveJob(other, student, "Assigned to student");
+        Job bidOn = saveJob(other, null, "Bid on");
+        saveBid(bidOn, student, "20.00");
+        saveBid(bidOn, other, "15.00");
+        saveTransaction(first, student, other, "10.00");
+        saveTransaction(assigned, other, student, "30.00");
+        saveTransaction(assigned, other, student, "5.00");
+
+        DashboardResponse dashboard = dashboardService.getDashboard(principal(student));
+
+        assertEquals(3, dashboard.getPostedJobs().getCount());
+        assertEquals(List.of(third.getId(), second.getId()),
+                dashboard.getPostedJobs().getRecent().stream().map(JobSummary::getId).toList());
+        assertEquals(1, dashboard.getAssignedJobs().getCount());
+        assertEquals("Assigned to student", dashboard.getAssignedJobs().getRecent().get(0).getTitle());
+        assertEquals(1, dashboard.getBids().getCount());
+        assertEquals("Bid on", dashboard.getBids().getRecent().get(0).getJobTitle());
+        assertEquals(1, dashboard.getPayments().getCount());
+        assertEquals(other.getId(), dashboard.getPayments().getRecent().get(0).getCounterpartyId());
+        assertEquals(2, dashboard.getEarnings().getCount());
+        assertEquals(new BigDecimal("5.00"), dashboard.getEarnings().getRecent().get(0).getAmount());
+    }
+
+    @Test
+    void testDashboardCountsArchivedRows() {
+        Job live = saveJob(student, null, "Live");
+        long archivedId = live.getId() + 1_000_000;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO jobs_archive (id, title, description, budget, status, poster_id, " +
+                "assignee_id, college_id, version, created_at, updated_at, archived_at) VALUES " +
+                "(?, 'Old job', 'Done', 80, 'COMPLETED', ?, ?, ?, 3, ?, ?, ?)",
+                archivedId, student.getId(), other.getId(), college.getId(), now, now, now);
+        jdbcTemplate.update("INSERT INTO bids_archive (id, job_id, college_id, bidder_id, amount, status, " +
+                "created_at, archived_at) VALUES (?, ?, ?, ?, 70, 'ACCEPTED', ?, ?)",
+                archivedId, archivedId, college.getId(), other.getId(), now, now);
+        jdbcTemplate.update("INSERT INTO transactions_archive (id, job_id, payer_id, payee_id, amount, status, " +
+                "transaction_type, created_at, archived_at) VALUES (?, ?, ?, ?, 70, 'COMPLETED', 'ESCROW', ?, ?)",
+                archivedId, archivedId, student.getId(), other.getId(), now, now);
+
+        DashboardResponse dashboard = dashboardService.getDashboard(principal(student));
+
+        assertEquals(2, dashboard.getPostedJobs().getCount());
+        assertEquals(List.of(live.getId()),
+                dashboard.getPostedJobs().getRecent().stream().map(JobSummary::getId).toList());
+        assertEquals(1, dashboard.getPayments().getCount());
+        assertEquals(0, dashboard.getEarnings().getCount());
+
+        DashboardResponse otherDashboard = dashboardService.getDashboard(principal(other));
+
+        assertEquals(1, otherDashboard.getAssignedJobs().getCount());
+        assertEquals(1, otherDashboard.getBids().getCount());
+        assertEquals(1, otherDashboard.getEarnings().getCount());
+        assertTrue(otherDashboard.getEarnings().getRecent().isEmpty());
+    }
+
+    @Test
+    void testDashboardIsCachedPerUser() {
+        DashboardResponse first = dashboardService.getDashboard(principal(student));
+        saveJob(student, null, "Posted after caching");
+
+        assertSame(first, dashboardService.getDashboard(principal(student)));
+        assertEquals(0, first.getPostedJobs().getCount());
+        assertNotSame(first, dashboardService.getDashboard(principal(other)));
+    }
+
+    private AuthenticatedUser principal(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getAlias(), college.getId());
+    }
+
+    private User saveUser(String alias) {
+        return userRepository.save(User.builder()
+                .email(alias + "@university.edu").passwordHash("hash").alias(alias).college(college).build());
+    }
+
+    private Job saveJob(User poster, User assignee, String title) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title(title)
+                .description("Description")
+                .budget(new BigDecimal("50.00"))
+                .status(assignee != null ? "ASSIGNED" : "OPEN")
+                .poster(poster)
+                .assignee(assignee)
+                .college(college)
+                .build());
+    }
+
+    private void saveBid(Job job, User bidder, String amount) {
+        bidRepository.saveAndFlush(Bid.builder().job(job).bidder(bidder)
+                .amount(Money.of(new BigDecimal(amount))).build());
+    }
+
+    private void saveTransaction(Job job, User payer, User payee, String amount) {
+        transactionRepository.saveAndFlush(Transaction.builder()
+                .job(job)
+                .payer(payer)
+                .payee(payee)
+                .amount(Money.of(new BigDecimal(amount)))
+                .status(Transaction.STATUS_PENDING)
+                .transactionType(Transaction.TYPE_ESCROW)
+                .build());
+    }
+}
@@ -0,0 +1,130 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "job.lifecycle.batch-size=2",
+    "job.lifecycle.pause-ms=0"
+})
+class JobLifecycleProcessorTest {
+
+    @Autowired
+    private JobLifecycleProcessor processor;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private College college;
+    private User poster;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+        bidder = userRepository.save(User.builder()
+                .email("bidder@university.edu").passwordHash("hash").alias("bidder").college(college).build());
+    }
+
+    @Test
+    void testExpiresOverdueJobsInChunks() {
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        Job overdue1 = saveJob(past);
+        Job overdue2 = saveJob(past);
+        Job overdue3 = saveJob(past);
+        Job current = saveJob(LocalDateTime.now().plusDays(1));
+        Job noDeadline = saveJob(null);
+        Bid pending = saveBid(overdue1);
+        Bid onCurrent = saveBid(current);
+        double chunksBefore = meterRegistry.counter("collegecrew.jobs.lifecycle.chunks").count();
+        long feedVersionBefore = feedVersion();
+
+        long expired = processor.expireOverdueJobs();
+
+        assertEquals(3, expired);
+        assertEquals("EXPIRED", status("jobs", overdue1.getId()));
+        assertEquals("EXPIRED", status("jobs", overdue2.getId()));
+        assertEquals("EXPIRED", status("jobs", overdue3.getId()));
+        assertEquals("OPEN", status("jobs", current.getId()));
+        assertEquals("OPEN", status("jobs", noDeadline.getId()));
+        assertEquals("REJECTED", status("bids", pending.getId()));
+        assertEquals("PENDING", status("bids", onCurrent.getId()));
+        assertEquals(1L, version(overdue1.getId()));
+        assertEquals(feedVersionBefore + 2, feedVersion(), "one feed bump per chunk");
+        assertEquals(chunksBefore + 2, meterRegistry.counter("collegecrew.jobs.lifecycle.chunks").count());
+    }
+
+    @Test
+    void testRerunIsNoOp() {
+        saveJob(LocalDateTime.now().minusHours(1));
+
+        assertEquals(1, processor.expireOverdueJobs());
+        assertEquals(0, processor.expireOverdueJobs());
+    }
+
+    private Job saveJob(LocalDateTime deadline) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal("25.00"))
+                .poster(poster)
+                .college(college)
+                .deadline(deadline)
+                .build());
+    }
+
+    private Bid saveBid(Job job) {
+        return bidRepository.saveAndFlush(Bid.builder().job(job).bidder(bidder).amount(Money.ofCents(2000)).build());
+    }
+
+    private String status(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM " + table + " WHERE id = ?", String.class, id);
+    }
+
+    private Long version(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM jobs WHERE id = ?", Long.class, jobId);
+    }
+
+    private long feedVersion() {
+        return jdbcTemplate.queryForObject("SELECT feed_version FROM colleges WHERE id = ?", Long.class, college.getId());
+    }
+}
@@ -0,0 +1,122 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dataset.ZipfSampler;
+import com.collegecrew.load.LatencyHistogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Duplicate-detection benchmark: indexes {@code duplicates.benchmark.jobs} synthetic
+ * open jobs (default one million) spread over Zipf-sized colleges, then times lookups
+ * of lightly edited reposts and of fresh jobs. Part of the {@code perf} profile:
+ * {@code mvn test -Pperf -Dtest=JobSimilarityIndexBenchmarkTest}.
+ */
+@Tag("perf")
+class JobSimilarityIndexBenchmarkTest {
+
+    private static final int VOCABULARY = 20_000;
+    private static final int WORDS_PER_JOB = 30;
+    private static final double THRESHOLD = 0.8;
+
+    private final int jobs = Integer.getInteger("duplicates.benchmark.jobs", 1_000_000);
+    private final int colleges = Integer.getInteger("duplicates.benchmark.colleges", 500);
+    private final int lookups = Integer.getInteger("duplicates.benchmark.lookups", 20_000);
+    private final long maxP99Micros = Long.getLong("duplicates.benchmark.maxP99Micros", 1_000);
+
+    @Test
+    void lookupAtOneMillionOpenJobs() {
+        Random random = new Random(42);
+        ZipfSampler collegeSampler = new ZipfSampler(colleges, 1.0);
+        String[] words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = Integer.toString(i * 7919 + 1000, 36);
+        }
+        ZipfSampler wordSampler = new ZipfSampler(VOCABULARY, 0.8);
+
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, jobs);
+        int[][] sampleWords = new int[lookups][];
+        long[] sampleColleges = new long[lookups];
+        long indexStart = System.nanoTime();
+        for (int job = 0; job < jobs; job++) {
+            int[] text = new int[WORDS_PER_JOB];
+            for (int w = 0; w < WORDS_PER_JOB; w++) {
+                text[w] = wordSampler.next(random);
+            }
+            long collegeId = collegeSampler.next(random) + 1;
+            index.add(job + 1, collegeId, random.nextInt(jobs / 10 + 1), index.signature(render(words, text)));
+            if (job % (jobs / lookups) == 0 && job / (jobs / lookups) < lookups) {
+                sampleWords[job / (jobs / lookups)] = text;
+                sampleColleges[job / (jobs / lookups)] = collegeId;
+            }
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+        Runtime runtime = Runtime.getRuntime();
+        runtime.gc();
+        long heapMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+
+        // Warm up, then time reposts (one word edited) and fresh jobs separately
+        for (int i = 0; i < Math.min(lookups, 5_000); i++) {
+            index.find(sampleColleges[i], index.signature(render(words, edited(sampleWords[i], random))), THRESHOLD);
+        }
+        LatencyHistogram repostLatency = new LatencyHistogram();
+        LatencyHistogram freshLatency = new LatencyHistogram();
+        int found = 0;
+        int falsePositives = 0;
+        for (int i = 0; i < lookups; i++) {
+            String repost = render(words, edited(sampleWords[i], random));
+            int[] fresh = new int[WORDS_PER_JOB];
+            for (int w = 0; w < WORDS_PER_JOB; w++) {
+                fresh[w] = wordSampler.next(random);
+            }
+            String freshText = render(words, fresh);
+
+            long start = System.nanoTime();
+            JobSimilarityIndex.Match match = index.find(sampleColleges[i], index.signature(repost), THRESHOLD);
+            repostLatency.recordNanos(System.nanoTime() - start);
+            if (match != null) {
+                found++;
+            }
+
+            start = System.nanoTime();
+            if (index.find(sampleColleges[i], index.signature(freshText), THRESHOLD) != null) {
+                falsePositives++;
+            }
+            freshLatency.recordNanos(System.nanoTime() - start);
+        }
+
+        double recall = (double) found / lookups;
+        double falsePositiveRate = (double) falsePositives / lookups;
+        System.out.printf("Indexed %,d jobs in %,d ms (%,.0f jobs/s), heap after GC %,d MB%n",
+                jobs, indexMillis, jobs * 1000.0 / Math.max(1, indexMillis), heapMb);
+        System.out.printf("Repost lookups: p50 %d us, p99 %d us, max %d us, recall %.4f%n",
+                repostLatency.percentileMicros(50), repostLatency.percentileMicros(99),
+                repostLatency.getMaxMicros(), recall);
+        System.out.printf("Fresh lookups:  p50 %d us, p99 %d us, max %d us, false positives %.4f%n",
+                freshLatency.percentileMicros(50), freshLatency.percentileMicros(99),
+                freshLatency.getMaxMicros(), falsePositiveRate);
+
+        assertEquals(jobs, index.size());
+        assertTrue(repostLatency.percentileMicros(99) <= maxP99Micros, "Repost lookup p99 above budget");
+        assertTrue(freshLatency.percentileMicros(99) <= maxP99Micros, "Fresh lookup p99 above budget");
+        assertTrue(recall >= 0.95, "Recall of one-word edits below 95%");
+        assertTrue(falsePositiveRate <= 0.001, "False positive rate above 0.1%");
+    }
+
+    private static int[] edited(int[] text, Random random) {
+        int[] copy = text.clone();
+        copy[random.nextInt(copy.length)] = VOCABULARY + random.nextInt(1_000_000);
+        return copy;
+    }
+
+    private static String render(String[] words, int[] text) {
+        StringBuilder builder = new StringBuilder(WORDS_PER_JOB * 5);
+        for (int word : text) {
+            builder.append(word < words.length ? words[word] : "w" + word).append(' ');
+        }
+        return builder.toString();
+    }
+}
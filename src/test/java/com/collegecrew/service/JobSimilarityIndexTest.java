@@ -0,0 +1,84 @@
+package com.collegecrew.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSimilarityIndexTest {
+
+    private static final String ORIGINAL = "Calculus tutoring for the midterm. Looking for someone who aced "
+            + "Calculus II to go over integration by parts, series and past exams twice a week";
+
+    @Test
+    void testFindsLightlyEditedText() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        index.add(1, 10, 100, index.signature(ORIGINAL));
+        index.add(2, 10, 101, index.signature("Moving a couch up three flights of stairs on Saturday"));
+
+        JobSimilarityIndex.Match match = index.find(10, index.signature(ORIGINAL.replace("twice", "three times")), 0.8);
+
+        assertNotNull(match);
+        assertEquals(1, match.jobId());
+        assertEquals(100, match.posterId());
+        assertTrue(match.similarity() >= 0.8 && match.similarity() < 1);
+    }
+
+    @Test
+    void testIgnoresCaseAndPunctuation() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        index.add(1, 10, 100, index.signature(ORIGINAL));
+
+        JobSimilarityIndex.Match match = index.find(10,
+                index.signature(ORIGINAL.toUpperCase().replace(".", "!!").replace(",", " -")), 0.8);
+
+        assertNotNull(match);
+        assertEquals(1.0, match.similarity());
+    }
+
+    @Test
+    void testUnrelatedTextAndOtherCollegesDoNotMatch() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        index.add(1, 10, 100, index.signature(ORIGINAL));
+
+        assertNull(index.find(10, index.signature("Dog walking every weekday evening around campus"), 0.8));
+        assertNull(index.find(11, index.signature(ORIGINAL), 0.8));
+    }
+
+    @Test
+    void testPrefersMostSimilarThenNewest() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        index.add(1, 10, 100, index.signature(ORIGINAL.replace("twice a week", "on Fridays")));
+        index.add(2, 10, 100, index.signature(ORIGINAL));
+        index.add(3, 10, 101, index.signature(ORIGINAL));
+
+        assertEquals(3, index.find(10, index.signature(ORIGINAL), 0.5).jobId());
+    }
+
+    @Test
+    void testRemovedEntriesAreSkipped() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        int slot = index.add(1, 10, 100, index.signature(ORIGINAL));
+        index.remove(slot);
+
+        assertNull(index.find(10, index.signature(ORIGINAL), 0.8));
+    }
+
+    @Test
+    void testGrowsPastExpectedSize() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+        for (int i = 0; i < 5_000; i++) {
+            index.add(i, i % 7, i, index.signature("Job number " + i + " for college " + (i % 7)));
+        }
+
+        assertEquals(5_000, index.size());
+        int i = 4_321;
+        assertEquals(i, index.find(i % 7, index.signature("Job number " + i + " for college " + (i % 7)), 0.9).jobId());
+    }
+
+    @Test
+    void testTextWithoutWordsHasNoSignature() {
+        JobSimilarityIndex index = new JobSimilarityIndex(12, 6, 16);
+
+        assertNull(index.signature(" .,!? "));
+    }
+}
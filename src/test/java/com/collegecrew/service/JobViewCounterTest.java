@@ -0,0 +1,156 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "views.batch-size=2",
+    "views.max-pending-jobs=1000"
+})
+class JobViewCounterTest {
+
+    @Autowired
+    private JobViewCounter jobViewCounter;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private College college;
+    private User poster;
+
+    @BeforeEach
+    void setUp() {
+        // Views counted by earlier tests of this context refer to rolled-back jobs
+        jobViewCounter.flush();
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+    }
+
+    @Test
+    void testFlushAddsCoalescedViewsInBatches() {
+        Job first = saveJob("First");
+        Job second = saveJob("Second");
+        Job third = saveJob("Third");
+        for (int i = 0; i < 3; i++) {
+            jobViewCounter.record(first.getId(), college.getId());
+        }
+        jobViewCounter.record(second.getId(), college.getId());
+        jobViewCounter.record(third.getId(), college.getId());
+        long batchesBefore = meterRegistry.summary("collegecrew.views.flush.batch").count();
+
+        assertEquals(5, jobViewCounter.flush());
+
+        assertEquals(3, views(first.getId()));
+        assertEquals(1, views(second.getId()));
+        assertEquals(1, views(third.getId()));
+        assertEquals(batchesBefore + 1, meterRegistry.summary("collegecrew.views.flush.batch").count());
+        assertTrue(meterRegistry.timer("collegecrew.views.flush.lag").count() > 0);
+        // Counts are added to the column, not written over it
+        jobViewCounter.record(first.getId(), college.getId());
+        assertEquals(1, jobViewCounter.flush());
+        assertEquals(4, views(first.getId()));
+        assertEquals(0, jobViewCounter.flush());
+    }
+
+    @Test
+    void testConcurrentViewsOfOneJobAreAllCounted() throws Exception {
+        Job hot = saveJob("Hot job");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    jobViewCounter.record(hot.getId(), college.getId());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, jobViewCounter.flush());
+        assertEquals(80_000, views(hot.getId()));
+    }
+
+    @Test
+    void testSavingALoadedJobKeepsFlushedViews() {
+        Job job = saveJob("Tutoring");
+        Job loaded = jobRepository.findById(job.getId()).orElseThrow();
+        jobViewCounter.record(job.getId(), college.getId());
+        jobViewCounter.flush();
+
+        loaded.setTitle("Tutoring, updated");
+        jobRepository.saveAndFlush(loaded);
+
+        assertEquals(1, views(job.getId()));
+    }
+
+    @Test
+    void testMostViewedFeed() {
+        Job quiet = saveJob("Quiet");
+        Job popular = saveJob("Popular");
+        Job newest = saveJob("Newest");
+        for (int i = 0; i < 5; i++) {
+            jobViewCounter.record(popular.getId(), college.getId());
+        }
+        jobViewCounter.record(quiet.getId(), college.getId());
+        jobViewCounter.flush();
+
+        List<Long> ids = jobService.getMostViewedFeed(college.getId(), 0, 10).stream()
+                .map(job -> job.getId()).toList();
+
+        assertEquals(List.of(popular.getId(), quiet.getId(), newest.getId()), ids);
+        assertEquals(5L, jobService.getJobViews(popular.getId(), college.getId()).orElseThrow());
+    }
+
+    private Job saveJob(String title) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title(title)
+                .description("Description")
+                .budget(new BigDecimal("20.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    private long views(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT views FROM jobs WHERE id = ?", Long.class, jobId);
+    }
+}
@@ -0,0 +1,160 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.CollegeStatsResponse;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.event.CollegeStatsDelta;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "stats.reconcile-settle-ms=0")
+class MarketplaceStatsServiceTest {
+
+    @Autowired
+    private MarketplaceStatsService statsService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+    }
+
+    @Test
+    void testCountersAndAverages() {
+        Long collegeId = college.getId();
+        statsService.apply(CollegeStatsDelta.jobPosted(collegeId, new BigDecimal("10.00")));
+        statsService.apply(CollegeStatsDelta.jobPosted(collegeId, new BigDecimal("30.00")));
+        statsService.apply(CollegeStatsDelta.bidPlaced(collegeId));
+        statsService.apply(CollegeStatsDelta.bidPlaced(collegeId));
+        statsService.apply(CollegeStatsDelta.bidPlaced(collegeId));
+        statsService.apply(CollegeStatsDelta.jobsClosed(collegeId, 1));
+        statsService.apply(CollegeStatsDelta.transactionCompleted(collegeId, new BigDecimal("25.50"), 1));
+
+        CollegeStatsResponse stats = statsService.getStats(collegeId);
+
+        assertEquals(1, stats.getOpenJobs());
+        assertEquals(2, stats.getJobs());
+        assertEquals(new BigDecimal("20.00"), stats.getAverageBudget());
+        assertEquals(3, stats.getBids());
+        assertEquals(1.5, stats.getAverageBidsPerJob());
+        assertEquals(1, stats.getCompletedTransactions());
+        assertEquals(new BigDecimal("25.50"), stats.getTransactionVolume());
+    }
+
+    @Test
+    void testCheckpointPersistsDeltasAndPicksUpOtherNodes() {
+        Long collegeId = college.getId();
+        statsService.apply(CollegeStatsDelta.jobPosted(collegeId, new BigDecimal("12.34")));
+        statsService.apply(CollegeStatsDelta.bidPlaced(collegeId));
+
+        assertTrue(statsService.checkpoint() >= 1);
+        assertEquals(1234L, jdbcTemplate.queryForObject(
+                "SELECT budget_cents FROM college_stats WHERE college_id = ?", Long.class, collegeId));
+
+        // Another node checkpoints two bids of its own
+        jdbcTemplate.update("UPDATE college_stats SET bids = bids + 2 WHERE college_id = ?", collegeId);
+        statsService.apply(CollegeStatsDelta.bidPlaced(collegeId));
+        statsService.checkpoint();
+
+        assertEquals(4, statsService.getStats(collegeId).getBids());
+        assertEquals(4L, jdbcTemplate.queryForObject(
+                "SELECT bids FROM college_stats WHERE college_id = ?", Long.class, collegeId));
+    }
+
+    @Test
+    void testReconcileRecomputesFromSourceTables() {
+        User poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+        User bidder = userRepository.save(User.builder()
+                .email("bidder@university.edu").passwordHash("hash").alias("bidder").college(college).build());
+        Job open = saveJob(poster, "OPEN", "40.00");
+        Job expired = saveJob(poster, "EXPIRED", "20.00");
+        bidRepository.save(Bid.builder().job(open).bidder(bidder).amount(Money.ofCents(3500)).build());
+        bidRepository.save(Bid.builder().job(expired).bidder(bidder).amount(Money.ofCents(1500)).build());
+        transactionRepository.saveAndFlush(Transaction.builder()
+                .job(expired).payer(poster).payee(bidder).amount(Money.ofCents(1500))
+                .status(Transaction.STATUS_COMPLETED).transactionType("PAYMENT").build());
+        // A lost delta: counters claim a job that does not exist
+        statsService.apply(CollegeStatsDelta.jobPosted(college.getId(), new BigDecimal("99.00")));
+
+        assertTrue(statsService.reconcile() >= 1);
+
+        CollegeStatsResponse stats = statsService.getStats(college.getId());
+        assertEquals(1, stats.getOpenJobs());
+        assertEquals(2, stats.getJobs());
+        assertEquals(new BigDecimal("30.00"), stats.getAverageBudget());
+        assertEquals(2, stats.getBids());
+        assertEquals(1, stats.getCompletedTransactions());
+        assertEquals(new BigDecimal("15.00"), stats.getTransactionVolume());
+        assertEquals(0, statsService.reconcile());
+    }
+
+    @Test
+    void testReconcileRunsOnOneNodeAtATime() {
+        // A lost delta to correct
+        statsService.apply(CollegeStatsDelta.bidPlaced(college.getId()));
+        jdbcTemplate.update("INSERT INTO scheduler_locks (name, locked_by, locked_until) VALUES (?, ?, ?)",
+                "stats-reconcile", "other-node", Timestamp.valueOf(LocalDateTime.now().plusMinutes(5)));
+
+        assertEquals(0, statsService.reconcile());
+        assertEquals(1, statsService.getStats(college.getId()).getBids());
+
+        // The other node's lease lapsed without a release
+        jdbcTemplate.update("UPDATE scheduler_locks SET locked_until = ? WHERE name = 'stats-reconcile'",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        assertTrue(statsService.reconcile() >= 1);
+        assertEquals(0, statsService.getStats(college.getId()).getBids());
+    }
+
+    private Job saveJob(User poster, String status, String budget) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal(budget))
+                .status(status)
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+}
@@ -0,0 +1,31 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.ReadinessResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A negative threshold makes the idle pool count as saturated, standing in for overload
+ */
+@SpringBootTest
+@TestPropertySource(properties = "health.max-pending-threads=-1")
+class ReadinessProbeTest {
+
+    @Autowired
+    private ReadinessProbe readinessProbe;
+
+    @Test
+    void testSaturatedPoolShedsTrafficWithoutQueryingTheDatabase() {
+        ReadinessResponse probe = readinessProbe.refresh();
+
+        assertFalse(probe.isReady());
+        assertTrue(probe.getReason().startsWith("Connection pool saturated"));
+        assertFalse(probe.isDatabaseUp());
+        assertFalse(readinessProbe.current().isReady());
+        assertFalse(readinessProbe.isReady());
+    }
+}
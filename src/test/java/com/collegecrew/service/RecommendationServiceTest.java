@@ -0,0 +1,161 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.RecommendedJobResponse;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.event.JobCreatedEvent;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "recommendation.top-k=2")
+class RecommendationServiceTest {
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User poster;
+    private User student;
+    private Job pastJob;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = saveUser("poster");
+        student = saveUser("student");
+
+        pastJob = saveJob("Calculus tutoring", "Weekly calculus tutoring sessions", "40.00");
+        bidRepository.save(Bid.builder().job(pastJob).bidder(student).amount(Money.ofCents(3500)).build());
+    }
+
+    @Test
+    void testRanksSimilarJobsFirst() {
+        Job furniture = saveJob("Furniture moving", "Carry a sofa up three floors", "200.00");
+        Job calculus = saveJob("Calculus exam prep", "Tutoring for the calculus final", "45.00");
+
+        recommendationService.refreshCollege(college.getId());
+
+        List<RecommendedJobResponse> recommendations =
+                recommendationService.getRecommendations(student.getId(), college.getId(), 10);
+        assertFalse(recommendations.isEmpty());
+        assertEquals(calculus.getId(), recommendations.get(0).getJobId());
+        assertTrue(recommendations.stream().noneMatch(r -> r.getJobId().equals(pastJob.getId())),
+                "jobs already bid on must not be recommended");
+        if (recommendations.size() > 1) {
+            assertEquals(furniture.getId(), recommendations.get(1).getJobId());
+            assertTrue(recommendations.get(0).getScore() > recommendations.get(1).getScore());
+        }
+    }
+
+    @Test
+    void testNewJobMergedIncrementally() {
+        recommendationService.refreshCollege(college.getId());
+
+        Job newJob = saveJob("Calculus homework help", "Need calculus tutoring tonight", "40.00");
+        recommendationService.onJobCreated(new JobCreatedEvent(newJob.getId(), college.getId(), poster.getId(),
+                newJob.getTitle(), newJob.getDescription(), newJob.getBudget()));
+
+        List<RecommendedJobResponse> recommendations =
+                recommendationService.getRecommendations(student.getId(), college.getId(), 10);
+        assertEquals(newJob.getId(), recommendations.get(0).getJobId());
+        assertTrue(recommendations.get(0).getScore() > 0);
+    }
+
+    @Test
+    void testNewJobEvictsFromTheStoredTopK() {
+        recommendationService.refreshCollege(college.getId());
+        // Another node merged two jobs since this node's refresh
+        Job strong = saveJob("Calculus review", "Calculus", "40.00");
+        Job weak = saveJob("Bike repair", "Flat tyre", "10.00");
+        insertRecommendation(strong, 0.99);
+        insertRecommendation(weak, 0.01);
+
+        Job newJob = saveJob("Calculus homework help", "Need calculus tutoring tonight", "40.00");
+        recommendationService.onJobCreated(new JobCreatedEvent(newJob.getId(), college.getId(), poster.getId(),
+                newJob.getTitle(), newJob.getDescription(), newJob.getBudget()));
+
+        List<Long> stored = jdbcTemplate.queryForList(
+                "SELECT job_id FROM job_recommendations WHERE user_id = ? ORDER BY score DESC", Long.class,
+                student.getId());
+        assertEquals(List.of(strong.getId(), newJob.getId()), stored);
+
+        // Scoring below every stored row leaves the table alone
+        Job unrelated = saveJob("Dog walking", "Walk a dog", "10.00");
+        recommendationService.onJobCreated(new JobCreatedEvent(unrelated.getId(), college.getId(), poster.getId(),
+                unrelated.getTitle(), unrelated.getDescription(), unrelated.getBudget()));
+        assertEquals(stored, jdbcTemplate.queryForList(
+                "SELECT job_id FROM job_recommendations WHERE user_id = ? ORDER BY score DESC", Long.class,
+                student.getId()));
+    }
+
+    @Test
+    void testColdStartFallsBackToFeed() {
+        Job job = saveJob("Essay proofreading", "Ten pages", "20.00");
+        User newcomer = saveUser("newcomer");
+
+        recommendationService.refreshCollege(college.getId());
+
+        List<RecommendedJobResponse> recommendations =
+                recommendationService.getRecommendations(newcomer.getId(), college.getId(), 10);
+        assertEquals(job.getId(), recommendations.get(0).getJobId());
+        assertEquals(0, recommendations.get(0).getScore());
+    }
+
+    private void insertRecommendation(Job job, double score) {
+        jdbcTemplate.update("INSERT INTO job_recommendations (user_id, job_id, score, computed_at) " +
+                "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", student.getId(), job.getId(), score);
+    }
+
+    private User saveUser(String alias) {
+        return userRepository.save(User.builder()
+                .email(alias + "@university.edu")
+                .passwordHash("hash")
+                .alias(alias)
+                .college(college)
+                .build());
+    }
+
+    private Job saveJob(String title, String description, String budget) {
+        return jobRepository.save(Job.builder()
+                .title(title)
+                .description(description)
+                .budget(new BigDecimal(budget))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+}
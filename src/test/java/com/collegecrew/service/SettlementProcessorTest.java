@@ -0,0 +1,135 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "settlement.batch-size=2")
+class SettlementProcessorTest {
+
+    @Autowired
+    private SettlementProcessor processor;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private College college;
+    private User poster;
+    private User worker;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = userRepository.save(User.builder()
+                .email("poster@university.edu").passwordHash("hash").alias("poster").college(college).build());
+        worker = userRepository.save(User.builder()
+                .email("worker@university.edu").passwordHash("hash").alias("worker").college(college).build());
+    }
+
+    @Test
+    void testSettlesEscrowOfCompletedJobsInBatches() {
+        Transaction first = saveEscrow(saveJob("COMPLETED"), "10.00", Transaction.TYPE_ESCROW);
+        Transaction second = saveEscrow(saveJob("COMPLETED"), "20.00", Transaction.TYPE_ESCROW);
+        Transaction third = saveEscrow(saveJob("COMPLETED"), "30.50", Transaction.TYPE_ESCROW);
+        Transaction inProgress = saveEscrow(saveJob("ASSIGNED"), "40.00", Transaction.TYPE_ESCROW);
+        Transaction payment = saveEscrow(saveJob("COMPLETED"), "50.00", "PAYMENT");
+
+        assertEquals(3, processor.settlePending());
+
+        assertEquals(new BigDecimal("60.50"), balance(worker));
+        assertEquals(Transaction.STATUS_COMPLETED, status(first));
+        assertEquals(Transaction.STATUS_COMPLETED, status(second));
+        assertEquals(Transaction.STATUS_COMPLETED, status(third));
+        assertEquals(Transaction.STATUS_PENDING, status(inProgress));
+        assertEquals(Transaction.STATUS_PENDING, status(payment));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ledger_entries WHERE idempotency_key = ?", Integer.class, "settle-" + first.getId()));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE event_type = 'TransactionStatusChanged'", Integer.class));
+    }
+
+    @Test
+    void testRerunDoesNotSettleTwice() {
+        saveEscrow(saveJob("COMPLETED"), "25.00", Transaction.TYPE_ESCROW);
+
+        assertEquals(1, processor.settlePending());
+        assertEquals(0, processor.settlePending());
+        assertEquals(new BigDecimal("25.00"), balance(worker));
+    }
+
+    @Test
+    void testIdempotencyKeyRejectsReplayedSettlement() {
+        Transaction escrow = saveEscrow(saveJob("COMPLETED"), "25.00", Transaction.TYPE_ESCROW);
+        // A settlement that was applied but whose status change was lost
+        jdbcTemplate.update("INSERT INTO ledger_entries (user_id, transaction_id, amount, entry_type, " +
+                "idempotency_key, created_at) VALUES (?, ?, 25.00, 'ESCROW_RELEASE', ?, CURRENT_TIMESTAMP)",
+                worker.getId(), escrow.getId(), "settle-" + escrow.getId());
+
+        assertThrows(DuplicateKeyException.class, () -> processor.settlePending());
+        assertEquals(0, balance(worker).compareTo(BigDecimal.ZERO));
+    }
+
+    private Job saveJob(String status) {
+        return jobRepository.saveAndFlush(Job.builder()
+                .title("Job")
+                .description("Description")
+                .budget(new BigDecimal("50.00"))
+                .status(status)
+                .poster(poster)
+                .assignee(worker)
+                .college(college)
+                .build());
+    }
+
+    private Transaction saveEscrow(Job job, String amount, String type) {
+        return transactionRepository.saveAndFlush(Transaction.builder()
+                .job(job)
+                .payer(poster)
+                .payee(worker)
+                .amount(Money.of(new BigDecimal(amount)))
+                .status(Transaction.STATUS_PENDING)
+                .transactionType(type)
+                .build());
+    }
+
+    private BigDecimal balance(User user) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM users WHERE id = ?", BigDecimal.class, user.getId());
+    }
+
+    private String status(Transaction transaction) {
+        return jdbcTemplate.queryForObject("SELECT status FROM transactions WHERE id = ?", String.class,
+                transaction.getId());
+    }
+}
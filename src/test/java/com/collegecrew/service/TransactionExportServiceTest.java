@@ -0,0 +1,140 @@
+package com.collegecrew.service;
+
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.Transaction;
+import com.collegecrew.entity.User;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.TransactionRepository;
+import com.collegecrew.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {"export.fetch-size=2", "export.flush-rows=2"})
+class TransactionExportServiceTest {
+
+    @Autowired
+    private TransactionExportService exportService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User poster;
+    private User worker;
+    private User stranger;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        College college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = saveUser("poster@university.edu", "poster", college);
+        worker = saveUser("worker@university.edu", "worker", college);
+        stranger = saveUser("stranger@university.edu", "stranger", college);
+        job = jobRepository.saveAndFlush(Job.builder()
+                .title("Move a couch")
+                .description("Third floor, no lift")
+                .budget(new BigDecimal("40.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    @Test
+    void testCsvExportCoversArchivedAndLiveRows() throws Exception {
+        jdbcTemplate.update("INSERT INTO transactions_archive (id, job_id, payer_id, payee_id, amount, status, " +
+                "transaction_type, created_at, settled_at, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                -1L, job.getId(), poster.getId(), worker.getId(), new BigDecimal("12.50"), "COMPLETED", "ESCROW",
+                Timestamp.valueOf(LocalDateTime.of(2026, 1, 5, 9, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2026, 1, 6, 9, 0)), Timestamp.valueOf(LocalDateTime.now()));
+        Transaction paid = saveTransaction(poster, worker, "30.00");
+        Transaction received = saveTransaction(worker, poster, "7.25");
+        saveTransaction(worker, stranger, "99.00");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(3, exportService.export(poster.getId(), TransactionExportService.Format.CSV, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("id,job_id,direction,counterparty_id,amount,status,type,created_at,settled_at,archived", lines[0]);
+        assertEquals("-1," + job.getId() + ",PAID," + worker.getId() + ",12.50,COMPLETED,ESCROW," +
+                "2026-01-05T09:00,2026-01-06T09:00,true", lines[1]);
+        assertTrue(lines[2].startsWith(paid.getId() + "," + job.getId() + ",PAID," + worker.getId() + ",30.00,PENDING,"));
+        assertTrue(lines[2].endsWith(",,false"));
+        assertTrue(lines[3].startsWith(received.getId() + "," + job.getId() + ",RECEIVED," + worker.getId() + ",7.25,"));
+    }
+
+    @Test
+    void testNdjsonExportWritesOneObjectPerLine() throws Exception {
+        Transaction received = saveTransaction(poster, worker, "30.00");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(1, exportService.export(worker.getId(), TransactionExportService.Format.NDJSON, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertEquals(received.getId(), row.get("id").asLong());
+        assertEquals("RECEIVED", row.get("direction").asText());
+        assertEquals(poster.getId(), row.get("counterpartyId").asLong());
+        assertTrue(lines[0].contains("\"amount\":30.00"));
+        assertTrue(row.get("settledAt").isNull());
+        assertFalse(row.get("archived").asBoolean());
+    }
+
+    @Test
+    void testExportOfUserWithoutTransactions() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, exportService.export(stranger.getId(), TransactionExportService.Format.NDJSON, out));
+        assertEquals(0, out.size());
+    }
+
+    private Transaction saveTransaction(User payer, User payee, String amount) {
+        return transactionRepository.saveAndFlush(Transaction.builder()
+                .job(job)
+                .payer(payer)
+                .payee(payee)
+                .amount(Money.of(new BigDecimal(amount)))
+                .status(Transaction.STATUS_PENDING)
+                .transactionType(Transaction.TYPE_ESCROW)
+                .build());
+    }
+
+    private User saveUser(String email, String alias, College college) {
+        return userRepository.save(User.builder()
+                .email(email).passwordHash("hash").alias(alias).college(college).build());
+    }
+}
@@ -0,0 +1,179 @@
+package com.collegecrew.service;
+
+import com.collegecrew.dto.TrendingJobResponse;
+import com.collegecrew.entity.Bid;
+import com.collegecrew.entity.College;
+import com.collegecrew.entity.Job;
+import com.collegecrew.entity.User;
+import com.collegecrew.event.BidPlacedEvent;
+import com.collegecrew.money.Money;
+import com.collegecrew.repository.BidRepository;
+import com.collegecrew.repository.CollegeRepository;
+import com.collegecrew.repository.JobRepository;
+import com.collegecrew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "trending.sub-window-ms=60000",
+    "trending.sub-windows=10",
+    "trending.top-k=3",
+    "trending.bid-weight=5",
+    "trending.view-weight=1",
+    "trending.replay-batch-size=2"
+})
+class TrendingJobServiceTest {
+
+    @Autowired
+    private TrendingJobService trendingJobService;
+
+    @Autowired
+    private CollegeRepository collegeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    private College college;
+    private User poster;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        college = collegeRepository.save(College.builder().name("university.edu").build());
+        poster = saveUser("poster@university.edu", "poster");
+        bidder = saveUser("bidder@university.edu", "bidder");
+    }
+
+    @Test
+    void testBidsOutweighViews() {
+        long now = System.currentTimeMillis();
+        trendingJobService.onBidPlaced(new BidPlacedEvent(1L, college.getId()));
+        for (int i = 0; i < 3; i++) {
+            trendingJobService.recordView(2L, college.getId());
+        }
+        trendingJobService.recordView(3L, college.getId());
+
+        assertTrue(trendingJobService.getTrending(college.getId(), 10).isEmpty());
+        trendingJobService.refresh(now);
+
+        assertEquals(List.of(new TrendingJobResponse(1L, 5), new TrendingJobResponse(2L, 3),
+                new TrendingJobResponse(3L, 1)), trendingJobService.getTrending(college.getId(), 10));
+        assertEquals(1, trendingJobService.getTrending(college.getId(), 1).size());
+        assertTrue(trendingJobService.getTrending(college.getId() + 1, 10).isEmpty());
+    }
+
+    @Test
+    void testConcurrentViewsAreFoldedInAtRefresh() throws Exception {
+        long now = System.currentTimeMillis();
+        Long collegeId = college.getId();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                viewers.add(pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        trendingJobService.recordView(7L, collegeId);
+                    }
+                }));
+            }
+            for (Future<?> viewer : viewers) {
+                viewer.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        trendingJobService.recordView(8L, collegeId);
+
+        trendingJobService.refresh(now);
+        assertEquals(List.of(new TrendingJobResponse(7L, 4000), new TrendingJobResponse(8L, 1)),
+                trendingJobService.getTrending(collegeId, 10));
+
+        trendingJobService.recordView(8L, collegeId);
+        trendingJobService.refresh(now);
+
+        assertEquals(List.of(new TrendingJobResponse(7L, 4000), new TrendingJobResponse(8L, 2)),
+                trendingJobService.getTrending(collegeId, 10));
+        trendingJobService.refresh(now + 11 * 60_000);
+        assertTrue(trendingJobService.getTrending(collegeId, 10).isEmpty());
+    }
+
+    @Test
+    void testActivityLeavesTheWindow() {
+        long now = System.currentTimeMillis();
+        trendingJobService.record(1L, college.getId(), 5, now - 9 * 60_000);
+        trendingJobService.record(2L, college.getId(), 1, now);
+        trendingJobService.refresh(now);
+        assertEquals(1L, trendingJobService.getTrending(college.getId(), 10).get(0).getJobId());
+
+        trendingJobService.refresh(now + 2 * 60_000);
+
+        assertEquals(List.of(new TrendingJobResponse(2L, 1)), trendingJobService.getTrending(college.getId(), 10));
+        trendingJobService.refresh(now + 11 * 60_000);
+        assertTrue(trendingJobService.getTrending(college.getId(), 10).isEmpty());
+    }
+
+    @Test
+    void testReplayRebuildsTheWindowFromRecentBids() {
+        Job quiet = saveJob("Quiet job");
+        Job busy = saveJob("Busy job");
+        Job stale = saveJob("Stale job");
+        for (int i = 0; i < 3; i++) {
+            saveBid(stale, LocalDateTime.now().minusHours(2));
+        }
+        saveBid(quiet, LocalDateTime.now().minusMinutes(5));
+        saveBid(busy, LocalDateTime.now().minusMinutes(3));
+        saveBid(busy, LocalDateTime.now());
+
+        trendingJobService.replay();
+
+        assertEquals(List.of(new TrendingJobResponse(busy.getId(), 10), new TrendingJobResponse(quiet.getId(), 5)),
+                trendingJobService.getTrending(college.getId(), 10));
+    }
+
+    private User saveUser(String email, String alias) {
+        return userRepository.save(User.builder()
+                .email(email).passwordHash("hash").alias(alias).college(college).build());
+    }
+
+    private Job saveJob(String title) {
+        return jobRepository.save(Job.builder()
+                .title(title)
+                .description("Description")
+                .budget(new BigDecimal("20.00"))
+                .poster(poster)
+                .college(college)
+                .build());
+    }
+
+    private void saveBid(Job job, LocalDateTime createdAt) {
+        bidRepository.saveAndFlush(Bid.builder()
+                .job(job)
+                .bidder(bidder)
+                .college(college)
+                .amount(Money.ofCents(1500))
+                .createdAt(createdAt)
+                .build());
+    }
+}
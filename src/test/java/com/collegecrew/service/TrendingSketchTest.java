@@ -0,0 +1,88 @@
+package com.collegecrew.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingSketchTest {
+
+    @Test
+    void testRanksHeavyHittersAmongManyJobs() {
+        TrendingSketch sketch = new TrendingSketch(12, 4, 512, 10);
+        Random random = new Random(42);
+        // Long tail of 20,000 jobs with one event each, interleaved with three hot jobs
+        for (int i = 0; i < 20_000; i++) {
+            sketch.add(1_000 + i, 0, 1);
+            if (i % 40 == 0) {
+                sketch.add(1, 0, 1);
+            }
+            if (i % 80 == 0) {
+                sketch.add(2, 0, 1);
+            }
+            if (i % 160 == 0) {
+                sketch.add(3, 0, 1);
+            }
+            sketch.add(1_000 + random.nextInt(20_000), 0, 1);
+        }
+
+        long[][] top = sketch.top();
+
+        assertEquals(1, top[0][0]);
+        assertEquals(2, top[1][0]);
+        assertEquals(3, top[2][0]);
+        assertTrue(sketch.estimate(1) >= 500);
+        // Overcount stays within e / width of the window's 40,875 events
+        assertTrue(sketch.estimate(1) <= 500 + 40_875 * Math.E / 512);
+    }
+
+    @Test
+    void testExpiredSubWindowsLeaveTheWindow() {
+        TrendingSketch sketch = new TrendingSketch(3, 4, 64, 10);
+        for (int i = 0; i < 10; i++) {
+            sketch.add(1, 0, 1);
+        }
+        sketch.add(2, 1, 4);
+        sketch.add(2, 2, 4);
+
+        assertEquals(1, sketch.top()[0][0]);
+        sketch.advance(3);
+
+        assertEquals(0, sketch.estimate(1));
+        assertEquals(8, sketch.estimate(2));
+        assertEquals(1, sketch.top().length);
+        assertEquals(2, sketch.top()[0][0]);
+        sketch.advance(5);
+        assertTrue(sketch.isEmpty());
+        assertEquals(0, sketch.top().length);
+    }
+
+    @Test
+    void testLateEventsLandInTheirOwnSubWindow() {
+        TrendingSketch sketch = new TrendingSketch(3, 4, 64, 10);
+        sketch.add(1, 10, 1);
+
+        assertTrue(sketch.add(2, 8, 5));
+        assertFalse(sketch.add(3, 7, 5));
+        assertEquals(0, sketch.estimate(3));
+        sketch.advance(11);
+
+        assertEquals(0, sketch.estimate(2));
+        assertEquals(1, sketch.estimate(1));
+    }
+
+    @Test
+    void testWeakestCandidateIsReplaced() {
+        TrendingSketch sketch = new TrendingSketch(1, 4, 1024, 2);
+        sketch.add(1, 0, 3);
+        sketch.add(2, 0, 1);
+        sketch.add(3, 0, 2);
+
+        long[][] top = sketch.top();
+
+        assertEquals(2, top.length);
+        assertArrayEquals(new long[]{1, 3}, top[0]);
+        assertArrayEquals(new long[]{3, 2}, top[1]);
+    }
+}